@@ -0,0 +1,33 @@
+package com.example.backend.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import com.example.backend.inventory.InMemoryInventoryStore;
+import com.example.backend.inventory.InventoryProperties;
+import com.example.backend.inventory.InventoryStore;
+import com.example.backend.inventory.MongoInventoryStore;
+import com.example.backend.inventory.RoomInventory;
+
+/**
+ * Per-night room counters used by bookings; {@code inventory.store} chooses Mongo or memory.
+ */
+@Configuration
+@EnableConfigurationProperties(InventoryProperties.class)
+public class InventoryConfig {
+
+    @Bean
+    public InventoryStore inventoryStore(InventoryProperties properties, MongoTemplate mongoTemplate) {
+        if ("memory".equalsIgnoreCase(properties.getStore())) {
+            return new InMemoryInventoryStore(properties::roomsFor);
+        }
+        return new MongoInventoryStore(mongoTemplate, properties::roomsFor);
+    }
+
+    @Bean
+    public RoomInventory roomInventory(InventoryStore inventoryStore) {
+        return new RoomInventory(inventoryStore);
+    }
+}
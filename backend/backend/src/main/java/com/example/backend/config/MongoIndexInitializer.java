@@ -0,0 +1,132 @@
+package com.example.backend.config;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Creates the indexes declared on {@code @Document} classes ({@code @Indexed}, {@code @CompoundIndex}).
+ *
+ * Spring Data's auto-index-creation builds them synchronously while the context starts and
+ * fails startup when Mongo is unreachable; this runs once the application is ready, on a
+ * background thread, so startup never waits on Mongo. Collections whose indexes could not be
+ * created are retried every {@code retry-interval} until they succeed. Code that relies on an
+ * index for correctness, such as a unique constraint, calls {@link #ensureIndexes(Class)} first.
+ * Creating an index that already exists is a no-op.
+ */
+@Component
+public class MongoIndexInitializer {
+
+    private static final Logger log = LoggerFactory.getLogger(MongoIndexInitializer.class);
+
+    // A failed synchronous attempt is not repeated sooner than this, so callers fail fast meanwhile
+    private static final long MIN_ATTEMPT_GAP_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private MongoMappingContext mappingContext;
+
+    @Value("${mongo.indexes.create-on-startup:true}")
+    private boolean enabled;
+
+    @Value("${mongo.indexes.retry-interval:30s}")
+    private Duration retryInterval;
+
+    // Types whose indexes are known to exist, and the last failed attempt of the others
+    private final Set<Class<?>> ensured = ConcurrentHashMap.newKeySet();
+    private final Map<Class<?>, Long> failedAt = new ConcurrentHashMap<>();
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "mongo-index-init");
+        t.setDaemon(true);
+        return t;
+    });
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!enabled) {
+            return;
+        }
+        scheduler.execute(this::ensureAllIndexes);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    void ensureAllIndexes() {
+        boolean complete = true;
+        for (MongoPersistentEntity<?> entity : mappingContext.getPersistentEntities()) {
+            if (entity.isAnnotationPresent(Document.class) && !create(entity)) {
+                complete = false;
+            }
+        }
+        if (!complete) {
+            log.error("Some Mongo indexes are missing, retrying in {}", retryInterval);
+            scheduler.schedule(this::ensureAllIndexes, retryInterval.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Make sure the declared indexes of {@code type} exist, creating them now if they are not
+     * known to yet
+     *
+     * @return false when they could not be created
+     */
+    public boolean ensureIndexes(Class<?> type) {
+        if (ensured.contains(type)) {
+            return true;
+        }
+        Long failed = failedAt.get(type);
+        if (failed != null && System.nanoTime() - failed < MIN_ATTEMPT_GAP_NANOS) {
+            return false;
+        }
+        return create(mappingContext.getRequiredPersistentEntity(type));
+    }
+
+    private boolean create(MongoPersistentEntity<?> entity) {
+        Class<?> type = entity.getType();
+        if (ensured.contains(type)) {
+            return true;
+        }
+        try {
+            IndexResolver resolver = new MongoPersistentEntityIndexResolver(mappingContext);
+            IndexOperations indexOps = mongoTemplate.indexOps(type);
+            resolver.resolveIndexFor(type).forEach(index -> {
+                String name = indexOps.ensureIndex(index);
+                log.info("Ensured index {} on {}", name, entity.getCollection());
+            });
+            ensured.add(type);
+            failedAt.remove(type);
+            return true;
+        } catch (Exception e) {
+            failedAt.put(type, System.nanoTime());
+            log.error("Could not create indexes for {}: {}", entity.getCollection(), e.getMessage());
+            return false;
+        }
+    }
+}
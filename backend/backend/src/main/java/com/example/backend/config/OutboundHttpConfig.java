@@ -0,0 +1,71 @@
+package com.example.backend.config;
+
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.client.RestTemplate;
+
+import com.example.backend.http.HostAwareRequestFactory;
+import com.example.backend.http.InstrumentedConnectionManager;
+import com.example.backend.http.OutboundHttpProperties;
+import com.example.backend.http.TotalDeadlineExecHandler;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * One pooled HTTP client for all outbound calls (MakCorps, Hugging Face).
+ *
+ * Built through RestTemplateBuilder so Actuator records {@code http.client.requests}
+ * per host; pool usage and deadlines are reported by the classes in the http package.
+ */
+@Configuration
+@EnableConfigurationProperties(OutboundHttpProperties.class)
+public class OutboundHttpConfig {
+
+    @Bean(destroyMethod = "close")
+    public InstrumentedConnectionManager outboundConnectionManager(OutboundHttpProperties properties, MeterRegistry meterRegistry) {
+        PoolingHttpClientConnectionManager pool = PoolingHttpClientConnectionManagerBuilder.create()
+            .setMaxConnTotal(properties.getMaxConnections())
+            .setMaxConnPerRoute(properties.getDefaults().getMaxConnections())
+            .setConnectionConfigResolver(route -> {
+                OutboundHttpProperties.HostSettings settings = properties.forHost(route.getTargetHost().getHostName());
+                return ConnectionConfig.custom()
+                    .setConnectTimeout(Timeout.of(settings.getConnectTimeout()))
+                    .setSocketTimeout(Timeout.of(settings.getReadTimeout()))
+                    .build();
+            })
+            .build();
+        return new InstrumentedConnectionManager(pool, properties, meterRegistry);
+    }
+
+    @Bean(destroyMethod = "close")
+    public TotalDeadlineExecHandler outboundDeadlineHandler(OutboundHttpProperties properties, MeterRegistry meterRegistry) {
+        return new TotalDeadlineExecHandler(properties, meterRegistry);
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient outboundHttpClient(InstrumentedConnectionManager outboundConnectionManager,
+                                                  TotalDeadlineExecHandler outboundDeadlineHandler,
+                                                  OutboundHttpProperties properties) {
+        return HttpClients.custom()
+            .setConnectionManager(outboundConnectionManager)
+            .addExecInterceptorFirst("total-deadline", outboundDeadlineHandler)
+            .evictExpiredConnections()
+            .evictIdleConnections(Timeout.of(properties.getKeepAlive()))
+            .build();
+    }
+
+    @Bean
+    public RestTemplate restTemplate(RestTemplateBuilder builder, CloseableHttpClient outboundHttpClient, OutboundHttpProperties properties) {
+        return builder
+            .requestFactory(() -> new HostAwareRequestFactory(outboundHttpClient, properties))
+            .build();
+    }
+}
@@ -1,12 +1,20 @@
 package com.example.backend.config;
 
 import java.util.Arrays;
+import java.util.regex.Pattern;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
+import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
@@ -16,6 +24,11 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 @EnableWebSecurity
 public class SecurityConfig {
 
+    private static final Logger log = LoggerFactory.getLogger(SecurityConfig.class);
+
+    // A password that names its encoding, such as {bcrypt}$2a$10$...
+    private static final Pattern ENCODED_PASSWORD = Pattern.compile("^\\{.+}.*$");
+
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http
@@ -24,14 +37,43 @@ public class SecurityConfig {
             .authorizeHttpRequests(auth -> auth
                 // Allow preflight OPTIONS from any origin
                 .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
+                // Operations over whole collections are for the admin user only
+                .requestMatchers(HttpMethod.POST,
+                    "/api/hotels/ratings/rebuild", "/api/hotels/reviews/bulk", "/api/bookings/reports/rebuild").hasRole("ADMIN")
+                .requestMatchers(HttpMethod.GET, "/api/bookings/all").hasRole("ADMIN")
+                .requestMatchers("/api/admin/**").hasRole("ADMIN")
                 // Allow API calls from frontend / other clients
                 .requestMatchers("/api/**").permitAll()
+                // Health checks and Prometheus scrapes; keep other actuator endpoints behind auth
+                .requestMatchers("/actuator/health", "/actuator/prometheus").permitAll()
                 .anyRequest().authenticated()
-            );
+            )
+            // The admin user (spring.security.user.*) signs in with HTTP Basic
+            .httpBasic(Customizer.withDefaults());
 
         return http.build();
     }
 
+    /**
+     * The admin user from spring.security.user.*. Declared here because Boot backs off its own
+     * in-memory user while OAuth2 client support is on the classpath.
+     */
+    @Bean
+    public UserDetailsService adminUserDetailsService(SecurityProperties properties) {
+        SecurityProperties.User admin = properties.getUser();
+        String password = admin.getPassword();
+        if (admin.isPasswordGenerated()) {
+            log.warn("No admin password configured (ADMIN_PASSWORD); using generated password {}", password);
+        }
+        if (!ENCODED_PASSWORD.matcher(password).matches()) {
+            password = "{noop}" + password;
+        }
+        return new InMemoryUserDetailsManager(User.withUsername(admin.getName())
+            .password(password)
+            .roles(admin.getRoles().toArray(new String[0]))
+            .build());
+    }
+
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
         CorsConfiguration configuration = new CorsConfiguration();
@@ -39,6 +81,8 @@ public class SecurityConfig {
         configuration.setAllowedOrigins(Arrays.asList("http://localhost:3000"));
         configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS"));
         configuration.setAllowedHeaders(Arrays.asList("*"));
+        // Let the browser read the keyset cursor of paged review listings
+        configuration.setExposedHeaders(Arrays.asList("X-Next-Cursor"));
         configuration.setAllowCredentials(true); // Set true only if you need cookies/credentials
         configuration.setMaxAge(3600L);          // Cache preflight requests
 
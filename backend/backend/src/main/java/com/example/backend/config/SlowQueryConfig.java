@@ -0,0 +1,41 @@
+package com.example.backend.config;
+
+import org.bson.BsonDocument;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.example.backend.mongo.SlowQueryProfiler;
+import com.example.backend.mongo.SlowQueryProperties;
+import com.mongodb.client.MongoClient;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Hooks the slow query profiler into the auto-configured Mongo client.
+ *
+ * Explains go through the same client, looked up on first use since the client is built
+ * with the profiler as one of its listeners.
+ */
+@Configuration
+@EnableConfigurationProperties(SlowQueryProperties.class)
+@ConditionalOnProperty(prefix = "mongo.slow-query", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SlowQueryConfig {
+
+    @Bean(destroyMethod = "close")
+    public SlowQueryProfiler slowQueryProfiler(SlowQueryProperties properties, ObjectProvider<MongoClient> mongoClient,
+                                               MeterRegistry meterRegistry) {
+        return new SlowQueryProfiler(properties.getThreshold(), properties.getExplainInterval(),
+            properties.getMaxExaminedRatio(), properties.getMaxShapes(),
+            (database, command) -> mongoClient.getObject().getDatabase(database).runCommand(command, BsonDocument.class),
+            meterRegistry);
+    }
+
+    @Bean
+    public MongoClientSettingsBuilderCustomizer slowQueryListener(SlowQueryProfiler slowQueryProfiler) {
+        return settings -> settings.addCommandListener(slowQueryProfiler);
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.backend.controller;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
@@ -14,6 +15,7 @@ import com.example.backend.dto.LoginRequest;
 import com.example.backend.dto.SignupRequest;
 import com.example.backend.model.User;
 import com.example.backend.service.AuthService;
+import com.example.backend.service.PasswordHasher;
 
 @RestController
 @RequestMapping("/api/auth")
@@ -34,6 +36,12 @@ public class AuthController {
                 user.getName()
             );
             return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        } catch (PasswordHasher.OverloadedException e) {
+            return tooManyRequests(e);
+        } catch (AuthService.SignupUnavailableException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "30")
+                .body(new ErrorResponse(e.getMessage()));
         } catch (RuntimeException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                 .body(new ErrorResponse(e.getMessage()));
@@ -51,12 +59,20 @@ public class AuthController {
                 user.getName()
             );
             return ResponseEntity.ok(response);
+        } catch (PasswordHasher.OverloadedException e) {
+            return tooManyRequests(e);
         } catch (RuntimeException e) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                 .body(new ErrorResponse(e.getMessage()));
         }
     }
     
+    private ResponseEntity<?> tooManyRequests(PasswordHasher.OverloadedException e) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+            .header(HttpHeaders.RETRY_AFTER, "1")
+            .body(new ErrorResponse(e.getMessage()));
+    }
+    
     // Inner class for error responses
     private static class ErrorResponse {
         private String error;
@@ -1,9 +1,12 @@
 package com.example.backend.controller;
 
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
@@ -13,20 +16,41 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.example.backend.inventory.RoomInventory;
 import com.example.backend.model.Booking;
+import com.example.backend.service.BookingExportWriter;
 import com.example.backend.service.BookingService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PostConstruct;
 
 @RestController
 @RequestMapping("/api/bookings")
 @CrossOrigin(origins = "http://localhost:3000")
 public class BookingController {
     
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    
     @Autowired
     private BookingService bookingService;
     
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    private BookingExportWriter exportWriter;
+    
+    @PostConstruct
+    void init() {
+        exportWriter = new BookingExportWriter(objectMapper);
+    }
+    
     // Create a new booking
     @PostMapping
     public ResponseEntity<?> createBooking(@RequestBody Booking booking) {
@@ -37,6 +61,18 @@ public class BookingController {
             response.put("message", "Booking created successfully");
             response.put("booking", savedBooking);
             return ResponseEntity.ok(response);
+        } catch (RoomInventory.SoldOutException e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", false);
+            response.put("message", e.getMessage());
+            return ResponseEntity.status(409).body(response);
+        } catch (BookingService.OutcomeUnknownException e) {
+            // The client can look the booking up by id once the database answers again
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", false);
+            response.put("message", e.getMessage());
+            response.put("bookingId", e.getBookingId());
+            return ResponseEntity.status(503).body(response);
         } catch (Exception e) {
             Map<String, Object> response = new HashMap<>();
             response.put("success", false);
@@ -45,11 +81,29 @@ public class BookingController {
         }
     }
     
-    // Get user's bookings
+    /**
+     * A user's bookings. With {@code limit}, {@code cursor} or {@code status} one page of
+     * summaries is returned, newest first; without them every full booking as before.
+     */
     @GetMapping("/user/{email}")
-    public ResponseEntity<List<Booking>> getUserBookings(@PathVariable String email) {
-        List<Booking> bookings = bookingService.getUserBookings(email);
-        return ResponseEntity.ok(bookings);
+    public ResponseEntity<?> getUserBookings(
+            @PathVariable String email,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) String status) {
+        if (limit == null && cursor == null && status == null) {
+            List<Booking> bookings = bookingService.getUserBookings(email);
+            return ResponseEntity.ok(bookings);
+        }
+        int size = limit == null ? DEFAULT_PAGE_SIZE : limit;
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            return ResponseEntity.badRequest().body(Map.of("error", "limit must be between 1 and " + MAX_PAGE_SIZE));
+        }
+        try {
+            return ResponseEntity.ok(bookingService.getUserBookingPage(email, status, size, cursor));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
     }
     
     // Get booking by ID
@@ -87,10 +141,71 @@ public class BookingController {
         }
     }
     
-    // Get all bookings (admin)
+    // Complete booking
+    @PutMapping("/{id}/complete")
+    public ResponseEntity<?> completeBooking(@PathVariable String id) {
+        try {
+            Booking completedBooking = bookingService.completeBooking(id);
+            
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("message", "Booking completed successfully");
+            response.put("booking", completedBooking);
+            return ResponseEntity.ok(response);
+        } catch (RuntimeException e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", false);
+            response.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(response);
+        }
+    }
+    
+    /**
+     * Export bookings (admin), streamed from a Mongo cursor in _id order so memory stays flat.
+     * A JSON array by default, NDJSON or CSV with {@code format} or the Accept header.
+     * Filters: {@code from}/{@code to} booking dates (inclusive, yyyy-MM-dd) and {@code status};
+     * {@code after} resumes an interrupted export after the last booking id received.
+     */
     @GetMapping("/all")
-    public ResponseEntity<List<Booking>> getAllBookings() {
-        List<Booking> bookings = bookingService.getAllBookings();
-        return ResponseEntity.ok(bookings);
+    public ResponseEntity<?> getAllBookings(
+            @RequestParam(required = false) String format,
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String after,
+            @RequestHeader(value = "Accept", required = false) String accept) {
+        BookingExportWriter.Format exportFormat;
+        Stream<Booking> bookings;
+        try {
+            exportFormat = BookingExportWriter.Format.resolve(format, accept);
+            // Opened here so a bad filter or failing query gets an error status instead of a truncated 200
+            bookings = bookingService.streamBookings(parseDate(from, "from"), parseDate(to, "to"), status, after);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(500).body(Map.of("error", "Failed to read bookings: " + e.getMessage()));
+        }
+        
+        StreamingResponseBody body = out -> {
+            try (Stream<Booking> rows = bookings) {
+                exportWriter.write(rows.iterator(), exportFormat, out);
+            }
+        };
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().contentType(exportFormat.getMediaType());
+        if (exportFormat == BookingExportWriter.Format.CSV) {
+            response.header("Content-Disposition", "attachment; filename=\"bookings.csv\"");
+        }
+        return response.body(body);
+    }
+    
+    private static LocalDate parseDate(String value, String name) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException(name + " must be a date like 2025-01-31");
+        }
     }
 }
@@ -0,0 +1,67 @@
+package com.example.backend.controller;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.backend.service.BookingRollupService;
+
+@RestController
+@RequestMapping("/api/bookings/reports")
+@CrossOrigin(origins = "http://localhost:3000")
+public class BookingReportController {
+
+    @Autowired
+    private BookingRollupService bookingRollupService;
+
+    /**
+     * Bookings, cancellations, revenue and room-nights per day from the daily rollups,
+     * e.g. {@code ?from=2025-01-01&to=2025-01-31&hotelId=7}; all hotels without {@code hotelId}
+     */
+    @GetMapping("/daily")
+    public ResponseEntity<?> daily(
+            @RequestParam String from,
+            @RequestParam String to,
+            @RequestParam(required = false) String hotelId) {
+        LocalDate fromDay;
+        LocalDate toDay;
+        try {
+            fromDay = LocalDate.parse(from);
+            toDay = LocalDate.parse(to);
+        } catch (DateTimeParseException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", "from and to must be dates like 2025-01-31"));
+        }
+        long days = ChronoUnit.DAYS.between(fromDay, toDay) + 1;
+        if (days < 1 || days > BookingRollupService.MAX_REPORT_DAYS) {
+            return ResponseEntity.badRequest().body(Map.of("error",
+                "to must not be before from, and the range can cover at most " + BookingRollupService.MAX_REPORT_DAYS + " days"));
+        }
+        try {
+            return ResponseEntity.ok(bookingRollupService.report(hotelId, fromDay, toDay));
+        } catch (Exception e) {
+            return ResponseEntity.status(500).body(Map.of("error", "Failed to build booking report: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Backfill or repair every rollup from the bookings collection
+     */
+    @PostMapping("/rebuild")
+    public ResponseEntity<?> rebuild() {
+        try {
+            return ResponseEntity.ok(bookingRollupService.rebuild());
+        } catch (Exception e) {
+            return ResponseEntity.status(500).body(Map.of("error", "Failed to rebuild booking rollups: " + e.getMessage()));
+        }
+    }
+}
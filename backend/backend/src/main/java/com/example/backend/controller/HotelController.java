@@ -1,6 +1,7 @@
 package com.example.backend.controller;
 
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
@@ -33,6 +34,11 @@ public class HotelController {
         }
     }
     
+    @GetMapping("/search/stats")
+    public ResponseEntity<Map<String, Object>> searchCacheStats() {
+        return ResponseEntity.ok(hotelApiService.getSearchCacheStats());
+    }
+    
     static class ErrorResponse {
         private String error;
         
@@ -1,17 +1,17 @@
 package com.example.backend.controller;
 
+import java.io.IOException;
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.net.Socket;
+import java.net.URI;
 import java.net.UnknownHostException;
 import java.util.HashMap;
 import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -19,12 +19,15 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.client.RestClientException;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.example.backend.service.HuggingFaceService;
+import com.example.backend.service.InferenceStreamer;
 
 @RestController
 @RequestMapping("/api/hf")
@@ -32,56 +35,29 @@ public class HuggingFaceProxyController {
 
     private static final Logger log = LoggerFactory.getLogger(HuggingFaceProxyController.class);
 
-    @Value("${huggingface.api.token:}")
-    private String hfToken;
+    static final String CACHE_HEADER = "X-Cache";
 
-    @Value("${huggingface.model:mistralai/Mistral-7B-Instruct-v0.3}")
-    private String huggingfaceModel;
-
-    private final RestTemplate restTemplate = new RestTemplate();
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    @Autowired
+    private HuggingFaceService huggingFaceService;
 
+    /**
+     * Forward to a model. The response is relayed unparsed as it arrives when the client asks
+     * for a stream ({@code ?stream=true}, {@code Accept: text/event-stream} or
+     * {@code "stream": true} in the body); otherwise it is returned as one JSON document.
+     */
     @PostMapping("/{owner}/{model}")
-    public ResponseEntity<?> proxy(@PathVariable String owner, @PathVariable String model, @RequestBody Map<String, Object> body) {
-        if (hfToken == null || hfToken.isBlank()) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(Map.of("error", "Hugging Face token not configured"));
-        }
-
-        // Use the Hugging Face Router endpoint (router.huggingface.co) — api-inference.huggingface.co is deprecated
-        String url = String.format("https://router.huggingface.co/models/%s/%s", owner, model);
-
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        headers.setBearerAuth(hfToken);
-
-        HttpEntity<Map<String, Object>> request = new HttpEntity<>(body, headers);
-
-        try {
-            log.info("Forwarding request to Hugging Face model: {}", url);
-            ResponseEntity<String> response = restTemplate.postForEntity(url, request, String.class);
-            int statusCode = response.getStatusCodeValue();
-            String respBody = response.getBody();
-            log.debug("Hugging Face response status: {} body: {}", statusCode, respBody);
-
-            if (respBody == null || respBody.isBlank()) {
-                return ResponseEntity.status(statusCode).contentType(MediaType.APPLICATION_JSON).body(Map.of());
-            }
-            try {
-                Object json = objectMapper.readValue(respBody, Object.class);
-                return ResponseEntity.status(statusCode).contentType(MediaType.APPLICATION_JSON).body(json);
-            } catch (Exception parseEx) {
-                log.warn("Failed to parse Hugging Face response as JSON, returning raw text", parseEx);
-                return ResponseEntity.status(statusCode).contentType(MediaType.APPLICATION_JSON).body(Map.of("raw", respBody));
-            }
-        } catch (RestClientException ex) {
-            log.error("Error contacting Hugging Face API", ex);
-            return ResponseEntity.status(HttpStatus.BAD_GATEWAY).body(Map.of("error", "failed to contact Hugging Face API", "   details", ex.getMessage()));
-        }
+    public ResponseEntity<?> proxy(
+            @PathVariable String owner,
+            @PathVariable String model,
+            @RequestBody Map<String, Object> body,
+            @RequestParam(defaultValue = "false") boolean stream,
+            @RequestHeader(value = "Accept", required = false) String accept) {
+        return forward(owner + "/" + model, body, wantsStream(stream, accept, body));
     }
 
     @GetMapping("/diag")
     public ResponseEntity<?> diag() {
-        String host = "router.huggingface.co";
+        String host = URI.create(huggingFaceService.getBaseUrl()).getHost();
         HashMap<String, Object> result = new HashMap<>();
         try {
             InetAddress addr = InetAddress.getByName(host);
@@ -105,41 +81,68 @@ public class HuggingFaceProxyController {
     }
 
     @PostMapping("/default")
-    public ResponseEntity<?> proxyDefault(@RequestBody Map<String, Object> body) {
-        if (hfToken == null || hfToken.isBlank()) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(Map.of("error", "Hugging Face token not configured"));
-        }
-
-        // huggingfaceModel expected in the form owner/model
-        String modelPath = huggingfaceModel;
-        String url = String.format("https://router.huggingface.co/models/%s", modelPath);
-
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        headers.setBearerAuth(hfToken);
+    public ResponseEntity<?> proxyDefault(
+            @RequestBody Map<String, Object> body,
+            @RequestParam(defaultValue = "false") boolean stream,
+            @RequestHeader(value = "Accept", required = false) String accept) {
+        // huggingface.model expected in the form owner/model
+        return forward(huggingFaceService.getDefaultModel(), body, wantsStream(stream, accept, body));
+    }
 
-        HttpEntity<Map<String, Object>> request = new HttpEntity<>(body, headers);
+    private static boolean wantsStream(boolean stream, String accept, Map<String, Object> body) {
+        return stream
+            || (accept != null && accept.contains(MediaType.TEXT_EVENT_STREAM_VALUE))
+            || Boolean.TRUE.equals(body.get("stream"));
+    }
 
+    private ResponseEntity<?> forward(String modelPath, Map<String, Object> body, boolean stream) {
+        if (!huggingFaceService.isConfigured()) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(Map.of("error", "Hugging Face token not configured"));
+        }
+        if (stream) {
+            return relay(modelPath, body);
+        }
         try {
-            log.info("Forwarding request to Hugging Face default model: {}", modelPath);
-            ResponseEntity<String> response = restTemplate.postForEntity(url, request, String.class);
-            int statusCode = response.getStatusCodeValue();
-            String respBody = response.getBody();
-            log.debug("Hugging Face response status: {} body: {}", statusCode, respBody);
+            HuggingFaceService.InferenceResult result = huggingFaceService.infer(modelPath, body);
+            return ResponseEntity.status(result.status())
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(CACHE_HEADER, result.cached() ? "HIT" : "MISS")
+                .body(result.body());
+        } catch (RestClientException ex) {
+            log.error("Error contacting Hugging Face API", ex);
+            return ResponseEntity.status(HttpStatus.BAD_GATEWAY).body(Map.of("error", "failed to contact Hugging Face API", "details", ex.getMessage()));
+        }
+    }
 
-            if (respBody == null || respBody.isBlank()) {
-                return ResponseEntity.status(statusCode).contentType(MediaType.APPLICATION_JSON).body(Map.of());
-            }
+    /**
+     * Status and content type come from upstream before any byte is written, so upstream
+     * errors reach the client unchanged; the body is copied on the async request thread.
+     */
+    private ResponseEntity<?> relay(String modelPath, Map<String, Object> body) {
+        InferenceStreamer.Upstream upstream;
+        int status;
+        try {
+            upstream = huggingFaceService.openStream(modelPath, body);
             try {
-                Object json = objectMapper.readValue(respBody, Object.class);
-                return ResponseEntity.status(statusCode).contentType(MediaType.APPLICATION_JSON).body(json);
-            } catch (Exception parseEx) {
-                log.warn("Failed to parse Hugging Face response as JSON, returning raw text", parseEx);
-                return ResponseEntity.status(statusCode).contentType(MediaType.APPLICATION_JSON).body(Map.of("raw", respBody));
+                status = upstream.status();
+            } catch (IOException ex) {
+                upstream.close();
+                throw ex;
             }
-        } catch (RestClientException ex) {
+        } catch (IOException | RestClientException ex) {
             log.error("Error contacting Hugging Face API", ex);
-            return ResponseEntity.status(HttpStatus.BAD_GATEWAY).body(Map.of("error", "failed to contact Hugging Face API", "details", ex.getMessage()));
+            return ResponseEntity.status(HttpStatus.BAD_GATEWAY).body(Map.of("error", "failed to contact Hugging Face API", "details", String.valueOf(ex.getMessage())));
         }
+        StreamingResponseBody responseBody = out -> {
+            try (upstream) {
+                upstream.transferTo(out);
+            }
+        };
+        return ResponseEntity.status(status)
+            .contentType(upstream.contentType())
+            .header("Cache-Control", "no-cache")
+            // Keeps reverse proxies such as nginx from buffering the token stream
+            .header("X-Accel-Buffering", "no")
+            .body(responseBody);
     }
 }
@@ -1,31 +1,157 @@
 package com.example.backend.controller;
 
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.example.backend.service.HotelSearchIndex;
+import com.example.backend.util.ReadQueries;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 
 @RestController
 @RequestMapping("/api/hotels")
 @CrossOrigin(origins = "http://localhost:3000")
 public class LocalHotelController {
 
+    private static final String HOTELS = "hotels";
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final int CURSOR_BATCH_SIZE = 500;
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
     @Autowired
     private MongoTemplate mongoTemplate;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private HotelSearchIndex hotelSearchIndex;
+
+    /**
+     * With {@code limit} or {@code cursor}: one keyset page ordered by _id.
+     * Without them: every hotel, written straight from the Mongo cursor as a JSON array,
+     * or as NDJSON when {@code format=ndjson} or {@code Accept: application/x-ndjson}.
+     */
     @GetMapping
-    public ResponseEntity<?> getAllSeededHotels() {
+    public ResponseEntity<?> getAllSeededHotels(
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) String format,
+            @RequestHeader(value = "Accept", required = false) String accept) {
+        if (limit != null || cursor != null) {
+            return getHotelPage(limit, cursor);
+        }
+        boolean ndjson = "ndjson".equalsIgnoreCase(format) || (accept != null && accept.contains(NDJSON.toString()));
+        return streamHotels(ndjson);
+    }
+
+    /**
+     * Filtered, sorted page of seeded hotels with facet counts, served from {@link HotelSearchIndex}.
+     * List parameters take repeated or comma-separated values.
+     */
+    @GetMapping("/filter")
+    public ResponseEntity<?> filterHotels(
+            @RequestParam(required = false) List<String> city,
+            @RequestParam(required = false) List<String> country,
+            @RequestParam(required = false) List<Integer> stars,
+            @RequestParam(required = false) List<String> amenities,
+            @RequestParam(required = false) Double minPrice,
+            @RequestParam(required = false) Double maxPrice,
+            @RequestParam(required = false) String sort,
+            @RequestParam(defaultValue = "0") int offset,
+            @RequestParam(defaultValue = "20") int limit) {
+        if (offset < 0 || limit < 1 || limit > MAX_PAGE_SIZE) {
+            return ResponseEntity.badRequest().body(Map.of("error", "offset must be >= 0 and limit between 1 and " + MAX_PAGE_SIZE));
+        }
+        HotelSearchIndex.Filter filter;
+        try {
+            filter = new HotelSearchIndex.Filter()
+                .cities(city)
+                .countries(country)
+                .stars(stars)
+                .amenities(amenities)
+                .price(minPrice, maxPrice)
+                .sort(HotelSearchIndex.Sort.parse(sort))
+                .page(offset, limit);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+        try {
+            return ResponseEntity.ok(hotelSearchIndex.search(filter));
+        } catch (Exception e) {
+            return ResponseEntity.status(500).body(Map.of("error", "failed to read hotels from DB", "details", e.getMessage()));
+        }
+    }
+
+    private ResponseEntity<?> getHotelPage(Integer limit, String cursor) {
+        int size = limit == null ? DEFAULT_PAGE_SIZE : limit;
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            return ResponseEntity.badRequest().body(Map.of("error", "limit must be between 1 and " + MAX_PAGE_SIZE));
+        }
+        Query query;
+        try {
+            query = ReadQueries.hotelPage(size, cursor);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
         try {
-            List<Map> hotels = mongoTemplate.findAll(Map.class, "hotels");
-            return ResponseEntity.ok(hotels);
+            List<Map> hotels = mongoTemplate.find(query, Map.class, HOTELS);
+            return ResponseEntity.ok(ReadQueries.page(hotels, size, hotel -> ReadQueries.hotelCursor(hotel.get("_id"))));
         } catch (Exception e) {
             return ResponseEntity.status(500).body(Map.of("error", "failed to read hotels from DB", "details", e.getMessage()));
         }
     }
+
+    private ResponseEntity<?> streamHotels(boolean ndjson) {
+        Query query = new Query();
+        query.cursorBatchSize(CURSOR_BATCH_SIZE);
+        Stream<Map> hotels;
+        try {
+            // Opened here so a failing query still gets a 500 instead of a truncated 200
+            hotels = mongoTemplate.stream(query, Map.class, HOTELS);
+        } catch (Exception e) {
+            return ResponseEntity.status(500).body(Map.of("error", "failed to read hotels from DB", "details", e.getMessage()));
+        }
+
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        StreamingResponseBody body = out -> {
+            try (Stream<Map> docs = hotels; JsonGenerator gen = objectMapper.getFactory().createGenerator(out)) {
+                gen.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                if (ndjson) {
+                    gen.setRootValueSeparator(null);
+                } else {
+                    gen.writeStartArray();
+                }
+                Iterator<Map> it = docs.iterator();
+                while (it.hasNext()) {
+                    writer.writeValue(gen, it.next());
+                    if (ndjson) {
+                        gen.writeRaw('\n');
+                    }
+                }
+                if (!ndjson) {
+                    gen.writeEndArray();
+                }
+            }
+        };
+        return ResponseEntity.ok().contentType(ndjson ? NDJSON : MediaType.APPLICATION_JSON).body(body);
+    }
 }
@@ -0,0 +1,53 @@
+package com.example.backend.controller;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.backend.service.RatingSummaryService;
+
+@RestController
+@RequestMapping("/api/hotels/ratings")
+@CrossOrigin(origins = "http://localhost:3000")
+public class RatingSummaryController {
+
+    private static final int MAX_IDS = 500;
+
+    @Autowired
+    private RatingSummaryService ratingSummaryService;
+
+    /**
+     * Rating summaries for many hotels in one call, e.g. {@code ?ids=1,2,3}
+     */
+    @GetMapping
+    public ResponseEntity<?> getSummaries(@RequestParam List<Long> ids) {
+        if (ids.isEmpty() || ids.size() > MAX_IDS) {
+            return ResponseEntity.badRequest().body(Map.of("error", "ids must contain between 1 and " + MAX_IDS + " hotel ids"));
+        }
+        try {
+            return ResponseEntity.ok(ratingSummaryService.findByHotelIds(ids));
+        } catch (Exception e) {
+            return ResponseEntity.status(500).body(Map.of("error", "Failed to fetch rating summaries: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Backfill or repair every summary from the reviews collection
+     */
+    @PostMapping("/rebuild")
+    public ResponseEntity<?> rebuild() {
+        try {
+            return ResponseEntity.ok(ratingSummaryService.rebuild());
+        } catch (Exception e) {
+            return ResponseEntity.status(500).body(Map.of("error", "Failed to rebuild rating summaries: " + e.getMessage()));
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.backend.controller;
+
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.backend.service.HotelReviewsService;
+import com.example.backend.service.ReviewIngestionService;
+
+@RestController
+@RequestMapping("/api/hotels/reviews")
+@CrossOrigin(origins = "http://localhost:3000")
+public class ReviewBatchController {
+
+    private static final int MAX_IDS = 100;
+    private static final int MAX_LATEST = 20;
+
+    @Autowired
+    private HotelReviewsService hotelReviewsService;
+
+    @Autowired
+    private ReviewIngestionService reviewIngestionService;
+
+    /**
+     * Latest reviews plus rating summary for every hotel in {@code ids}, e.g. {@code ?ids=1,2,3&latest=3}
+     */
+    @GetMapping("/batch")
+    public ResponseEntity<?> latestReviews(@RequestParam List<Long> ids, @RequestParam(defaultValue = "3") int latest) {
+        if (ids.isEmpty() || ids.size() > MAX_IDS) {
+            return ResponseEntity.badRequest().body(Map.of("error", "ids must contain between 1 and " + MAX_IDS + " hotel ids"));
+        }
+        if (latest < 1 || latest > MAX_LATEST) {
+            return ResponseEntity.badRequest().body(Map.of("error", "latest must be between 1 and " + MAX_LATEST));
+        }
+        try {
+            return ResponseEntity.ok(hotelReviewsService.findLatest(ids, latest));
+        } catch (Exception e) {
+            return ResponseEntity.status(500).body(Map.of("error", "Failed to fetch reviews: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Imports reviews from an NDJSON body, one {@code CreateReviewRequest} with {@code hotelId} per line.
+     * The body is streamed, never buffered; per-line failures are reported in the response.
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<?> bulkIngest(InputStream body) {
+        try {
+            return ResponseEntity.ok(reviewIngestionService.ingest(body));
+        } catch (Exception e) {
+            return ResponseEntity.status(500).body(Map.of("error", "Failed to import reviews: " + e.getMessage()));
+        }
+    }
+}
@@ -4,7 +4,11 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -12,24 +16,71 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.example.backend.dto.CreateReviewRequest;
+import com.example.backend.dto.PageResponse;
+import com.example.backend.dto.ReviewDto;
 import com.example.backend.model.Review;
 import com.example.backend.repository.ReviewRepository;
+import com.example.backend.service.RatingSummaryService;
+import com.example.backend.util.ReadQueries;
 
 @RestController
 @RequestMapping("/api/hotels/{hotelId}/reviews")
-@CrossOrigin(origins = "http://localhost:3000")
+@CrossOrigin(origins = "http://localhost:3000", exposedHeaders = ReviewController.NEXT_CURSOR_HEADER)
 public class ReviewController {
 
+    private static final Logger log = LoggerFactory.getLogger(ReviewController.class);
+
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
     @Autowired
     private ReviewRepository reviewRepository;
 
+    @Autowired
+    private RatingSummaryService ratingSummaryService;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    /**
+     * Newest reviews first. With {@code limit} and/or {@code before} one keyset page is returned
+     * and the cursor of the next page, if any, is sent in the {@value #NEXT_CURSOR_HEADER} header;
+     * without them every review of the hotel is returned as before.
+     */
     @GetMapping
-    public ResponseEntity<?> listReviews(@PathVariable Long hotelId) {
+    public ResponseEntity<?> listReviews(@PathVariable Long hotelId,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String before) {
+        if (limit == null && before == null) {
+            try {
+                List<Review> reviews = reviewRepository.findByHotelIdOrderByCreatedAtDesc(hotelId);
+                return ResponseEntity.ok(reviews.stream().map(r -> new ReviewDto(r)).collect(Collectors.toList()));
+            } catch (Exception e) {
+                return ResponseEntity.badRequest().body(new ErrorResponse("Failed to fetch reviews: " + e.getMessage()));
+            }
+        }
+        int size = limit == null ? DEFAULT_PAGE_SIZE : limit;
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            return ResponseEntity.badRequest().body(new ErrorResponse("limit must be between 1 and " + MAX_PAGE_SIZE));
+        }
+        Query query;
+        try {
+            query = ReadQueries.reviewPage(hotelId, size, before);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
+        }
         try {
-            List<Review> reviews = reviewRepository.findByHotelIdOrderByCreatedAtDesc(hotelId);
-            return ResponseEntity.ok(reviews.stream().map(r -> new ReviewDto(r)).collect(Collectors.toList()));
+            PageResponse<Review> page = ReadQueries.page(mongoTemplate.find(query, Review.class), size, ReadQueries::reviewCursor);
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+            if (page.getNextCursor() != null) {
+                response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+            }
+            return response.body(page.getItems().stream().map(r -> new ReviewDto(r)).collect(Collectors.toList()));
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(new ErrorResponse("Failed to fetch reviews: " + e.getMessage()));
         }
@@ -37,6 +88,11 @@ public class ReviewController {
 
     @PostMapping
     public ResponseEntity<?> createReview(@PathVariable Long hotelId, @RequestBody CreateReviewRequest req) {
+        try {
+            RatingSummaryService.validateRating(req.getRating());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
+        }
         try {
             Review r = new Review();
             r.setHotelId(hotelId);
@@ -45,43 +101,18 @@ public class ReviewController {
             r.setText(req.getText());
             r.setCreatedAt(LocalDateTime.now());
             Review saved = reviewRepository.save(r);
+            try {
+                ratingSummaryService.record(hotelId, saved.getRating());
+            } catch (Exception e) {
+                // The review itself is stored; the summary catches up on the next rebuild
+                log.warn("Failed to update rating summary for hotel {}", hotelId, e);
+            }
             return ResponseEntity.ok(new ReviewDto(saved));
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(new ErrorResponse("Failed to save review: " + e.getMessage()));
         }
     }
 
-    static class CreateReviewRequest {
-        private String userName;
-        private int rating;
-        private String text;
-
-        public String getUserName() { return userName; }
-        public void setUserName(String userName) { this.userName = userName; }
-        public int getRating() { return rating; }
-        public void setRating(int rating) { this.rating = rating; }
-        public String getText() { return text; }
-        public void setText(String text) { this.text = text; }
-    }
-
-    static class ReviewDto {
-        public String id;
-        public Long hotelId;
-        public String userName;
-        public int rating;
-        public String text;
-        public String createdAt;
-
-        public ReviewDto(Review r) {
-            this.id = r.getId();
-            this.hotelId = r.getHotelId();
-            this.userName = r.getUserName();
-            this.rating = r.getRating();
-            this.text = r.getText();
-            this.createdAt = r.getCreatedAt() != null ? r.getCreatedAt().toString() : null;
-        }
-    }
-
     static class ErrorResponse {
         private String error;
 
@@ -0,0 +1,58 @@
+package com.example.backend.controller;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.backend.mongo.SlowQueryProfiler;
+
+@RestController
+@RequestMapping("/api/admin/slow-queries")
+public class SlowQueryController {
+
+    private static final int MAX_LIMIT = 500;
+
+    @Autowired(required = false)
+    private SlowQueryProfiler slowQueryProfiler;
+
+    /**
+     * Slow query shapes, most total time first, with their plans and suggested indexes
+     */
+    @GetMapping
+    public ResponseEntity<?> list(@RequestParam(defaultValue = "20") int limit) {
+        if (slowQueryProfiler == null) {
+            return disabled();
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            return ResponseEntity.badRequest().body(Map.of("error", "limit must be between 1 and " + MAX_LIMIT));
+        }
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("thresholdMillis", slowQueryProfiler.thresholdMillis());
+        body.put("untracked", slowQueryProfiler.untracked());
+        body.put("shapes", slowQueryProfiler.ranked(limit));
+        return ResponseEntity.ok(body);
+    }
+
+    /**
+     * Forget all recorded shapes, e.g. after adding indexes
+     */
+    @DeleteMapping
+    public ResponseEntity<?> clear() {
+        if (slowQueryProfiler == null) {
+            return disabled();
+        }
+        return ResponseEntity.ok(Map.of("cleared", slowQueryProfiler.clear()));
+    }
+
+    private static ResponseEntity<?> disabled() {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("error", "Slow query profiling is disabled"));
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.backend.dto;
+
+import java.util.List;
+
+import com.example.backend.model.BookingDailyRollup;
+
+/**
+ * Booking totals over a range of days, for one hotel or all of them ({@code hotelId} null)
+ */
+public class BookingReport {
+    private String hotelId;
+    private String from;
+    private String to;
+    private BookingDailyRollup totals;
+    private List<BookingDailyRollup> days;
+    
+    public BookingReport() {}
+    
+    public BookingReport(String hotelId, String from, String to, BookingDailyRollup totals, List<BookingDailyRollup> days) {
+        this.hotelId = hotelId;
+        this.from = from;
+        this.to = to;
+        this.totals = totals;
+        this.days = days;
+    }
+    
+    // Getters and Setters
+    public String getHotelId() {
+        return hotelId;
+    }
+    
+    public void setHotelId(String hotelId) {
+        this.hotelId = hotelId;
+    }
+    
+    public String getFrom() {
+        return from;
+    }
+    
+    public void setFrom(String from) {
+        this.from = from;
+    }
+    
+    public String getTo() {
+        return to;
+    }
+    
+    public void setTo(String to) {
+        this.to = to;
+    }
+    
+    public BookingDailyRollup getTotals() {
+        return totals;
+    }
+    
+    public void setTotals(BookingDailyRollup totals) {
+        this.totals = totals;
+    }
+    
+    public List<BookingDailyRollup> getDays() {
+        return days;
+    }
+    
+    public void setDays(List<BookingDailyRollup> days) {
+        this.days = days;
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.backend.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * The fields of a booking shown in list views; guest contact details and special requests
+ * are left to {@code GET /api/bookings/{id}}
+ */
+public class BookingSummary {
+    private String id;
+    private String hotelId;
+    private String hotelName;
+    private String checkIn;
+    private String checkOut;
+    private int nights;
+    private int rooms;
+    private double totalPrice;
+    private String status;
+    private LocalDateTime bookingDate;
+    
+    // Getters and Setters
+    public String getId() {
+        return id;
+    }
+    
+    public void setId(String id) {
+        this.id = id;
+    }
+    
+    public String getHotelId() {
+        return hotelId;
+    }
+    
+    public void setHotelId(String hotelId) {
+        this.hotelId = hotelId;
+    }
+    
+    public String getHotelName() {
+        return hotelName;
+    }
+    
+    public void setHotelName(String hotelName) {
+        this.hotelName = hotelName;
+    }
+    
+    public String getCheckIn() {
+        return checkIn;
+    }
+    
+    public void setCheckIn(String checkIn) {
+        this.checkIn = checkIn;
+    }
+    
+    public String getCheckOut() {
+        return checkOut;
+    }
+    
+    public void setCheckOut(String checkOut) {
+        this.checkOut = checkOut;
+    }
+    
+    public int getNights() {
+        return nights;
+    }
+    
+    public void setNights(int nights) {
+        this.nights = nights;
+    }
+    
+    public int getRooms() {
+        return rooms;
+    }
+    
+    public void setRooms(int rooms) {
+        this.rooms = rooms;
+    }
+    
+    public double getTotalPrice() {
+        return totalPrice;
+    }
+    
+    public void setTotalPrice(double totalPrice) {
+        this.totalPrice = totalPrice;
+    }
+    
+    public String getStatus() {
+        return status;
+    }
+    
+    public void setStatus(String status) {
+        this.status = status;
+    }
+    
+    public LocalDateTime getBookingDate() {
+        return bookingDate;
+    }
+    
+    public void setBookingDate(LocalDateTime bookingDate) {
+        this.bookingDate = bookingDate;
+    }
+}
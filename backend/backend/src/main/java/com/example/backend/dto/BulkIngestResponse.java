@@ -0,0 +1,108 @@
+package com.example.backend.dto;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk review ingestion. Only the first failures are listed
+ * ({@code failuresTruncated} tells whether more were dropped); {@code failed} counts all of them.
+ */
+public class BulkIngestResponse {
+    private long received;
+    private long inserted;
+    private long failed;
+    private List<Failure> failures;
+    private boolean failuresTruncated;
+    private long millis;
+
+    public BulkIngestResponse() {}
+
+    public BulkIngestResponse(long received, long inserted, long failed, List<Failure> failures,
+            boolean failuresTruncated, long millis) {
+        this.received = received;
+        this.inserted = inserted;
+        this.failed = failed;
+        this.failures = failures;
+        this.failuresTruncated = failuresTruncated;
+        this.millis = millis;
+    }
+
+    // Getters and Setters
+    public long getReceived() {
+        return received;
+    }
+
+    public void setReceived(long received) {
+        this.received = received;
+    }
+
+    public long getInserted() {
+        return inserted;
+    }
+
+    public void setInserted(long inserted) {
+        this.inserted = inserted;
+    }
+
+    public long getFailed() {
+        return failed;
+    }
+
+    public void setFailed(long failed) {
+        this.failed = failed;
+    }
+
+    public List<Failure> getFailures() {
+        return failures;
+    }
+
+    public void setFailures(List<Failure> failures) {
+        this.failures = failures;
+    }
+
+    public boolean isFailuresTruncated() {
+        return failuresTruncated;
+    }
+
+    public void setFailuresTruncated(boolean failuresTruncated) {
+        this.failuresTruncated = failuresTruncated;
+    }
+
+    public long getMillis() {
+        return millis;
+    }
+
+    public void setMillis(long millis) {
+        this.millis = millis;
+    }
+
+    /**
+     * One rejected record, by its 1-based line number in the request body
+     */
+    public static class Failure {
+        private long line;
+        private String error;
+
+        public Failure() {}
+
+        public Failure(long line, String error) {
+            this.line = line;
+            this.error = error;
+        }
+
+        public long getLine() {
+            return line;
+        }
+
+        public void setLine(long line) {
+            this.line = line;
+        }
+
+        public String getError() {
+            return error;
+        }
+
+        public void setError(String error) {
+            this.error = error;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.backend.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Review to create. {@code hotelId} and {@code createdAt} are only read by bulk ingestion,
+ * where records for many hotels share one body and replays keep their original time;
+ * the single-review endpoint takes the hotel from the path and stamps the current time.
+ */
+public class CreateReviewRequest {
+    private Long hotelId;
+    private String userName;
+    private int rating;
+    private String text;
+    private LocalDateTime createdAt;
+
+    public Long getHotelId() { return hotelId; }
+    public void setHotelId(Long hotelId) { this.hotelId = hotelId; }
+    public String getUserName() { return userName; }
+    public void setUserName(String userName) { this.userName = userName; }
+    public int getRating() { return rating; }
+    public void setRating(int rating) { this.rating = rating; }
+    public String getText() { return text; }
+    public void setText(String text) { this.text = text; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+}
@@ -0,0 +1,78 @@
+package com.example.backend.dto;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One page of filtered seeded hotels plus facet counts over the whole filtered result
+ */
+public class HotelFilterResponse {
+    private long total;
+    private int offset;
+    private int limit;
+    private List<Map<String, Object>> items;
+    private Map<String, Map<String, Integer>> facets;
+    private Instant indexedAt;
+
+    public HotelFilterResponse() {}
+
+    public HotelFilterResponse(long total, int offset, int limit, List<Map<String, Object>> items,
+            Map<String, Map<String, Integer>> facets, Instant indexedAt) {
+        this.total = total;
+        this.offset = offset;
+        this.limit = limit;
+        this.items = items;
+        this.facets = facets;
+        this.indexedAt = indexedAt;
+    }
+
+    // Getters and Setters
+    public long getTotal() {
+        return total;
+    }
+
+    public void setTotal(long total) {
+        this.total = total;
+    }
+
+    public int getOffset() {
+        return offset;
+    }
+
+    public void setOffset(int offset) {
+        this.offset = offset;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public void setLimit(int limit) {
+        this.limit = limit;
+    }
+
+    public List<Map<String, Object>> getItems() {
+        return items;
+    }
+
+    public void setItems(List<Map<String, Object>> items) {
+        this.items = items;
+    }
+
+    public Map<String, Map<String, Integer>> getFacets() {
+        return facets;
+    }
+
+    public void setFacets(Map<String, Map<String, Integer>> facets) {
+        this.facets = facets;
+    }
+
+    public Instant getIndexedAt() {
+        return indexedAt;
+    }
+
+    public void setIndexedAt(Instant indexedAt) {
+        this.indexedAt = indexedAt;
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.backend.dto;
+
+import java.util.List;
+
+import com.example.backend.model.HotelRatingSummary;
+
+/**
+ * Latest reviews and rating summary of one hotel, as returned by the batch reviews endpoint
+ */
+public class HotelReviewsDto {
+    private Long hotelId;
+    private HotelRatingSummary summary;
+    private List<ReviewDto> reviews;
+
+    public HotelReviewsDto() {}
+
+    public HotelReviewsDto(Long hotelId, HotelRatingSummary summary, List<ReviewDto> reviews) {
+        this.hotelId = hotelId;
+        this.summary = summary;
+        this.reviews = reviews;
+    }
+
+    // Getters and Setters
+    public Long getHotelId() {
+        return hotelId;
+    }
+
+    public void setHotelId(Long hotelId) {
+        this.hotelId = hotelId;
+    }
+
+    public HotelRatingSummary getSummary() {
+        return summary;
+    }
+
+    public void setSummary(HotelRatingSummary summary) {
+        this.summary = summary;
+    }
+
+    public List<ReviewDto> getReviews() {
+        return reviews;
+    }
+
+    public void setReviews(List<ReviewDto> reviews) {
+        this.reviews = reviews;
+    }
+}
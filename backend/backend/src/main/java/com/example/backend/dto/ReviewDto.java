@@ -0,0 +1,21 @@
+package com.example.backend.dto;
+
+import com.example.backend.model.Review;
+
+public class ReviewDto {
+    public String id;
+    public Long hotelId;
+    public String userName;
+    public int rating;
+    public String text;
+    public String createdAt;
+
+    public ReviewDto(Review r) {
+        this.id = r.getId();
+        this.hotelId = r.getHotelId();
+        this.userName = r.getUserName();
+        this.rating = r.getRating();
+        this.text = r.getText();
+        this.createdAt = r.getCreatedAt() != null ? r.getCreatedAt().toString() : null;
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.backend.http;
+
+import org.apache.hc.client5.http.classic.HttpClient;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+/**
+ * Request factory that gives every request the pool wait, read timeout and keep-alive of its host
+ */
+public class HostAwareRequestFactory extends HttpComponentsClientHttpRequestFactory {
+
+    public HostAwareRequestFactory(HttpClient httpClient, OutboundHttpProperties properties) {
+        super(httpClient);
+        setHttpContextFactory((method, uri) -> {
+            OutboundHttpProperties.HostSettings settings = properties.forHost(uri.getHost());
+            HttpClientContext context = HttpClientContext.create();
+            context.setRequestConfig(RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.of(settings.getPoolTimeout()))
+                .setResponseTimeout(Timeout.of(settings.getReadTimeout()))
+                .setConnectionKeepAlive(Timeout.of(properties.getKeepAlive()))
+                .build());
+            return context;
+        });
+    }
+}
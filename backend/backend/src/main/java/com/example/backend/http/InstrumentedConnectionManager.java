@@ -0,0 +1,130 @@
+package com.example.backend.http;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.io.ConnectionEndpoint;
+import org.apache.hc.client5.http.io.HttpClientConnectionManager;
+import org.apache.hc.client5.http.io.LeaseRequest;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Pooling connection manager that applies per-host pool sizes and reports pool usage.
+ *
+ * The first lease for a route sizes that route's pool from {@link OutboundHttpProperties}
+ * and registers its gauges; every lease records how long it waited for a connection.
+ */
+public class InstrumentedConnectionManager implements HttpClientConnectionManager {
+
+    private final PoolingHttpClientConnectionManager pool;
+    private final OutboundHttpProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Set<HttpRoute> knownRoutes = ConcurrentHashMap.newKeySet();
+    private final Map<String, Timer> waitTimers = new ConcurrentHashMap<>();
+
+    public InstrumentedConnectionManager(PoolingHttpClientConnectionManager pool, OutboundHttpProperties properties, MeterRegistry meterRegistry) {
+        this.pool = pool;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("outbound.http.pool.leased", pool, p -> p.getTotalStats().getLeased())
+            .tag("host", "all").register(meterRegistry);
+        Gauge.builder("outbound.http.pool.pending", pool, p -> p.getTotalStats().getPending())
+            .tag("host", "all").register(meterRegistry);
+    }
+
+    @Override
+    public LeaseRequest lease(String id, HttpRoute route, Timeout requestTimeout, Object state) {
+        String host = route.getTargetHost().getHostName();
+        if (knownRoutes.add(route)) {
+            pool.setMaxPerRoute(route, properties.forHost(host).getMaxConnections());
+            registerRouteGauges(route, host);
+        }
+        LeaseRequest lease = pool.lease(id, route, requestTimeout, state);
+        Timer waitTimer = waitTimers.computeIfAbsent(host, h -> Timer.builder("outbound.http.pool.wait")
+            .description("Time spent waiting for a pooled connection")
+            .tag("host", h)
+            .publishPercentileHistogram()
+            .register(meterRegistry));
+        return new LeaseRequest() {
+            @Override
+            public ConnectionEndpoint get(Timeout timeout) throws InterruptedException, ExecutionException, TimeoutException {
+                long start = System.nanoTime();
+                try {
+                    return lease.get(timeout);
+                } finally {
+                    waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                }
+            }
+
+            @Override
+            public boolean cancel() {
+                return lease.cancel();
+            }
+        };
+    }
+
+    private void registerRouteGauges(HttpRoute route, String host) {
+        Gauge.builder("outbound.http.pool.leased", pool, p -> p.getStats(route).getLeased())
+            .tag("host", host).register(meterRegistry);
+        Gauge.builder("outbound.http.pool.pending", pool, p -> p.getStats(route).getPending())
+            .description("Requests queued for a connection")
+            .tag("host", host).register(meterRegistry);
+        Gauge.builder("outbound.http.pool.available", pool, p -> p.getStats(route).getAvailable())
+            .tag("host", host).register(meterRegistry);
+        Gauge.builder("outbound.http.pool.saturation", pool, p -> saturation(p.getStats(route)))
+            .description("Leased connections as a fraction of the host's pool size")
+            .tag("host", host).register(meterRegistry);
+    }
+
+    private static double saturation(PoolStats stats) {
+        return stats.getMax() == 0 ? 0 : (double) stats.getLeased() / stats.getMax();
+    }
+
+    public PoolStats getStats(HttpRoute route) {
+        return pool.getStats(route);
+    }
+
+    public PoolStats getTotalStats() {
+        return pool.getTotalStats();
+    }
+
+    @Override
+    public void release(ConnectionEndpoint endpoint, Object newState, TimeValue validDuration) {
+        pool.release(endpoint, newState, validDuration);
+    }
+
+    @Override
+    public void connect(ConnectionEndpoint endpoint, TimeValue connectTimeout, HttpContext context) throws IOException {
+        pool.connect(endpoint, connectTimeout, context);
+    }
+
+    @Override
+    public void upgrade(ConnectionEndpoint endpoint, HttpContext context) throws IOException {
+        pool.upgrade(endpoint, context);
+    }
+
+    @Override
+    public void close(CloseMode closeMode) {
+        pool.close(closeMode);
+    }
+
+    @Override
+    public void close() throws IOException {
+        pool.close();
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.backend.http;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings for the shared outbound HTTP client.
+ *
+ * {@code defaults} apply to every host; entries under {@code hosts[<hostname>]} override
+ * individual values for that host, e.g. a longer read timeout for inference calls.
+ */
+@ConfigurationProperties(prefix = "outbound.http")
+public class OutboundHttpProperties {
+
+    // Connections across all hosts
+    private int maxConnections = 200;
+
+    // How long an idle connection stays reusable when the server sends no Keep-Alive hint
+    private Duration keepAlive = Duration.ofSeconds(30);
+
+    private HostSettings defaults = new HostSettings(20, Duration.ofSeconds(2), Duration.ofSeconds(10), Duration.ofSeconds(30), Duration.ofSeconds(1));
+
+    private Map<String, HostSettings> hosts = new LinkedHashMap<>();
+
+    private final Map<String, HostSettings> resolved = new ConcurrentHashMap<>();
+
+    /**
+     * Effective settings for a host: its overrides on top of the defaults
+     */
+    public HostSettings forHost(String host) {
+        return resolved.computeIfAbsent(host, h -> {
+            HostSettings overrides = hosts.get(h);
+            return overrides == null ? defaults : overrides.withFallback(defaults);
+        });
+    }
+
+    public int getMaxConnections() { return maxConnections; }
+    public void setMaxConnections(int maxConnections) { this.maxConnections = maxConnections; }
+    public Duration getKeepAlive() { return keepAlive; }
+    public void setKeepAlive(Duration keepAlive) { this.keepAlive = keepAlive; }
+    public HostSettings getDefaults() { return defaults; }
+    public void setDefaults(HostSettings defaults) { this.defaults = defaults; resolved.clear(); }
+    public Map<String, HostSettings> getHosts() { return hosts; }
+    public void setHosts(Map<String, HostSettings> hosts) { this.hosts = hosts; resolved.clear(); }
+
+    public static class HostSettings {
+        // Pooled connections to this host
+        private Integer maxConnections;
+        private Duration connectTimeout;
+        // Longest silence between two reads of the response
+        private Duration readTimeout;
+        // Deadline for the whole exchange, including reading the body
+        private Duration totalTimeout;
+        // Longest wait for a free pooled connection
+        private Duration poolTimeout;
+
+        public HostSettings() {}
+
+        public HostSettings(Integer maxConnections, Duration connectTimeout, Duration readTimeout, Duration totalTimeout, Duration poolTimeout) {
+            this.maxConnections = maxConnections;
+            this.connectTimeout = connectTimeout;
+            this.readTimeout = readTimeout;
+            this.totalTimeout = totalTimeout;
+            this.poolTimeout = poolTimeout;
+        }
+
+        HostSettings withFallback(HostSettings fallback) {
+            return new HostSettings(
+                maxConnections != null ? maxConnections : fallback.maxConnections,
+                connectTimeout != null ? connectTimeout : fallback.connectTimeout,
+                readTimeout != null ? readTimeout : fallback.readTimeout,
+                totalTimeout != null ? totalTimeout : fallback.totalTimeout,
+                poolTimeout != null ? poolTimeout : fallback.poolTimeout);
+        }
+
+        public Integer getMaxConnections() { return maxConnections; }
+        public void setMaxConnections(Integer maxConnections) { this.maxConnections = maxConnections; }
+        public Duration getConnectTimeout() { return connectTimeout; }
+        public void setConnectTimeout(Duration connectTimeout) { this.connectTimeout = connectTimeout; }
+        public Duration getReadTimeout() { return readTimeout; }
+        public void setReadTimeout(Duration readTimeout) { this.readTimeout = readTimeout; }
+        public Duration getTotalTimeout() { return totalTimeout; }
+        public void setTotalTimeout(Duration totalTimeout) { this.totalTimeout = totalTimeout; }
+        public Duration getPoolTimeout() { return poolTimeout; }
+        public void setPoolTimeout(Duration poolTimeout) { this.poolTimeout = poolTimeout; }
+    }
+}
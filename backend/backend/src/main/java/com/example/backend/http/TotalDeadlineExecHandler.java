@@ -0,0 +1,154 @@
+package com.example.backend.http;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.hc.client5.http.classic.ExecChain;
+import org.apache.hc.client5.http.classic.ExecChainHandler;
+import org.apache.hc.core5.concurrent.Cancellable;
+import org.apache.hc.core5.http.ClassicHttpRequest;
+import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.apache.hc.core5.http.HttpEntity;
+import org.apache.hc.core5.http.HttpException;
+import org.apache.hc.core5.http.io.entity.HttpEntityWrapper;
+import org.apache.hc.core5.io.Closer;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Aborts an exchange that is still running when the host's total timeout runs out.
+ *
+ * Connect and read timeouts only bound single waits, so a server that trickles bytes
+ * can hold a connection forever. The deadline covers lease, connect, response headers
+ * and reading the body, and is cleared when the response body is closed.
+ */
+public class TotalDeadlineExecHandler implements ExecChainHandler, Closeable {
+
+    private final OutboundHttpProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, r -> {
+        Thread t = new Thread(r, "outbound-http-deadline");
+        t.setDaemon(true);
+        return t;
+    });
+
+    public TotalDeadlineExecHandler(OutboundHttpProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.scheduler.setRemoveOnCancelPolicy(true);
+    }
+
+    @Override
+    public ClassicHttpResponse execute(ClassicHttpRequest request, ExecChain.Scope scope, ExecChain chain) throws IOException, HttpException {
+        String host = scope.route.getTargetHost().getHostName();
+        long deadlineMillis = properties.forHost(host).getTotalTimeout().toMillis();
+        AtomicBoolean expired = new AtomicBoolean();
+        ScheduledFuture<?> deadline = scheduler.schedule(() -> {
+            expired.set(true);
+            Counter.builder("outbound.http.deadline.exceeded").tag("host", host).register(meterRegistry).increment();
+            if (scope.originalRequest instanceof Cancellable cancellable) {
+                cancellable.cancel();
+            } else {
+                scope.execRuntime.discardEndpoint();
+            }
+        }, deadlineMillis, TimeUnit.MILLISECONDS);
+
+        ClassicHttpResponse response;
+        try {
+            response = chain.proceed(request, scope);
+        } catch (IOException | HttpException | RuntimeException e) {
+            deadline.cancel(false);
+            if (expired.get()) {
+                throw new DeadlineExceededException(host, deadlineMillis, e);
+            }
+            throw e;
+        }
+        HttpEntity entity = response.getEntity();
+        if (entity == null) {
+            deadline.cancel(false);
+        } else {
+            response.setEntity(new DeadlineEntity(entity, deadline, expired, host, deadlineMillis));
+        }
+        return response;
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * Signals that the exchange was aborted by the total deadline rather than by the peer
+     */
+    public static class DeadlineExceededException extends IOException {
+        DeadlineExceededException(String host, long deadlineMillis, Throwable cause) {
+            super("Request to " + host + " exceeded total timeout of " + deadlineMillis + " ms", cause);
+        }
+    }
+
+    private static final class DeadlineEntity extends HttpEntityWrapper {
+        private final ScheduledFuture<?> deadline;
+        private final AtomicBoolean expired;
+        private final String host;
+        private final long deadlineMillis;
+
+        DeadlineEntity(HttpEntity entity, ScheduledFuture<?> deadline, AtomicBoolean expired, String host, long deadlineMillis) {
+            super(entity);
+            this.deadline = deadline;
+            this.expired = expired;
+            this.host = host;
+            this.deadlineMillis = deadlineMillis;
+        }
+
+        @Override
+        public InputStream getContent() throws IOException {
+            InputStream content = super.getContent();
+            return new InputStream() {
+                @Override
+                public int read() throws IOException {
+                    try {
+                        return content.read();
+                    } catch (IOException e) {
+                        throw translate(e);
+                    }
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) throws IOException {
+                    try {
+                        return content.read(b, off, len);
+                    } catch (IOException e) {
+                        throw translate(e);
+                    }
+                }
+
+                @Override
+                public int available() throws IOException {
+                    return content.available();
+                }
+
+                @Override
+                public void close() throws IOException {
+                    deadline.cancel(false);
+                    content.close();
+                }
+            };
+        }
+
+        private IOException translate(IOException e) {
+            return expired.get() ? new DeadlineExceededException(host, deadlineMillis, e) : e;
+        }
+
+        @Override
+        public void close() throws IOException {
+            deadline.cancel(false);
+            Closer.close(super::close);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.backend.inventory;
+
+import java.time.LocalDate;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToIntFunction;
+
+/**
+ * Counters in a ConcurrentHashMap with a compare-and-set loop per night, so contention is
+ * only ever on the single night being changed.
+ */
+public class InMemoryInventoryStore implements InventoryStore {
+
+    private final ToIntFunction<String> roomsPerNight;
+    private final ConcurrentMap<String, AtomicInteger> remaining = new ConcurrentHashMap<>();
+
+    public InMemoryInventoryStore(ToIntFunction<String> roomsPerNight) {
+        this.roomsPerNight = roomsPerNight;
+    }
+
+    @Override
+    public boolean tryReserve(String hotelId, LocalDate night, int rooms) {
+        AtomicInteger counter = counter(hotelId, night);
+        while (true) {
+            int left = counter.get();
+            if (left < rooms) {
+                return false;
+            }
+            if (counter.compareAndSet(left, left - rooms)) {
+                return true;
+            }
+        }
+    }
+
+    @Override
+    public void release(String hotelId, LocalDate night, int rooms) {
+        counter(hotelId, night).addAndGet(rooms);
+    }
+
+    @Override
+    public int remaining(String hotelId, LocalDate night) {
+        return counter(hotelId, night).get();
+    }
+
+    private AtomicInteger counter(String hotelId, LocalDate night) {
+        return remaining.computeIfAbsent(hotelId + "|" + night, k -> new AtomicInteger(roomsPerNight.applyAsInt(hotelId)));
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.backend.inventory;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Room capacity per hotel and night.
+ *
+ * Every hotel has {@code defaultRooms} rooms per night unless {@code hotelRooms[<hotelId>]}
+ * says otherwise. {@code store} picks where the per-night counters live: {@code mongo}
+ * (shared by all instances) or {@code memory} (single instance, lost on restart).
+ */
+@ConfigurationProperties(prefix = "inventory")
+public class InventoryProperties {
+
+    private String store = "mongo";
+
+    private int defaultRooms = 20;
+
+    private Map<String, Integer> hotelRooms = new LinkedHashMap<>();
+
+    public int roomsFor(String hotelId) {
+        return hotelRooms.getOrDefault(hotelId, defaultRooms);
+    }
+
+    public String getStore() { return store; }
+    public void setStore(String store) { this.store = store; }
+    public int getDefaultRooms() { return defaultRooms; }
+    public void setDefaultRooms(int defaultRooms) { this.defaultRooms = defaultRooms; }
+    public Map<String, Integer> getHotelRooms() { return hotelRooms; }
+    public void setHotelRooms(Map<String, Integer> hotelRooms) { this.hotelRooms = hotelRooms; }
+}
@@ -0,0 +1,27 @@
+package com.example.backend.inventory;
+
+import java.time.LocalDate;
+
+/**
+ * Remaining-room counters per hotel and night. Each call must be atomic on its own counter;
+ * reserving a range of nights is built on top of it by {@link RoomInventory}.
+ */
+public interface InventoryStore {
+
+    /**
+     * Take {@code rooms} rooms for one night if that many are left
+     *
+     * @return false, leaving the counter unchanged, when fewer rooms remain
+     */
+    boolean tryReserve(String hotelId, LocalDate night, int rooms);
+
+    /**
+     * Give back rooms taken by an earlier successful {@link #tryReserve}
+     */
+    void release(String hotelId, LocalDate night, int rooms);
+
+    /**
+     * Rooms still available for the night
+     */
+    int remaining(String hotelId, LocalDate night);
+}
@@ -0,0 +1,71 @@
+package com.example.backend.inventory;
+
+import java.time.LocalDate;
+import java.util.function.ToIntFunction;
+
+import org.bson.Document;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+/**
+ * One {@code room_inventory} document per hotel and night, {@code {_id: "<hotelId>|<night>", remaining}}.
+ *
+ * A reservation is a single conditional update, {@code remaining >= rooms} then
+ * {@code $inc: -rooms}, which Mongo applies atomically per document. Documents are created
+ * with the full capacity the first time a night is touched.
+ */
+public class MongoInventoryStore implements InventoryStore {
+
+    static final String COLLECTION = "room_inventory";
+
+    private final MongoTemplate mongoTemplate;
+    private final ToIntFunction<String> roomsPerNight;
+
+    public MongoInventoryStore(MongoTemplate mongoTemplate, ToIntFunction<String> roomsPerNight) {
+        this.mongoTemplate = mongoTemplate;
+        this.roomsPerNight = roomsPerNight;
+    }
+
+    @Override
+    public boolean tryReserve(String hotelId, LocalDate night, int rooms) {
+        String id = id(hotelId, night);
+        Query available = Query.query(Criteria.where("_id").is(id).and("remaining").gte(rooms));
+        Update take = new Update().inc("remaining", -rooms);
+        if (mongoTemplate.updateFirst(available, take, COLLECTION).getModifiedCount() == 1) {
+            return true;
+        }
+        // Either sold out or the night was never touched: create it at full capacity, then try again
+        createNight(hotelId, night, id);
+        return mongoTemplate.updateFirst(available, take, COLLECTION).getModifiedCount() == 1;
+    }
+
+    @Override
+    public void release(String hotelId, LocalDate night, int rooms) {
+        mongoTemplate.updateFirst(Query.query(Criteria.where("_id").is(id(hotelId, night))),
+            new Update().inc("remaining", rooms), COLLECTION);
+    }
+
+    @Override
+    public int remaining(String hotelId, LocalDate night) {
+        Document doc = mongoTemplate.findById(id(hotelId, night), Document.class, COLLECTION);
+        return doc == null ? roomsPerNight.applyAsInt(hotelId) : doc.getInteger("remaining");
+    }
+
+    private void createNight(String hotelId, LocalDate night, String id) {
+        try {
+            mongoTemplate.insert(new Document("_id", id)
+                .append("hotelId", hotelId)
+                .append("night", night.toString())
+                .append("remaining", roomsPerNight.applyAsInt(hotelId)), COLLECTION);
+        } catch (DuplicateKeyException e) {
+            // Already there: created concurrently, or it exists and is sold out
+        }
+    }
+
+    private static String id(String hotelId, LocalDate night) {
+        return hotelId + "|" + night;
+    }
+}
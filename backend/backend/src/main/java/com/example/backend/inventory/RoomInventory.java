@@ -0,0 +1,129 @@
+package com.example.backend.inventory;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reserves every night of a stay, {@code checkIn} inclusive to {@code checkOut} exclusive.
+ *
+ * Nights are taken one at a time in date order, each with an atomic conditional decrement, and
+ * the nights already taken are given back if a later one is sold out. There is no lock across
+ * nights or hotels: two bookings only contend on the nights they share, and a counter can never
+ * go below zero, so rooms are never oversold. A booking that fails part way holds its earlier
+ * nights for the moment it takes to release them. A release that fails on some nights still
+ * gives back the others and names the ones left, so exactly those can be released again.
+ */
+public class RoomInventory {
+
+    /**
+     * A night of the requested stay has fewer rooms left than asked for
+     */
+    public static class SoldOutException extends RuntimeException {
+        public SoldOutException(String message) {
+            super(message);
+        }
+    }
+
+    /**
+     * Some nights of a release could not be given back; the others were
+     */
+    public static class ReleaseFailedException extends RuntimeException {
+        private final List<LocalDate> nights;
+
+        public ReleaseFailedException(List<LocalDate> nights, RuntimeException cause) {
+            super("Could not release " + nights.size() + " night(s) starting " + nights.get(0) + ": " + cause.getMessage(), cause);
+            this.nights = List.copyOf(nights);
+        }
+
+        public List<LocalDate> getNights() {
+            return nights;
+        }
+    }
+
+    private static final int MAX_NIGHTS = 60;
+
+    private final InventoryStore store;
+
+    public RoomInventory(InventoryStore store) {
+        this.store = store;
+    }
+
+    public void reserve(String hotelId, String checkIn, String checkOut, int rooms) {
+        List<LocalDate> nights = nights(hotelId, checkIn, checkOut, rooms);
+        List<LocalDate> taken = new ArrayList<>(nights.size());
+        try {
+            for (LocalDate night : nights) {
+                if (!store.tryReserve(hotelId, night, rooms)) {
+                    throw new SoldOutException("No rooms available on " + night);
+                }
+                taken.add(night);
+            }
+        } catch (RuntimeException e) {
+            for (LocalDate night : taken) {
+                store.release(hotelId, night, rooms);
+            }
+            throw e;
+        }
+    }
+
+    public void release(String hotelId, String checkIn, String checkOut, int rooms) {
+        release(hotelId, nights(hotelId, checkIn, checkOut, rooms), rooms);
+    }
+
+    /**
+     * Give back {@code rooms} on each of {@code nights}, going on past nights that fail
+     *
+     * @throws ReleaseFailedException listing the nights that were not given back
+     */
+    public void release(String hotelId, List<LocalDate> nights, int rooms) {
+        List<LocalDate> failed = new ArrayList<>();
+        RuntimeException cause = null;
+        for (LocalDate night : nights) {
+            try {
+                store.release(hotelId, night, rooms);
+            } catch (RuntimeException e) {
+                failed.add(night);
+                if (cause == null) {
+                    cause = e;
+                }
+            }
+        }
+        if (!failed.isEmpty()) {
+            throw new ReleaseFailedException(failed, cause);
+        }
+    }
+
+    public int remaining(String hotelId, LocalDate night) {
+        return store.remaining(hotelId, night);
+    }
+
+    /**
+     * Validates a stay and lists its nights; throws IllegalArgumentException for a bad request
+     */
+    static List<LocalDate> nights(String hotelId, String checkIn, String checkOut, int rooms) {
+        if (hotelId == null || hotelId.isBlank()) {
+            throw new IllegalArgumentException("hotelId is required");
+        }
+        if (rooms < 1) {
+            throw new IllegalArgumentException("At least one room is required");
+        }
+        LocalDate from;
+        LocalDate to;
+        try {
+            from = LocalDate.parse(checkIn);
+            to = LocalDate.parse(checkOut);
+        } catch (DateTimeParseException | NullPointerException e) {
+            throw new IllegalArgumentException("checkIn and checkOut must be dates like 2025-01-31");
+        }
+        if (!to.isAfter(from)) {
+            throw new IllegalArgumentException("checkOut must be after checkIn");
+        }
+        List<LocalDate> nights = from.datesUntil(to).toList();
+        if (nights.size() > MAX_NIGHTS) {
+            throw new IllegalArgumentException("A booking can cover at most " + MAX_NIGHTS + " nights");
+        }
+        return nights;
+    }
+}
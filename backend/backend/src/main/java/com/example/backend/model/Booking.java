@@ -3,9 +3,16 @@ package com.example.backend.model;
 import java.time.LocalDateTime;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 @Document(collection = "bookings")
+// Newest-first history per user, with and without a status filter, and its (bookingDate, _id) cursor
+@CompoundIndexes({
+    @CompoundIndex(name = "user_status_booked", def = "{'userEmail': 1, 'status': 1, 'bookingDate': -1, '_id': -1}"),
+    @CompoundIndex(name = "user_booked", def = "{'userEmail': 1, 'bookingDate': -1, '_id': -1}")
+})
 public class Booking {
     
     @Id
@@ -42,6 +49,10 @@ public class Booking {
     private LocalDateTime bookingDate;
     private LocalDateTime cancellationDate;
     private String cancellationReason;
+    private LocalDateTime completionDate;
+    
+    // Whether the stay's nights were taken from room inventory (bookings made before it existed were not)
+    private boolean inventoryReserved;
     
     // Constructors
     public Booking() {
@@ -225,4 +236,20 @@ public class Booking {
     public void setCancellationReason(String cancellationReason) {
         this.cancellationReason = cancellationReason;
     }
+    
+    public LocalDateTime getCompletionDate() {
+        return completionDate;
+    }
+    
+    public void setCompletionDate(LocalDateTime completionDate) {
+        this.completionDate = completionDate;
+    }
+    
+    public boolean isInventoryReserved() {
+        return inventoryReserved;
+    }
+    
+    public void setInventoryReserved(boolean inventoryReserved) {
+        this.inventoryReserved = inventoryReserved;
+    }
 }
@@ -0,0 +1,99 @@
+package com.example.backend.model;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * Booking totals for one hotel on one day, kept up to date with $inc as bookings are made and
+ * cancelled. Bookings count on the day they were made, cancellations on the day they were
+ * cancelled, so a day's net revenue can be negative. {@code day} is yyyy-MM-dd in the server's
+ * time zone and {@code id} is {@code <hotelId>|<day>}.
+ */
+@Document(collection = "booking_daily_rollups")
+@CompoundIndex(name = "hotel_day", def = "{'hotelId': 1, 'day': 1}")
+public class BookingDailyRollup {
+
+    @Id
+    private String id;
+
+    private String hotelId;
+
+    @Indexed
+    private String day;
+
+    private long bookings;
+
+    private double revenue;
+
+    private long roomNights;
+
+    private long cancellations;
+
+    private double cancelledRevenue;
+
+    private long cancelledRoomNights;
+
+    private LocalDateTime updatedAt;
+
+    public BookingDailyRollup() {}
+
+    public BookingDailyRollup(String hotelId, String day) {
+        this.id = hotelId == null ? null : hotelId + "|" + day;
+        this.hotelId = hotelId;
+        this.day = day;
+    }
+
+    public double getNetRevenue() {
+        return revenue - cancelledRevenue;
+    }
+
+    public long getNetRoomNights() {
+        return roomNights - cancelledRoomNights;
+    }
+
+    /**
+     * Add another rollup's counts to this one
+     */
+    public void add(BookingDailyRollup other) {
+        bookings += other.bookings;
+        revenue += other.revenue;
+        roomNights += other.roomNights;
+        cancellations += other.cancellations;
+        cancelledRevenue += other.cancelledRevenue;
+        cancelledRoomNights += other.cancelledRoomNights;
+    }
+
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+
+    public String getHotelId() { return hotelId; }
+    public void setHotelId(String hotelId) { this.hotelId = hotelId; }
+
+    public String getDay() { return day; }
+    public void setDay(String day) { this.day = day; }
+
+    public long getBookings() { return bookings; }
+    public void setBookings(long bookings) { this.bookings = bookings; }
+
+    public double getRevenue() { return revenue; }
+    public void setRevenue(double revenue) { this.revenue = revenue; }
+
+    public long getRoomNights() { return roomNights; }
+    public void setRoomNights(long roomNights) { this.roomNights = roomNights; }
+
+    public long getCancellations() { return cancellations; }
+    public void setCancellations(long cancellations) { this.cancellations = cancellations; }
+
+    public double getCancelledRevenue() { return cancelledRevenue; }
+    public void setCancelledRevenue(double cancelledRevenue) { this.cancelledRevenue = cancelledRevenue; }
+
+    public long getCancelledRoomNights() { return cancelledRoomNights; }
+    public void setCancelledRoomNights(long cancelledRoomNights) { this.cancelledRoomNights = cancelledRoomNights; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+}
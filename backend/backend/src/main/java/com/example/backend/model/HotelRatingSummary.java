@@ -0,0 +1,55 @@
+package com.example.backend.model;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * Running rating totals for one hotel, kept up to date with $inc as reviews are written.
+ * The histogram is keyed by rating ("1".."5").
+ */
+@Document(collection = "hotel_rating_summaries")
+public class HotelRatingSummary {
+
+    @Id
+    private Long hotelId;
+
+    private long count;
+
+    private long sum;
+
+    private Map<String, Long> histogram = new HashMap<>();
+
+    private LocalDateTime updatedAt;
+
+    public HotelRatingSummary() {}
+
+    public HotelRatingSummary(Long hotelId) {
+        this.hotelId = hotelId;
+        for (int rating = 1; rating <= 5; rating++) {
+            histogram.put(String.valueOf(rating), 0L);
+        }
+    }
+
+    public double getMean() {
+        return count == 0 ? 0 : (double) sum / count;
+    }
+
+    public Long getHotelId() { return hotelId; }
+    public void setHotelId(Long hotelId) { this.hotelId = hotelId; }
+
+    public long getCount() { return count; }
+    public void setCount(long count) { this.count = count; }
+
+    public long getSum() { return sum; }
+    public void setSum(long sum) { this.sum = sum; }
+
+    public Map<String, Long> getHistogram() { return histogram; }
+    public void setHistogram(Map<String, Long> histogram) { this.histogram = histogram; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+}
@@ -3,9 +3,12 @@ package com.example.backend.model;
 import java.time.LocalDateTime;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 @Document(collection = "reviews")
+// Serves the newest-first listing per hotel and its (createdAt, _id) keyset cursor
+@CompoundIndex(name = "hotel_created_id", def = "{'hotelId': 1, 'createdAt': -1, '_id': -1}")
 public class Review {
 
     @Id
@@ -0,0 +1,125 @@
+package com.example.backend.mongo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+
+/**
+ * What an {@code explain} with {@code executionStats} verbosity says about a query: whether the
+ * winning plan scans the collection or sorts in memory, which indexes it uses, and how many
+ * documents it examined for each one returned.
+ */
+public record ExplainSummary(boolean collectionScan, boolean inMemorySort, List<String> indexes,
+                             long docsExamined, long keysExamined, long returned, long executionMillis) {
+
+    // Below this many documents examined a poor ratio costs too little to report
+    static final long MIN_DOCS_EXAMINED_FOR_RATIO = 100;
+
+    /**
+     * Read from the winning plan (nested plans of aggregations and SBE plans included) and the
+     * first execution stats found
+     */
+    public static ExplainSummary of(BsonDocument explain) {
+        Plan plan = new Plan();
+        collectWinningPlans(explain, plan);
+        BsonDocument stats = find(explain, "executionStats");
+        return new ExplainSummary(plan.collectionScan, plan.inMemorySort, List.copyOf(plan.indexes),
+            longOf(stats, "totalDocsExamined"), longOf(stats, "totalKeysExamined"),
+            longOf(stats, "nReturned"), longOf(stats, "executionTimeMillis"));
+    }
+
+    public double examinedPerReturned() {
+        return (double) docsExamined / Math.max(returned, 1);
+    }
+
+    /**
+     * Why the plan deserves attention; empty when it does not
+     */
+    public List<String> problems(double maxExaminedPerReturned) {
+        List<String> problems = new ArrayList<>();
+        if (collectionScan) {
+            problems.add("COLLSCAN");
+        }
+        if (inMemorySort) {
+            problems.add("in-memory SORT");
+        }
+        if (docsExamined >= MIN_DOCS_EXAMINED_FOR_RATIO && examinedPerReturned() > maxExaminedPerReturned) {
+            problems.add(String.format("examined %d documents for %d returned", docsExamined, returned));
+        }
+        return problems;
+    }
+
+    private static final class Plan {
+        boolean collectionScan;
+        boolean inMemorySort;
+        final List<String> indexes = new ArrayList<>();
+    }
+
+    private static void collectWinningPlans(BsonValue value, Plan plan) {
+        if (value.isArray()) {
+            value.asArray().forEach(element -> collectWinningPlans(element, plan));
+        } else if (value.isDocument()) {
+            for (Map.Entry<String, BsonValue> entry : value.asDocument().entrySet()) {
+                if (entry.getKey().equals("winningPlan")) {
+                    collectStages(entry.getValue(), plan);
+                } else if (!entry.getKey().equals("rejectedPlans")) {
+                    collectWinningPlans(entry.getValue(), plan);
+                }
+            }
+        }
+    }
+
+    private static void collectStages(BsonValue value, Plan plan) {
+        if (value.isArray()) {
+            value.asArray().forEach(element -> collectStages(element, plan));
+        } else if (value.isDocument()) {
+            BsonDocument document = value.asDocument();
+            BsonValue stage = document.get("stage");
+            if (stage != null && stage.isString()) {
+                switch (stage.asString().getValue()) {
+                    case "COLLSCAN" -> plan.collectionScan = true;
+                    case "SORT" -> plan.inMemorySort = true;
+                    case "IXSCAN", "COUNT_SCAN", "DISTINCT_SCAN" -> {
+                        BsonValue indexName = document.get("indexName");
+                        if (indexName != null && indexName.isString() && !plan.indexes.contains(indexName.asString().getValue())) {
+                            plan.indexes.add(indexName.asString().getValue());
+                        }
+                    }
+                    default -> { }
+                }
+            }
+            document.values().forEach(child -> collectStages(child, plan));
+        }
+    }
+
+    private static BsonDocument find(BsonValue value, String key) {
+        if (value.isArray()) {
+            for (BsonValue element : value.asArray()) {
+                BsonDocument found = find(element, key);
+                if (found != null) {
+                    return found;
+                }
+            }
+        } else if (value.isDocument()) {
+            BsonValue direct = value.asDocument().get(key);
+            if (direct != null && direct.isDocument()) {
+                return direct.asDocument();
+            }
+            for (BsonValue child : value.asDocument().values()) {
+                BsonDocument found = find(child, key);
+                if (found != null) {
+                    return found;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static long longOf(BsonDocument document, String key) {
+        BsonValue value = document != null ? document.get(key) : null;
+        return value != null && value.isNumber() ? value.asNumber().longValue() : 0;
+    }
+}
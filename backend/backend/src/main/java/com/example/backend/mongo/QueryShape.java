@@ -0,0 +1,187 @@
+package com.example.backend.mongo;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+
+/**
+ * A read command with its values taken out: {@code {userEmail: ?, createdAt: {$lt: ?}}} stands
+ * for every query that differs only in the email and date.
+ *
+ * Shapes are taken from {@code find}, {@code count}, {@code distinct} and from the leading
+ * {@code $match}/{@code $sort} stages of {@code aggregate}; writes, including pipelines that end
+ * in {@code $out} or {@code $merge}, have no shape. Top-level and
+ * {@code $and} conditions are split into equality and range fields for index suggestions;
+ * {@code $or} branches are kept in the shape but not used for suggestions.
+ */
+public record QueryShape(String collection, String command, String filter, String sort,
+                         List<String> equalityFields, List<String> rangeFields, Map<String, Integer> sortFields) {
+
+    private static final Set<String> EQUALITY_OPERATORS = Set.of("$eq", "$in");
+
+    /**
+     * The shape of a command, or null for commands that are not profiled
+     */
+    public static QueryShape of(String commandName, BsonDocument command) {
+        return switch (commandName) {
+            case "find" -> of(command, "find", "find", command.get("filter"), command.get("sort"));
+            case "count" -> of(command, "count", "count", command.get("query"), null);
+            case "distinct" -> of(command, "distinct", "distinct(" + keyOf(command) + ")", command.get("query"), null);
+            case "aggregate" -> aggregate(command);
+            default -> null;
+        };
+    }
+
+    private static QueryShape of(BsonDocument command, String collectionField, String label, BsonValue filter, BsonValue sort) {
+        BsonValue collection = command.get(collectionField);
+        if (collection == null || !collection.isString()) {
+            return null;
+        }
+        BsonDocument filterDocument = filter != null && filter.isDocument() ? filter.asDocument() : new BsonDocument();
+        BsonDocument sortDocument = sort != null && sort.isDocument() ? sort.asDocument() : new BsonDocument();
+        List<String> equality = new ArrayList<>();
+        List<String> range = new ArrayList<>();
+        classify(filterDocument, equality, range);
+        Map<String, Integer> sortFields = new LinkedHashMap<>();
+        for (Map.Entry<String, BsonValue> entry : sortDocument.entrySet()) {
+            if (entry.getValue().isNumber()) {
+                sortFields.put(entry.getKey(), entry.getValue().asNumber().doubleValue() < 0 ? -1 : 1);
+            }
+        }
+        return new QueryShape(collection.asString().getValue(), label, render(filterDocument), renderSort(sortFields),
+            List.copyOf(equality), List.copyOf(range), Collections.unmodifiableMap(sortFields));
+    }
+
+    /**
+     * Only a leading $match and a $sort directly after it (or leading) can use an index
+     */
+    private static QueryShape aggregate(BsonDocument command) {
+        BsonValue pipeline = command.get("pipeline");
+        if (pipeline == null || !pipeline.isArray()) {
+            return null;
+        }
+        List<String> stages = new ArrayList<>();
+        BsonValue match = null;
+        BsonValue sort = null;
+        for (BsonValue stage : pipeline.asArray()) {
+            if (!stage.isDocument() || stage.asDocument().isEmpty()) {
+                continue;
+            }
+            String name = stage.asDocument().getFirstKey();
+            if (name.equals("$out") || name.equals("$merge")) {
+                return null;
+            }
+            if (name.equals("$match") && stages.isEmpty()) {
+                match = stage.asDocument().get(name);
+            } else if (name.equals("$sort") && (stages.isEmpty() || stages.equals(List.of("$match")))) {
+                sort = stage.asDocument().get(name);
+            }
+            stages.add(name);
+        }
+        return of(command, "aggregate", "aggregate(" + String.join(",", stages) + ")", match, sort);
+    }
+
+    private static String keyOf(BsonDocument command) {
+        BsonValue key = command.get("key");
+        return key != null && key.isString() ? key.asString().getValue() : "?";
+    }
+
+    private static void classify(BsonDocument filter, List<String> equality, List<String> range) {
+        for (Map.Entry<String, BsonValue> entry : filter.entrySet()) {
+            String field = entry.getKey();
+            BsonValue value = entry.getValue();
+            if (field.equals("$and") && value.isArray()) {
+                for (BsonValue clause : value.asArray()) {
+                    if (clause.isDocument()) {
+                        classify(clause.asDocument(), equality, range);
+                    }
+                }
+            } else if (!field.startsWith("$")) {
+                boolean operators = isOperatorDocument(value);
+                List<String> target = !operators || EQUALITY_OPERATORS.containsAll(value.asDocument().keySet()) ? equality : range;
+                if (!equality.contains(field) && !range.contains(field)) {
+                    target.add(field);
+                }
+            }
+        }
+    }
+
+    private static boolean isOperatorDocument(BsonValue value) {
+        return value.isDocument() && !value.asDocument().isEmpty() && value.asDocument().getFirstKey().startsWith("$");
+    }
+
+    /**
+     * Field names and operators as given, every value as {@code ?}
+     */
+    static String render(BsonDocument filter) {
+        StringBuilder out = new StringBuilder();
+        renderDocument(filter, out);
+        return out.toString();
+    }
+
+    private static void renderDocument(BsonDocument document, StringBuilder out) {
+        out.append('{');
+        boolean first = true;
+        for (Map.Entry<String, BsonValue> entry : document.entrySet()) {
+            if (!first) {
+                out.append(", ");
+            }
+            first = false;
+            out.append(entry.getKey()).append(": ");
+            renderValue(entry.getKey(), entry.getValue(), out);
+        }
+        out.append('}');
+    }
+
+    private static void renderValue(String key, BsonValue value, StringBuilder out) {
+        if ((key.equals("$and") || key.equals("$or") || key.equals("$nor")) && value.isArray()) {
+            BsonArray clauses = value.asArray();
+            out.append('[');
+            for (int i = 0; i < clauses.size(); i++) {
+                if (i > 0) {
+                    out.append(", ");
+                }
+                if (clauses.get(i).isDocument()) {
+                    renderDocument(clauses.get(i).asDocument(), out);
+                } else {
+                    out.append('?');
+                }
+            }
+            out.append(']');
+        } else if (value.isDocument() && (key.startsWith("$") || isOperatorDocument(value))) {
+            // Operators and what they apply to ($elemMatch, $not) are part of the shape
+            renderDocument(value.asDocument(), out);
+        } else {
+            out.append('?');
+        }
+    }
+
+    private static String renderSort(Map<String, Integer> sortFields) {
+        StringBuilder out = new StringBuilder("{");
+        sortFields.forEach((field, direction) -> out.append(out.length() > 1 ? ", " : "").append(field).append(": ").append(direction));
+        return out.append('}').toString();
+    }
+
+    /**
+     * Equality fields, then sort fields, then range fields (ESR), or null when nothing is
+     * filtered or sorted on
+     */
+    public String suggestedIndex() {
+        Map<String, Integer> keys = new LinkedHashMap<>();
+        for (String field : equalityFields) {
+            keys.putIfAbsent(field, 1);
+        }
+        sortFields.forEach(keys::putIfAbsent);
+        for (String field : rangeFields) {
+            keys.putIfAbsent(field, 1);
+        }
+        return keys.isEmpty() ? null : renderSort(keys);
+    }
+}
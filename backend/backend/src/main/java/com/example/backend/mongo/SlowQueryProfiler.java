@@ -0,0 +1,273 @@
+package com.example.backend.mongo;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Driver listener that records read commands slower than a threshold by {@link QueryShape}
+ * and explains each shape in the background.
+ *
+ * Profiled commands are copied when they start, since the driver's command document is only
+ * valid during the callback; the copy is dropped as soon as the command turns out to be fast.
+ * One explain runs at a time, at most once per shape per {@code explainInterval}, and
+ * explains that cannot be queued are skipped until the shape is slow again.
+ */
+public class SlowQueryProfiler implements CommandListener, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(SlowQueryProfiler.class);
+
+    /**
+     * Runs an explain command against a database
+     */
+    @FunctionalInterface
+    public interface Explainer {
+        BsonDocument explain(String database, BsonDocument command);
+    }
+
+    private static final Set<String> PROFILED_COMMANDS = Set.of("find", "aggregate", "count", "distinct");
+
+    // Session and routing fields the driver adds; explain takes the plain command
+    private static final Set<String> SESSION_FIELDS = Set.of(
+        "lsid", "$db", "$clusterTime", "txnNumber", "autocommit", "startTransaction", "$readPreference",
+        "apiVersion", "apiStrict", "apiDeprecationErrors");
+
+    private record Started(String database, BsonDocument command) {}
+
+    private final long thresholdNanos;
+    private final Duration explainInterval;
+    private final double maxExaminedRatio;
+    private final int maxShapes;
+    private final Explainer explainer;
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentHashMap<Integer, Started> inFlight = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<QueryShape, ShapeStats> shapes = new ConcurrentHashMap<>();
+    private final LongAdder untracked = new LongAdder();
+    private final ThreadPoolExecutor explainExecutor;
+
+    public SlowQueryProfiler(Duration threshold, Duration explainInterval, double maxExaminedRatio, int maxShapes,
+                             Explainer explainer, MeterRegistry meterRegistry) {
+        this.thresholdNanos = threshold.toNanos();
+        this.explainInterval = explainInterval;
+        this.maxExaminedRatio = maxExaminedRatio;
+        this.maxShapes = maxShapes;
+        this.explainer = explainer;
+        this.meterRegistry = meterRegistry;
+        this.explainExecutor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(16), r -> {
+            Thread t = new Thread(r, "mongo-explain");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        if (PROFILED_COMMANDS.contains(event.getCommandName())) {
+            inFlight.put(event.getRequestId(), new Started(event.getDatabaseName(), event.getCommand().clone()));
+        }
+    }
+
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event) {
+        finished(event.getRequestId(), event.getCommandName(), event.getElapsedTime(TimeUnit.NANOSECONDS));
+    }
+
+    @Override
+    public void commandFailed(CommandFailedEvent event) {
+        finished(event.getRequestId(), event.getCommandName(), event.getElapsedTime(TimeUnit.NANOSECONDS));
+    }
+
+    private void finished(int requestId, String commandName, long nanos) {
+        Started started = inFlight.remove(requestId);
+        if (started == null || nanos < thresholdNanos) {
+            return;
+        }
+        QueryShape shape = QueryShape.of(commandName, started.command());
+        if (shape == null) {
+            return;
+        }
+        Counter.builder("mongodb.slow.commands")
+            .description("Commands slower than the slow query threshold")
+            .tag("command", commandName)
+            .tag("collection", shape.collection())
+            .register(meterRegistry)
+            .increment();
+        ShapeStats stats = shapes.get(shape);
+        if (stats == null) {
+            if (shapes.size() >= maxShapes) {
+                untracked.increment();
+                return;
+            }
+            stats = shapes.computeIfAbsent(shape, ShapeStats::new);
+        }
+        stats.record(nanos);
+        if (stats.explainDue(explainInterval)) {
+            scheduleExplain(stats, started);
+        }
+    }
+
+    private void scheduleExplain(ShapeStats stats, Started started) {
+        BsonDocument command = new BsonDocument();
+        started.command().forEach((key, value) -> {
+            if (!SESSION_FIELDS.contains(key)) {
+                command.put(key, value);
+            }
+        });
+        BsonDocument explain = new BsonDocument("explain", command).append("verbosity", new BsonString("executionStats"));
+        try {
+            explainExecutor.execute(() -> {
+                try {
+                    stats.explained(ExplainSummary.of(explainer.explain(started.database(), explain)), null);
+                } catch (RuntimeException e) {
+                    log.warn("Could not explain slow {} on {}: {}", stats.shape.command(), stats.shape.collection(), e.getMessage());
+                    stats.explained(null, e.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            stats.explainSkipped();
+        }
+    }
+
+    /**
+     * Shapes ranked by total time spent in slow commands, with their plans and index suggestions
+     */
+    public List<Map<String, Object>> ranked(int limit) {
+        List<ShapeStats> ranked = new ArrayList<>(shapes.values());
+        ranked.sort(Comparator.comparingLong((ShapeStats s) -> s.totalNanos.sum()).reversed());
+        List<Map<String, Object>> result = new ArrayList<>();
+        for (ShapeStats stats : ranked.subList(0, Math.min(limit, ranked.size()))) {
+            result.add(stats.snapshot(maxExaminedRatio));
+        }
+        return result;
+    }
+
+    public long thresholdMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(thresholdNanos);
+    }
+
+    /**
+     * Slow commands not listed because {@code maxShapes} shapes were already tracked
+     */
+    public long untracked() {
+        return untracked.sum();
+    }
+
+    public int clear() {
+        int cleared = shapes.size();
+        shapes.clear();
+        untracked.reset();
+        return cleared;
+    }
+
+    @Override
+    public void close() {
+        explainExecutor.shutdownNow();
+    }
+
+    private static final class ShapeStats {
+        final QueryShape shape;
+        final LongAdder count = new LongAdder();
+        final LongAdder totalNanos = new LongAdder();
+        final AtomicLong maxNanos = new AtomicLong();
+        final AtomicBoolean explaining = new AtomicBoolean();
+        volatile Instant lastSeen;
+        volatile Instant explainedAt;
+        volatile ExplainSummary explain;
+        volatile String explainError;
+
+        ShapeStats(QueryShape shape) {
+            this.shape = shape;
+        }
+
+        void record(long nanos) {
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulateAndGet(nanos, Math::max);
+            lastSeen = Instant.now();
+        }
+
+        /**
+         * True for the one caller that should explain now
+         */
+        boolean explainDue(Duration interval) {
+            Instant last = explainedAt;
+            if (last != null && last.plus(interval).isAfter(Instant.now())) {
+                return false;
+            }
+            return explaining.compareAndSet(false, true);
+        }
+
+        void explained(ExplainSummary summary, String error) {
+            if (summary != null) {
+                explain = summary;
+            }
+            explainError = error;
+            explainedAt = Instant.now();
+            explaining.set(false);
+        }
+
+        void explainSkipped() {
+            explaining.set(false);
+        }
+
+        Map<String, Object> snapshot(double maxExaminedRatio) {
+            long n = count.sum();
+            Map<String, Object> snapshot = new LinkedHashMap<>();
+            snapshot.put("collection", shape.collection());
+            snapshot.put("command", shape.command());
+            snapshot.put("filter", shape.filter());
+            snapshot.put("sort", shape.sort());
+            snapshot.put("count", n);
+            snapshot.put("totalMillis", totalNanos.sum() / 1_000_000);
+            snapshot.put("averageMillis", n == 0 ? 0 : totalNanos.sum() / n / 1_000_000.0);
+            snapshot.put("maxMillis", maxNanos.get() / 1_000_000.0);
+            snapshot.put("lastSeen", lastSeen);
+            ExplainSummary summary = explain;
+            if (summary != null) {
+                List<String> problems = summary.problems(maxExaminedRatio);
+                Map<String, Object> plan = new LinkedHashMap<>();
+                plan.put("collectionScan", summary.collectionScan());
+                plan.put("inMemorySort", summary.inMemorySort());
+                plan.put("indexes", summary.indexes());
+                plan.put("docsExamined", summary.docsExamined());
+                plan.put("keysExamined", summary.keysExamined());
+                plan.put("returned", summary.returned());
+                plan.put("executionMillis", summary.executionMillis());
+                snapshot.put("plan", plan);
+                snapshot.put("problems", problems);
+                String index = problems.isEmpty() ? null : shape.suggestedIndex();
+                snapshot.put("suggestedIndex", index == null ? null
+                    : "db." + shape.collection() + ".createIndex(" + index + ")");
+            }
+            snapshot.put("explainedAt", explainedAt);
+            snapshot.put("explainError", explainError);
+            return snapshot;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.backend.mongo;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings for {@link SlowQueryProfiler}.
+ */
+@ConfigurationProperties(prefix = "mongo.slow-query")
+public class SlowQueryProperties {
+
+    private boolean enabled = true;
+
+    // Commands taking at least this long are recorded
+    private Duration threshold = Duration.ofMillis(100);
+
+    // A shape is explained again after this long; explain runs the query, so not too often
+    private Duration explainInterval = Duration.ofMinutes(10);
+
+    // Documents examined per document returned above which a plan is flagged
+    private double maxExaminedRatio = 10;
+
+    // Distinct shapes kept; slow commands of further shapes are counted but not listed
+    private int maxShapes = 500;
+
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+    public Duration getThreshold() { return threshold; }
+    public void setThreshold(Duration threshold) { this.threshold = threshold; }
+    public Duration getExplainInterval() { return explainInterval; }
+    public void setExplainInterval(Duration explainInterval) { this.explainInterval = explainInterval; }
+    public double getMaxExaminedRatio() { return maxExaminedRatio; }
+    public void setMaxExaminedRatio(double maxExaminedRatio) { this.maxExaminedRatio = maxExaminedRatio; }
+    public int getMaxShapes() { return maxShapes; }
+    public void setMaxShapes(int maxShapes) { this.maxShapes = maxShapes; }
+}
@@ -1,37 +1,97 @@
 package com.example.backend.service;
 
+import java.time.Duration;
 import java.util.Optional;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
 
+import com.example.backend.config.MongoIndexInitializer;
 import com.example.backend.dto.LoginRequest;
 import com.example.backend.dto.SignupRequest;
 import com.example.backend.model.User;
 import com.example.backend.repository.UserRepository;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
 @Service
 public class AuthService {
     
+    private static final Logger log = LoggerFactory.getLogger(AuthService.class);
+    
+    /**
+     * Signup cannot be served right now; the caller should answer 503
+     */
+    public static class SignupUnavailableException extends RuntimeException {
+        public SignupUnavailableException(String message) {
+            super(message);
+        }
+    }
+    
     @Autowired
     private UserRepository userRepository;
     
-    private BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
+    @Autowired
+    private MongoTemplate mongoTemplate;
+    
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
+    @Autowired
+    private MongoIndexInitializer indexInitializer;
+    
+    @Value("${auth.bcrypt.strength:10}")
+    private int bcryptStrength;
+    
+    @Value("${auth.hashing.threads:0}")
+    private int hashingThreads;
+    
+    @Value("${auth.hashing.queue-capacity:64}")
+    private int hashingQueueCapacity;
+    
+    @Value("${auth.hashing.timeout:5s}")
+    private Duration hashingTimeout;
+    
+    private PasswordHasher passwordHasher;
+    
+    @PostConstruct
+    void init() {
+        int threads = hashingThreads > 0 ? hashingThreads : Runtime.getRuntime().availableProcessors();
+        passwordHasher = new PasswordHasher(bcryptStrength, threads, hashingQueueCapacity, hashingTimeout, meterRegistry);
+    }
+    
+    @PreDestroy
+    void shutdown() {
+        passwordHasher.close();
+    }
     
     public User signup(SignupRequest request) {
-        // Check if user already exists
-        if (userRepository.existsByEmail(request.getEmail())) {
-            throw new RuntimeException("Email already exists");
+        // Duplicates are rejected by the unique email index alone, so never insert without it
+        if (!indexInitializer.ensureIndexes(User.class)) {
+            throw new SignupUnavailableException("Signup is temporarily unavailable");
         }
         
-        // Create new user
+        // Create new user; the unique email index rejects duplicates in the same round trip
         User user = new User();
         user.setEmail(request.getEmail());
-        user.setPassword(passwordEncoder.encode(request.getPassword()));
+        user.setPassword(passwordHasher.encode(request.getPassword()));
         user.setName(request.getName());
         
-        return userRepository.save(user);
+        try {
+            return userRepository.insert(user);
+        } catch (DuplicateKeyException e) {
+            throw new RuntimeException("Email already exists");
+        }
     }
     
     public User login(LoginRequest request) {
@@ -45,10 +105,28 @@ public class AuthService {
         User user = userOptional.get();
         
         // Check password
-        if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
+        if (!passwordHasher.matches(request.getPassword(), user.getPassword())) {
             throw new RuntimeException("Invalid email or password");
         }
         
+        // Cost factor changed since this hash was made: rehash in the background, off the login path
+        if (passwordHasher.needsRehash(user.getPassword())) {
+            String previousHash = user.getPassword();
+            passwordHasher.encodeLater(request.getPassword(), rehashed -> updatePasswordHash(user.getId(), previousHash, rehashed));
+        }
+        
         return user;
     }
+    
+    private void updatePasswordHash(String userId, String previousHash, String rehashed) {
+        try {
+            // Only replace the hash that was verified, never a password changed in the meantime
+            mongoTemplate.updateFirst(
+                Query.query(Criteria.where("_id").is(userId).and("password").is(previousHash)),
+                Update.update("password", rehashed),
+                User.class);
+        } catch (Exception e) {
+            log.warn("Failed to store rehashed password for user {}", userId, e);
+        }
+    }
 }
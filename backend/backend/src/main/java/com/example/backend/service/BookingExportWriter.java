@@ -0,0 +1,177 @@
+package com.example.backend.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.http.MediaType;
+
+import com.example.backend.model.Booking;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Writes bookings to an output stream one at a time as a JSON array, NDJSON or CSV, so an
+ * export holds a single booking in memory however many it covers.
+ */
+public class BookingExportWriter {
+
+    public enum Format {
+        JSON(MediaType.APPLICATION_JSON),
+        NDJSON(MediaType.parseMediaType("application/x-ndjson")),
+        CSV(MediaType.parseMediaType("text/csv;charset=UTF-8"));
+
+        private final MediaType mediaType;
+
+        Format(MediaType mediaType) {
+            this.mediaType = mediaType;
+        }
+
+        public MediaType getMediaType() {
+            return mediaType;
+        }
+
+        /**
+         * From a {@code format} parameter, falling back to the Accept header, then JSON
+         */
+        public static Format resolve(String format, String accept) {
+            if (format != null) {
+                for (Format f : values()) {
+                    if (f.name().equalsIgnoreCase(format)) {
+                        return f;
+                    }
+                }
+                throw new IllegalArgumentException("format must be json, ndjson or csv");
+            }
+            if (accept != null) {
+                if (accept.contains(NDJSON.mediaType.toString())) {
+                    return NDJSON;
+                }
+                if (accept.contains("text/csv")) {
+                    return CSV;
+                }
+            }
+            return JSON;
+        }
+    }
+
+    private record Column(String name, Function<Booking, Object> value) {}
+
+    private static final List<Column> CSV_COLUMNS = List.of(
+        new Column("id", Booking::getId),
+        new Column("userEmail", Booking::getUserEmail),
+        new Column("hotelId", Booking::getHotelId),
+        new Column("hotelName", Booking::getHotelName),
+        new Column("fullName", Booking::getFullName),
+        new Column("email", Booking::getEmail),
+        new Column("phone", Booking::getPhone),
+        new Column("checkIn", Booking::getCheckIn),
+        new Column("checkOut", Booking::getCheckOut),
+        new Column("nights", Booking::getNights),
+        new Column("rooms", Booking::getRooms),
+        new Column("adults", Booking::getAdults),
+        new Column("children", Booking::getChildren),
+        new Column("pricePerNight", Booking::getPricePerNight),
+        new Column("totalPrice", Booking::getTotalPrice),
+        new Column("mealPreference", Booking::getMealPreference),
+        new Column("specialRequests", Booking::getSpecialRequests),
+        new Column("status", Booking::getStatus),
+        new Column("bookingDate", Booking::getBookingDate),
+        new Column("cancellationDate", Booking::getCancellationDate),
+        new Column("cancellationReason", Booking::getCancellationReason),
+        new Column("completionDate", Booking::getCompletionDate));
+
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter writer;
+
+    public BookingExportWriter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    public void write(Iterator<Booking> bookings, Format format, OutputStream out) throws IOException {
+        if (format == Format.CSV) {
+            writeCsv(bookings, out);
+            return;
+        }
+        try (JsonGenerator gen = objectMapper.getFactory().createGenerator(out)) {
+            gen.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            boolean ndjson = format == Format.NDJSON;
+            if (ndjson) {
+                gen.setRootValueSeparator(null);
+            } else {
+                gen.writeStartArray();
+            }
+            while (bookings.hasNext()) {
+                writer.writeValue(gen, bookings.next());
+                if (ndjson) {
+                    gen.writeRaw('\n');
+                }
+            }
+            if (!ndjson) {
+                gen.writeEndArray();
+            }
+        }
+    }
+
+    private static void writeCsv(Iterator<Booking> bookings, OutputStream out) throws IOException {
+        // Not closed: the servlet owns the output stream
+        Writer csv = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+        csv.write(csvHeader());
+        while (bookings.hasNext()) {
+            csv.write(csvRow(bookings.next()));
+        }
+        csv.flush();
+    }
+
+    /**
+     * The CSV header line, CRLF-terminated
+     */
+    public static String csvHeader() {
+        StringBuilder line = new StringBuilder();
+        for (Column column : CSV_COLUMNS) {
+            line.append(line.isEmpty() ? "" : ",").append(column.name());
+        }
+        return line.append("\r\n").toString();
+    }
+
+    /**
+     * One booking as a CSV line, CRLF-terminated
+     */
+    public static String csvRow(Booking booking) {
+        StringBuilder line = new StringBuilder(256);
+        for (int i = 0; i < CSV_COLUMNS.size(); i++) {
+            if (i > 0) {
+                line.append(',');
+            }
+            Object value = CSV_COLUMNS.get(i).value().apply(booking);
+            if (value != null) {
+                appendCsvField(line, value.toString());
+            }
+        }
+        return line.append("\r\n").toString();
+    }
+
+    /**
+     * RFC 4180: quote fields holding a separator, quote or line break, doubling inner quotes
+     */
+    static void appendCsvField(StringBuilder line, String value) {
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            line.append(value);
+            return;
+        }
+        line.append('"').append(value.replace("\"", "\"\"")).append('"');
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.backend.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.convert.ConversionException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.mapping.MappingException;
+
+import com.example.backend.inventory.RoomInventory;
+import com.example.backend.model.Booking;
+
+/**
+ * Settles bookings whose insert failed without saying whether the booking was stored, e.g. a
+ * timeout after the server applied the write, and gives back rooms whose release failed.
+ *
+ * Their nights stay reserved, so rooms are never oversold, until the booking is looked up once
+ * {@code settleDelay} has passed: a stored booking keeps its rooms and is handed to
+ * {@code onStored}, a missing one gives them back. Lookups that fail are retried on the next
+ * run, and so are the nights of a {@link #release(Booking)} that could not be given back.
+ * Both are only held in memory; if the process stops first, their rooms stay taken until
+ * released by hand.
+ */
+public class BookingReconciler {
+
+    private static final Logger log = LoggerFactory.getLogger(BookingReconciler.class);
+
+    private record Pending(Booking booking, Instant since) {}
+
+    private record PendingRelease(String bookingId, String hotelId, List<LocalDate> nights, int rooms) {}
+
+    private final Function<String, Optional<Booking>> lookup;
+    private final RoomInventory roomInventory;
+    private final Consumer<Booking> onStored;
+    private final Duration settleDelay;
+    private final Clock clock;
+    private final Queue<Pending> pending = new ConcurrentLinkedQueue<>();
+    private final Queue<PendingRelease> releases = new ConcurrentLinkedQueue<>();
+
+    public BookingReconciler(Function<String, Optional<Booking>> lookup, RoomInventory roomInventory,
+                             Consumer<Booking> onStored, Duration settleDelay) {
+        this(lookup, roomInventory, onStored, settleDelay, Clock.systemUTC());
+    }
+
+    BookingReconciler(Function<String, Optional<Booking>> lookup, RoomInventory roomInventory,
+                      Consumer<Booking> onStored, Duration settleDelay, Clock clock) {
+        this.lookup = lookup;
+        this.roomInventory = roomInventory;
+        this.onStored = onStored;
+        this.settleDelay = settleDelay;
+        this.clock = clock;
+    }
+
+    /**
+     * True for failures that prove nothing was written: rejected by the server as a duplicate,
+     * or failed while the document was being mapped, before anything was sent
+     */
+    public static boolean provesNotStored(RuntimeException e) {
+        return e instanceof DuplicateKeyException
+            || e instanceof InvalidDataAccessApiUsageException
+            || e instanceof MappingException
+            || e instanceof ConversionException
+            || e instanceof IllegalArgumentException;
+    }
+
+    /**
+     * Check later whether {@code booking}, which holds reserved nights and has its id set, was stored
+     */
+    public void add(Booking booking) {
+        pending.add(new Pending(booking, clock.instant()));
+    }
+
+    public int pending() {
+        return pending.size();
+    }
+
+    /**
+     * Bookings with nights whose release failed and is still to be retried
+     */
+    public int pendingReleases() {
+        return releases.size();
+    }
+
+    /**
+     * Give back the rooms of {@code booking}; nights that cannot be given back now are retried
+     * by {@link #reconcile()} instead of failing the caller
+     */
+    public void release(Booking booking) {
+        try {
+            roomInventory.release(booking.getHotelId(), booking.getCheckIn(), booking.getCheckOut(), booking.getRooms());
+        } catch (RoomInventory.ReleaseFailedException e) {
+            log.error("Could not release {} of the nights of booking {}, retrying: {}",
+                e.getNights().size(), booking.getId(), e.getMessage());
+            releases.add(new PendingRelease(booking.getId(), booking.getHotelId(), e.getNights(), booking.getRooms()));
+        } catch (IllegalArgumentException e) {
+            log.error("Booking {} holds rooms for a stay that is not valid; they stay taken: {}", booking.getId(), e.getMessage());
+        }
+    }
+
+    /**
+     * Retry failed releases, then look up every pending booking older than the settle delay and
+     * keep or release its rooms
+     */
+    public void reconcile() {
+        for (int i = releases.size(); i > 0; i--) {
+            PendingRelease entry = releases.poll();
+            if (entry == null) {
+                break;
+            }
+            try {
+                roomInventory.release(entry.hotelId(), entry.nights(), entry.rooms());
+                log.info("Released the remaining nights of booking {}", entry.bookingId());
+            } catch (RoomInventory.ReleaseFailedException e) {
+                log.warn("Could not release {} night(s) of booking {}, retrying: {}",
+                    e.getNights().size(), entry.bookingId(), e.getMessage());
+                releases.add(new PendingRelease(entry.bookingId(), entry.hotelId(), e.getNights(), entry.rooms()));
+            }
+        }
+
+        Instant settled = clock.instant().minus(settleDelay);
+        for (Iterator<Pending> it = pending.iterator(); it.hasNext(); ) {
+            Pending entry = it.next();
+            if (entry.since().isAfter(settled)) {
+                continue;
+            }
+            Booking booking = entry.booking();
+            Optional<Booking> stored;
+            try {
+                stored = lookup.apply(booking.getId());
+            } catch (RuntimeException e) {
+                log.warn("Could not look up booking {} to settle its rooms, retrying: {}", booking.getId(), e.getMessage());
+                continue;
+            }
+            // Removed before releasing: nights that fail are retried on their own, never the whole stay
+            it.remove();
+            if (stored.isPresent()) {
+                log.info("Booking {} was stored despite the failed insert; it keeps its rooms", booking.getId());
+                onStored.accept(stored.get());
+                continue;
+            }
+            log.info("Booking {} was not stored; releasing its rooms", booking.getId());
+            release(booking);
+        }
+    }
+}
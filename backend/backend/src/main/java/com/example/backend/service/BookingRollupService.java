@@ -0,0 +1,191 @@
+package com.example.backend.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import com.example.backend.dto.BookingReport;
+import com.example.backend.model.Booking;
+import com.example.backend.model.BookingDailyRollup;
+import com.mongodb.MongoNamespace;
+import com.mongodb.client.model.RenameCollectionOptions;
+
+/**
+ * Maintains {@link BookingDailyRollup} documents so booking reports never read bookings.
+ */
+@Service
+public class BookingRollupService {
+
+    private static final Logger log = LoggerFactory.getLogger(BookingRollupService.class);
+
+    public static final int MAX_REPORT_DAYS = 366;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    /**
+     * Count a new booking on the day it was made, in a single atomic upsert
+     */
+    public void recordBooking(Booking booking) {
+        if (booking.getHotelId() == null || booking.getBookingDate() == null) {
+            return;
+        }
+        Update update = new Update()
+            .inc("bookings", 1)
+            .inc("revenue", booking.getTotalPrice())
+            .inc("roomNights", (long) booking.getNights() * booking.getRooms());
+        upsert(booking.getHotelId(), booking.getBookingDate().toLocalDate(), update);
+    }
+
+    /**
+     * Count a cancellation on the day it happened, in a single atomic upsert
+     */
+    public void recordCancellation(Booking booking) {
+        if (booking.getHotelId() == null || booking.getCancellationDate() == null) {
+            return;
+        }
+        Update update = new Update()
+            .inc("cancellations", 1)
+            .inc("cancelledRevenue", booking.getTotalPrice())
+            .inc("cancelledRoomNights", (long) booking.getNights() * booking.getRooms());
+        upsert(booking.getHotelId(), booking.getCancellationDate().toLocalDate(), update);
+    }
+
+    private void upsert(String hotelId, LocalDate day, Update update) {
+        BookingDailyRollup key = new BookingDailyRollup(hotelId, day.toString());
+        update.setOnInsert("hotelId", hotelId)
+            .setOnInsert("day", key.getDay())
+            .set("updatedAt", LocalDateTime.now());
+        mongoTemplate.upsert(Query.query(Criteria.where("_id").is(key.getId())), update, BookingDailyRollup.class);
+    }
+
+    /**
+     * Per-day totals between {@code from} and {@code to} inclusive, summed over all hotels when
+     * {@code hotelId} is null. Reads only rollups, through the (hotelId, day) or day index.
+     */
+    public BookingReport report(String hotelId, LocalDate from, LocalDate to) {
+        Document match = new Document("day", new Document("$gte", from.toString()).append("$lte", to.toString()));
+        if (hotelId != null) {
+            match.append("hotelId", hotelId);
+        }
+        List<Document> pipeline = List.of(
+            new Document("$match", match),
+            new Document("$group", new Document("_id", "$day")
+                .append("bookings", new Document("$sum", "$bookings"))
+                .append("revenue", new Document("$sum", "$revenue"))
+                .append("roomNights", new Document("$sum", "$roomNights"))
+                .append("cancellations", new Document("$sum", "$cancellations"))
+                .append("cancelledRevenue", new Document("$sum", "$cancelledRevenue"))
+                .append("cancelledRoomNights", new Document("$sum", "$cancelledRoomNights"))),
+            new Document("$sort", new Document("_id", 1)));
+
+        BookingDailyRollup totals = new BookingDailyRollup();
+        totals.setHotelId(hotelId);
+        List<BookingDailyRollup> days = new ArrayList<>();
+        for (Document row : mongoTemplate.getCollection(mongoTemplate.getCollectionName(BookingDailyRollup.class)).aggregate(pipeline)) {
+            BookingDailyRollup day = new BookingDailyRollup(hotelId, row.getString("_id"));
+            day.setBookings(row.get("bookings", Number.class).longValue());
+            day.setRevenue(row.get("revenue", Number.class).doubleValue());
+            day.setRoomNights(row.get("roomNights", Number.class).longValue());
+            day.setCancellations(row.get("cancellations", Number.class).longValue());
+            day.setCancelledRevenue(row.get("cancelledRevenue", Number.class).doubleValue());
+            day.setCancelledRoomNights(row.get("cancelledRoomNights", Number.class).longValue());
+            totals.add(day);
+            days.add(day);
+        }
+        return new BookingReport(hotelId, from.toString(), to.toString(), totals, days);
+    }
+
+    /**
+     * Recompute every rollup from the bookings collection.
+     *
+     * Two aggregations group bookings by (hotel, booking day) and cancelled bookings by
+     * (hotel, cancellation day) and $merge their totals into a scratch collection, which then
+     * replaces the rollups in one rename; readers see either the old or the new rollups, never
+     * a half-built set. Bookings made or cancelled while a rebuild runs may be missed until the
+     * next rebuild.
+     */
+    public Map<String, Object> rebuild() {
+        long start = System.nanoTime();
+        String target = mongoTemplate.getCollectionName(BookingDailyRollup.class);
+        String scratch = target + "_rebuild";
+        String timezone = ZoneId.systemDefault().getId();
+        mongoTemplate.dropCollection(scratch);
+
+        Document bookingCriteria = new Document("hotelId", new Document("$ne", null))
+            .append("bookingDate", new Document("$ne", null));
+        merge(bookingCriteria, "bookingDate", timezone, scratch, new Document()
+            .append("bookings", new Document("$sum", 1))
+            .append("revenue", new Document("$sum", "$totalPrice"))
+            .append("roomNights", new Document("$sum", new Document("$multiply", List.of("$nights", "$rooms")))));
+        Document cancellationCriteria = new Document("hotelId", new Document("$ne", null))
+            .append("status", "CANCELLED")
+            .append("cancellationDate", new Document("$ne", null));
+        merge(cancellationCriteria, "cancellationDate", timezone, scratch, new Document()
+            .append("cancellations", new Document("$sum", 1))
+            .append("cancelledRevenue", new Document("$sum", "$totalPrice"))
+            .append("cancelledRoomNights", new Document("$sum", new Document("$multiply", List.of("$nights", "$rooms")))));
+
+        // A booking-free database produces no scratch collection; there is then nothing to report
+        long rollups = mongoTemplate.collectionExists(scratch) ? mongoTemplate.getCollection(scratch).countDocuments() : 0;
+        if (rollups == 0) {
+            mongoTemplate.dropCollection(target);
+        } else {
+            IndexOperations indexOps = mongoTemplate.indexOps(scratch);
+            new MongoPersistentEntityIndexResolver(mongoTemplate.getConverter().getMappingContext())
+                .resolveIndexFor(BookingDailyRollup.class)
+                .forEach(indexOps::ensureIndex);
+            mongoTemplate.getCollection(scratch).renameCollection(
+                new MongoNamespace(mongoTemplate.getDb().getName(), target),
+                new RenameCollectionOptions().dropTarget(true));
+        }
+
+        long millis = (System.nanoTime() - start) / 1_000_000;
+        log.info("Rebuilt {} booking rollups in {} ms", rollups, millis);
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("rollups", rollups);
+        result.put("millis", millis);
+        return result;
+    }
+
+    private void merge(Document criteria, String dateField, String timezone, String into, Document sums) {
+        Document day = new Document("$dateToString", new Document("format", "%Y-%m-%d")
+            .append("date", "$" + dateField)
+            .append("timezone", timezone));
+        Document group = new Document("_id", new Document("hotelId", new Document("$toString", "$hotelId")).append("day", day));
+        group.putAll(sums);
+        Document project = new Document("_id", new Document("$concat", List.of("$_id.hotelId", "|", "$_id.day")))
+            .append("hotelId", "$_id.hotelId")
+            .append("day", "$_id.day")
+            .append("updatedAt", "$$NOW");
+        sums.keySet().forEach(field -> project.append(field, 1));
+        List<Document> pipeline = List.of(
+            new Document("$match", criteria),
+            new Document("$group", group),
+            new Document("$project", project),
+            new Document("$merge", new Document("into", into)
+                .append("on", "_id")
+                .append("whenMatched", "merge")
+                .append("whenNotMatched", "insert")));
+        mongoTemplate.getCollection(mongoTemplate.getCollectionName(Booking.class))
+            .aggregate(pipeline)
+            .allowDiskUse(true)
+            .toCollection();
+    }
+}
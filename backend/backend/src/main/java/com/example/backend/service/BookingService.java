@@ -1,26 +1,138 @@
 package com.example.backend.service;
 
+import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import com.example.backend.dto.BookingSummary;
+import com.example.backend.dto.PageResponse;
+import com.example.backend.inventory.RoomInventory;
 import com.example.backend.model.Booking;
 import com.example.backend.repository.BookingRepository;
+import com.example.backend.util.ReadQueries;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 
 @Service
 public class BookingService {
     
+    private static final Logger log = LoggerFactory.getLogger(BookingService.class);
+    
+    private static final int EXPORT_BATCH_SIZE = 500;
+    
+    /**
+     * The booking's insert failed in a way that does not say whether it was stored; its rooms
+     * stay reserved until {@link BookingReconciler} has looked it up
+     */
+    public static class OutcomeUnknownException extends RuntimeException {
+        private final String bookingId;
+        
+        public OutcomeUnknownException(String bookingId, Throwable cause) {
+            super("Booking " + bookingId + " may not have been saved: " + cause.getMessage(), cause);
+            this.bookingId = bookingId;
+        }
+        
+        public String getBookingId() {
+            return bookingId;
+        }
+    }
+    
     @Autowired
     private BookingRepository bookingRepository;
     
-    // Create a new booking
+    @Autowired
+    private MongoTemplate mongoTemplate;
+    
+    @Autowired
+    private RoomInventory roomInventory;
+    
+    @Autowired
+    private BookingRollupService bookingRollupService;
+    
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
+    @Value("${bookings.reconcile.settle-delay:2m}")
+    private Duration settleDelay;
+    
+    private BookingReconciler reconciler;
+    
+    @PostConstruct
+    void init() {
+        reconciler = new BookingReconciler(bookingRepository::findById, roomInventory, this::recordInRollup, settleDelay);
+        Gauge.builder("bookings.reconcile.pending", reconciler, BookingReconciler::pending)
+            .description("Bookings whose insert outcome is unknown and whose rooms are still held")
+            .register(meterRegistry);
+        Gauge.builder("bookings.release.pending", reconciler, BookingReconciler::pendingReleases)
+            .description("Bookings with nights whose release failed and is being retried")
+            .register(meterRegistry);
+    }
+    
+    /**
+     * Reserve every night of the stay, then save the booking. Throws
+     * {@link RoomInventory.SoldOutException} when any night is full. The rooms are given back
+     * when the insert provably stored nothing; after any other failure, such as a timeout, the
+     * booking may exist, so {@link OutcomeUnknownException} is thrown and the rooms are kept
+     * until the reconciler has checked.
+     */
     public Booking createBooking(Booking booking) {
+        roomInventory.reserve(booking.getHotelId(), booking.getCheckIn(), booking.getCheckOut(), booking.getRooms());
+        // Chosen here rather than by the driver, so a booking with an unknown outcome can be looked up
+        booking.setId(new ObjectId().toHexString());
         booking.setStatus("CONFIRMED");
         booking.setBookingDate(LocalDateTime.now());
-        return bookingRepository.save(booking);
+        booking.setInventoryReserved(true);
+        Booking saved;
+        try {
+            saved = bookingRepository.insert(booking);
+        } catch (RuntimeException e) {
+            if (BookingReconciler.provesNotStored(e)) {
+                reconciler.release(booking);
+                throw e;
+            }
+            log.error("Insert of booking {} failed with an unknown outcome; its rooms stay held until it is reconciled",
+                booking.getId(), e);
+            reconciler.add(booking);
+            throw new OutcomeUnknownException(booking.getId(), e);
+        }
+        recordInRollup(saved);
+        return saved;
+    }
+    
+    private void recordInRollup(Booking saved) {
+        try {
+            bookingRollupService.recordBooking(saved);
+        } catch (Exception e) {
+            // The booking stands; a rollup rebuild will count it
+            log.warn("Could not update booking rollup for {}: {}", saved.getId(), e.getMessage());
+        }
+    }
+    
+    /**
+     * Keep or release the rooms of bookings whose insert outcome was unknown, and retry failed
+     * releases
+     */
+    @Scheduled(fixedDelayString = "${bookings.reconcile.interval:PT1M}")
+    public void reconcileBookings() {
+        reconciler.reconcile();
     }
     
     // Get all bookings for a user
@@ -28,35 +140,102 @@ public class BookingService {
         return bookingRepository.findByUserEmail(userEmail);
     }
     
+    /**
+     * One page of a user's bookings, newest first, as summaries. Served by the
+     * (userEmail[, status], bookingDate, _id) indexes and reads at most {@code limit + 1} documents.
+     *
+     * @throws IllegalArgumentException for an unknown status or a malformed cursor
+     */
+    public PageResponse<BookingSummary> getUserBookingPage(String userEmail, String status, int limit, String cursor) {
+        Query query = ReadQueries.userBookingPage(userEmail, status, limit, cursor);
+        // Projecting into the DTO reads only its fields from the documents
+        List<BookingSummary> bookings = mongoTemplate.query(Booking.class).as(BookingSummary.class).matching(query).all();
+        return ReadQueries.page(bookings, limit, ReadQueries::bookingCursor);
+    }
+    
     // Get booking by ID
     public Optional<Booking> getBookingById(String bookingId) {
         return bookingRepository.findById(bookingId);
     }
     
-    // Cancel a booking
+    /**
+     * Cancel a confirmed booking and give back its rooms. The cancellation stands once written:
+     * nights that cannot be released straight away are retried by the reconciler.
+     */
     public Booking cancelBooking(String bookingId, String reason) {
-        Optional<Booking> bookingOpt = bookingRepository.findById(bookingId);
+        LocalDateTime now = LocalDateTime.now();
+        Update update = new Update()
+            .set("status", "CANCELLED")
+            .set("cancellationDate", now)
+            .set("cancellationReason", reason)
+            // Cleared by the transition itself, so only the call that wins it releases the nights
+            .set("inventoryReserved", false);
+        Booking cancelled = transition(bookingId, "CANCELLED", update, false);
+        boolean heldRooms = cancelled.isInventoryReserved();
+        cancelled.setStatus("CANCELLED");
+        cancelled.setCancellationDate(now);
+        cancelled.setCancellationReason(reason);
+        cancelled.setInventoryReserved(false);
+        if (heldRooms) {
+            reconciler.release(cancelled);
+        }
+        try {
+            bookingRollupService.recordCancellation(cancelled);
+        } catch (Exception e) {
+            log.warn("Could not update booking rollup for {}: {}", bookingId, e.getMessage());
+        }
+        return cancelled;
+    }
+    
+    // Mark a confirmed booking as completed
+    public Booking completeBooking(String bookingId) {
+        Update update = new Update()
+            .set("status", "COMPLETED")
+            .set("completionDate", LocalDateTime.now());
+        return transition(bookingId, "COMPLETED", update, true);
+    }
+    
+    /**
+     * Move a CONFIRMED booking to another status in one conditional findAndModify, so only the
+     * changed fields are written and of two concurrent transitions exactly one wins. Returns the
+     * booking as updated, or as it was before when {@code returnNew} is false. The booking is
+     * read again only to explain a transition that did not apply.
+     */
+    private Booking transition(String bookingId, String targetStatus, Update update, boolean returnNew) {
+        Booking updated = mongoTemplate.findAndModify(
+            Query.query(Criteria.where("_id").is(bookingId).and("status").is("CONFIRMED")),
+            update,
+            FindAndModifyOptions.options().returnNew(returnNew),
+            Booking.class);
+        if (updated != null) {
+            return updated;
+        }
         
-        if (bookingOpt.isEmpty()) {
+        Optional<Booking> current = bookingRepository.findById(bookingId);
+        if (current.isEmpty()) {
             throw new RuntimeException("Booking not found");
         }
-        
-        Booking booking = bookingOpt.get();
-        
-        if ("CANCELLED".equals(booking.getStatus())) {
-            throw new RuntimeException("Booking is already cancelled");
+        if (targetStatus.equals(current.get().getStatus())) {
+            throw new RuntimeException("Booking is already " + targetStatus.toLowerCase());
         }
-        
-        booking.setStatus("CANCELLED");
-        booking.setCancellationDate(LocalDateTime.now());
-        booking.setCancellationReason(reason);
-        
-        return bookingRepository.save(booking);
+        String status = current.get().getStatus();
+        // Bookings stored before statuses were set may have none
+        throw new RuntimeException((status == null ? "Booking has no status" : "Booking is " + status.toLowerCase())
+            + " and cannot be " + targetStatus.toLowerCase());
     }
     
-    // Get all bookings (admin)
-    public List<Booking> getAllBookings() {
-        return bookingRepository.findAll();
+    /**
+     * Every booking matching the filters in _id order, read from a Mongo cursor
+     * {@value #EXPORT_BATCH_SIZE} documents at a time; the caller must close the stream.
+     * {@code from} and {@code to} bound the booking date, both inclusive. An export that broke
+     * off is resumed by passing the id of the last booking received as {@code after}.
+     *
+     * @throws IllegalArgumentException for an unknown status
+     */
+    public Stream<Booking> streamBookings(LocalDate from, LocalDate to, String status, String after) {
+        Query query = ReadQueries.bookingExport(from, to, status, after);
+        query.cursorBatchSize(EXPORT_BATCH_SIZE);
+        return mongoTemplate.stream(query, Booking.class);
     }
     
     // Get confirmed bookings only
@@ -1,5 +1,6 @@
 package com.example.backend.service;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
@@ -7,13 +8,20 @@ import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 
 import com.example.backend.dto.HotelResponse;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
-import java.util.ArrayList;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import java.io.IOException;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -27,21 +35,58 @@ public class HotelApiService {
     @Value("${hotelapi.password:}")
     private String password;
     
-    private String jwtToken;
-    private final RestTemplate restTemplate = new RestTemplate();
+    @Value("${hotelapi.auth-url:https://api.makcorps.com/auth}")
+    private String authUrl;
+    
+    @Value("${hotelapi.base-url:https://api.makcorps.com/free}")
+    private String baseUrl;
+    
+    @Value("${hotelapi.cache.max-cities:1000}")
+    private long cacheMaxCities;
+    
+    @Value("${hotelapi.cache.ttl:30m}")
+    private Duration cacheTtl;
+    
+    @Value("${hotelapi.cache.refresh-after:5m}")
+    private Duration cacheRefreshAfter;
+    
+    @Value("${hotelapi.token.refresh-ahead:5m}")
+    private Duration tokenRefreshAhead;
+    
+    @Value("${hotelapi.token.default-lifetime:30m}")
+    private Duration tokenDefaultLifetime;
+    
+    @Autowired
+    private RestTemplate restTemplate;
+    
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
+    private HotelSearchCache searchCache;
+    private HotelApiTokenManager tokenManager;
     private final ObjectMapper objectMapper = new ObjectMapper();
+    private final MakCorpsResponseParser responseParser = new MakCorpsResponseParser(objectMapper.getFactory());
     
-    private static final String AUTH_URL = "https://api.makcorps.com/auth";
-    private static final String HOTELS_BASE_URL = "https://api.makcorps.com/free";
+    @PostConstruct
+    void init() {
+        tokenManager = new HotelApiTokenManager(this::requestJwtToken, tokenRefreshAhead, tokenDefaultLifetime);
+        if (username != null && !username.isBlank()) {
+            // Warm up in the background so the first search does not pay for authentication
+            tokenManager.warmUp();
+        }
+        searchCache = new HotelSearchCache(this::fetchHotelsByCity, cacheMaxCities, cacheTtl, cacheRefreshAfter);
+        CaffeineCacheMetrics.monitor(meterRegistry, searchCache.nativeCache(), "hotels.search");
+    }
+    
+    @PreDestroy
+    void shutdown() {
+        tokenManager.close();
+    }
     
     /**
-     * Authenticate and get JWT token
+     * Authenticate and get a fresh JWT token; callers go through the token manager
      */
-    private String getJwtToken() {
-        if (jwtToken != null) {
-            return jwtToken;
-        }
-        
+    private String requestJwtToken() {
         try {
             HttpHeaders headers = new HttpHeaders();
             headers.setContentType(MediaType.APPLICATION_JSON);
@@ -52,93 +97,67 @@ public class HotelApiService {
             
             HttpEntity<Map<String, String>> request = new HttpEntity<>(authRequest, headers);
             
-            ResponseEntity<String> response = restTemplate.postForEntity(AUTH_URL, request, String.class);
+            ResponseEntity<String> response = restTemplate.postForEntity(authUrl, request, String.class);
             
             JsonNode jsonNode = objectMapper.readTree(response.getBody());
-            jwtToken = jsonNode.get("access_token").asText();
+            if (!jsonNode.hasNonNull("access_token")) {
+                throw new IllegalStateException("no access_token in response");
+            }
             
-            return jwtToken;
+            return jsonNode.get("access_token").asText();
         } catch (Exception e) {
             throw new RuntimeException("Failed to authenticate with Hotel API: " + e.getMessage());
         }
     }
     
     /**
-     * Search hotels by city name
+     * Search hotels by city name, served from the search cache when possible
      */
     public List<HotelResponse> searchHotelsByCity(String city) {
+        return searchCache.get(city);
+    }
+    
+    /**
+     * Hit/miss/load-time counters of the search cache
+     */
+    public Map<String, Object> getSearchCacheStats() {
+        return searchCache.statsSnapshot();
+    }
+    
+    /**
+     * Fetch hotels for an already normalized city straight from the upstream API
+     */
+    private List<HotelResponse> fetchHotelsByCity(String city) {
         try {
-            String token = getJwtToken();
-            
-            HttpHeaders headers = new HttpHeaders();
-            headers.set("Authorization", "JWT " + token);
-            
-            HttpEntity<String> entity = new HttpEntity<>(headers);
-            
-            String url = HOTELS_BASE_URL + "/" + city.toLowerCase();
-            ResponseEntity<String> response = restTemplate.exchange(
-                url,
-                HttpMethod.GET,
-                entity,
-                String.class
-            );
-            
-            return parseHotelResponse(response.getBody());
+            String token = tokenManager.getToken();
+            try {
+                return requestHotels(city, token);
+            } catch (HttpClientErrorException.Unauthorized e) {
+                // Token was revoked or expired early: refresh once and retry
+                return requestHotels(city, tokenManager.refreshAfterUnauthorized(token));
+            }
         } catch (Exception e) {
             throw new RuntimeException("Failed to fetch hotels: " + e.getMessage());
         }
     }
     
     /**
-     * Parse the API response into HotelResponse objects
+     * Fetch the city's hotels, parsing the response body as it streams in
      */
-    private List<HotelResponse> parseHotelResponse(String jsonResponse) {
-        List<HotelResponse> hotels = new ArrayList<>();
-        
-        try {
-            JsonNode rootNode = objectMapper.readTree(jsonResponse);
-            
-            if (rootNode.isArray()) {
-                for (JsonNode hotelNode : rootNode) {
-                    if (hotelNode.isArray() && hotelNode.size() >= 2) {
-                        JsonNode hotelInfo = hotelNode.get(0);
-                        JsonNode pricesNode = hotelNode.get(1);
-                        
-                        String hotelName = hotelInfo.get("hotelName").asText();
-                        String hotelId = hotelInfo.get("hotelId").asText();
-                        
-                        List<HotelResponse.PriceInfo> prices = new ArrayList<>();
-                        
-                        if (pricesNode.isArray()) {
-                            for (JsonNode priceNode : pricesNode) {
-                                // Extract price1, price2, etc.
-                                for (int i = 1; i <= 4; i++) {
-                                    String priceKey = "price" + i;
-                                    String taxKey = "tax" + i;
-                                    String vendorKey = "vendor" + i;
-                                    
-                                    if (priceNode.has(priceKey)) {
-                                        JsonNode priceValue = priceNode.get(priceKey);
-                                        if (!priceValue.isNull()) {
-                                            String price = priceValue.asText();
-                                            String tax = priceNode.has(taxKey) ? priceNode.get(taxKey).asText() : "0";
-                                            String vendor = priceNode.has(vendorKey) ? priceNode.get(vendorKey).asText() : "";
-                                            
-                                            prices.add(new HotelResponse.PriceInfo(price, tax, vendor));
-                                        }
-                                    }
-                                }
-                            }
-                        }
-                        
-                        hotels.add(new HotelResponse(hotelName, hotelId, prices));
-                    }
+    private List<HotelResponse> requestHotels(String city, String token) {
+        // City goes in as a URI variable so client metrics are tagged with the template, not every city
+        return restTemplate.execute(
+            baseUrl + "/{city}",
+            HttpMethod.GET,
+            request -> request.getHeaders().set("Authorization", "JWT " + token),
+            response -> {
+                try {
+                    return responseParser.parse(response.getBody());
+                } catch (IOException | RuntimeException e) {
+                    throw new RuntimeException("Failed to parse hotel response: " + e.getMessage());
                 }
-            }
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to parse hotel response: " + e.getMessage());
-        }
-        
-        return hotels;
+            },
+            city
+        );
     }
 }
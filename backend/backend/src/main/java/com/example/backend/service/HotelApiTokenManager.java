@@ -0,0 +1,210 @@
+package com.example.backend.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Keeps a valid Hotel API JWT available without putting the auth call on the request path.
+ *
+ * The token's {@code exp} claim decides when it is refreshed: a background refresh is
+ * scheduled ahead of expiry, and callers that see a token inside the refresh window still
+ * get it immediately while one refresh runs. Only a missing or expired token makes a
+ * caller wait, and then all waiting callers share a single auth call. At most one background
+ * refresh is pending at any time; each completed refresh replaces it.
+ */
+public class HotelApiTokenManager implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(HotelApiTokenManager.class);
+
+    // Treat tokens as expired slightly early to absorb clock skew and request latency
+    private static final Duration EXPIRY_SKEW = Duration.ofSeconds(10);
+    private static final Duration RETRY_DELAY = Duration.ofSeconds(30);
+
+    private final Supplier<String> authenticator;
+    private final Duration refreshAhead;
+    private final Duration defaultLifetime;
+    private final Clock clock;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "hotel-api-token-refresh");
+        t.setDaemon(true);
+        return t;
+    });
+
+    private final AtomicReference<Token> current = new AtomicReference<>();
+    private final AtomicReference<CompletableFuture<Token>> inFlight = new AtomicReference<>();
+    // The one pending background refresh; guarded by this
+    private ScheduledFuture<?> scheduled;
+
+    public HotelApiTokenManager(Supplier<String> authenticator, Duration refreshAhead, Duration defaultLifetime) {
+        this(authenticator, refreshAhead, defaultLifetime, Clock.systemUTC());
+    }
+
+    HotelApiTokenManager(Supplier<String> authenticator, Duration refreshAhead, Duration defaultLifetime, Clock clock) {
+        this.authenticator = authenticator;
+        this.refreshAhead = refreshAhead;
+        this.defaultLifetime = defaultLifetime;
+        this.clock = clock;
+    }
+
+    /**
+     * Current token; only blocks when there is no usable token at all
+     */
+    public String getToken() {
+        Token token = current.get();
+        Instant now = clock.instant();
+        if (token != null && now.isBefore(token.expiresAt)) {
+            if (!now.isBefore(token.refreshAt)) {
+                refresh();
+            }
+            return token.value;
+        }
+        return await(refresh()).value;
+    }
+
+    /**
+     * Called after the API answered 401 for {@code rejected}. Threads that saw the same
+     * rejected token share one refresh; a token that was already replaced is returned as is.
+     */
+    public String refreshAfterUnauthorized(String rejected) {
+        Token token = current.get();
+        if (token != null && !token.value.equals(rejected)) {
+            return token.value;
+        }
+        current.compareAndSet(token, null);
+        return await(refresh()).value;
+    }
+
+    /**
+     * Fetch a token in the background, e.g. at startup, without waiting for it
+     */
+    public void warmUp() {
+        refresh();
+    }
+
+    /**
+     * Start a refresh unless one is already running, and return it
+     */
+    CompletableFuture<Token> refresh() {
+        while (true) {
+            CompletableFuture<Token> running = inFlight.get();
+            if (running != null) {
+                return running;
+            }
+            CompletableFuture<Token> created = new CompletableFuture<>();
+            if (inFlight.compareAndSet(null, created)) {
+                scheduler.execute(() -> runRefresh(created));
+                return created;
+            }
+        }
+    }
+
+    private void runRefresh(CompletableFuture<Token> result) {
+        Token token;
+        try {
+            token = decode(authenticator.get());
+        } catch (Throwable e) {
+            Token previous = current.get();
+            if (previous != null && clock.instant().isBefore(previous.expiresAt)) {
+                log.warn("Background Hotel API token refresh failed, retrying in {}", RETRY_DELAY, e);
+                scheduleRefresh(RETRY_DELAY);
+            }
+            // Clear before completing so later callers never pick up a finished refresh
+            inFlight.compareAndSet(result, null);
+            result.completeExceptionally(e);
+            return;
+        }
+        current.set(token);
+        Duration untilRefresh = Duration.between(clock.instant(), token.refreshAt);
+        // A token that is already due must not turn into a tight refresh loop
+        scheduleRefresh(untilRefresh.isNegative() || untilRefresh.isZero() ? RETRY_DELAY : untilRefresh);
+        inFlight.compareAndSet(result, null);
+        result.complete(token);
+    }
+
+    /**
+     * Replace the pending background refresh, whichever refresh scheduled it
+     */
+    private synchronized void scheduleRefresh(Duration delay) {
+        if (scheduled != null) {
+            scheduled.cancel(false);
+        }
+        scheduled = scheduler.schedule(this::refresh, delay.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private Token await(CompletableFuture<Token> refresh) {
+        try {
+            return refresh.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new RuntimeException("Failed to authenticate with Hotel API: " + cause.getMessage(), cause);
+        }
+    }
+
+    /**
+     * Read {@code exp} from the JWT payload; opaque tokens get the default lifetime
+     */
+    Token decode(String value) {
+        if (value == null || value.isBlank()) {
+            throw new IllegalStateException("Hotel API returned an empty token");
+        }
+        Instant now = clock.instant();
+        Instant expiresAt = now.plus(defaultLifetime);
+        String[] parts = value.split("\\.");
+        if (parts.length >= 2) {
+            try {
+                JsonNode claims = objectMapper.readTree(new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8));
+                if (claims.hasNonNull("exp")) {
+                    expiresAt = Instant.ofEpochSecond(claims.get("exp").asLong());
+                }
+            } catch (Exception e) {
+                log.warn("Could not decode Hotel API token expiry, assuming {}", defaultLifetime);
+            }
+        }
+        Instant usableUntil = expiresAt.minus(EXPIRY_SKEW);
+        Duration lifetime = Duration.between(now, usableUntil);
+        Duration ahead = lifetime.isNegative() ? Duration.ZERO : min(refreshAhead, lifetime.dividedBy(2));
+        return new Token(value, usableUntil, usableUntil.minus(ahead));
+    }
+
+    private static Duration min(Duration a, Duration b) {
+        return a.compareTo(b) <= 0 ? a : b;
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    static final class Token {
+        final String value;
+        final Instant expiresAt;
+        final Instant refreshAt;
+
+        Token(String value, Instant expiresAt, Instant refreshAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+            this.refreshAt = refreshAt;
+        }
+    }
+}
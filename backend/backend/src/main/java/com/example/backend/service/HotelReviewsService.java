@@ -0,0 +1,64 @@
+package com.example.backend.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.stereotype.Service;
+
+import com.example.backend.dto.HotelReviewsDto;
+import com.example.backend.dto.ReviewDto;
+import com.example.backend.model.HotelRatingSummary;
+import com.example.backend.model.Review;
+
+/**
+ * Latest reviews and rating summaries for many hotels in one round trip.
+ */
+@Service
+public class HotelReviewsService {
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    /**
+     * One aggregation: the hotel ids become input documents, and per hotel one $lookup takes
+     * the newest {@code latest} reviews through the (hotelId, createdAt, _id) index while a
+     * second $lookup joins the maintained rating summary. Only {@code latest} reviews are read
+     * per hotel however many it has. Needs MongoDB 5.1+ for {@code $documents}.
+     */
+    public List<HotelReviewsDto> findLatest(List<Long> hotelIds, int latest) {
+        List<Long> ids = hotelIds.stream().distinct().toList();
+        List<Document> pipeline = List.of(
+            new Document("$documents", ids.stream().map(id -> new Document("hotelId", id)).toList()),
+            new Document("$lookup", new Document("from", mongoTemplate.getCollectionName(Review.class))
+                .append("localField", "hotelId")
+                .append("foreignField", "hotelId")
+                .append("pipeline", List.of(
+                    new Document("$sort", new Document("createdAt", -1).append("_id", -1)),
+                    new Document("$limit", latest)))
+                .append("as", "reviews")),
+            new Document("$lookup", new Document("from", mongoTemplate.getCollectionName(HotelRatingSummary.class))
+                .append("localField", "hotelId")
+                .append("foreignField", "_id")
+                .append("as", "summary")));
+
+        MongoConverter converter = mongoTemplate.getConverter();
+        List<HotelReviewsDto> result = new ArrayList<>(ids.size());
+        // $documents keeps input order, so results line up with the requested ids
+        for (Document row : mongoTemplate.getDb().aggregate(pipeline)) {
+            Long hotelId = ((Number) row.get("hotelId")).longValue();
+            List<ReviewDto> reviews = row.getList("reviews", Document.class).stream()
+                .map(doc -> new ReviewDto(converter.read(Review.class, doc)))
+                .toList();
+            List<Document> summaries = row.getList("summary", Document.class);
+            HotelRatingSummary summary = summaries.isEmpty()
+                ? new HotelRatingSummary(hotelId)
+                : converter.read(HotelRatingSummary.class, summaries.get(0));
+            result.add(new HotelReviewsDto(hotelId, summary, reviews));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.backend.service;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+import com.example.backend.dto.HotelResponse;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+/**
+ * Bounded in-process cache for hotel search results, keyed by normalized city.
+ *
+ * Entries are served as-is until {@code refreshAfter}, then served stale while a
+ * single background reload runs, and are dropped once {@code ttl} has passed.
+ * Concurrent misses for the same city wait on one upstream call.
+ */
+public class HotelSearchCache {
+
+    private final LoadingCache<String, List<HotelResponse>> cache;
+
+    public HotelSearchCache(Function<String, List<HotelResponse>> loader, long maxCities, Duration ttl, Duration refreshAfter) {
+        if (refreshAfter.compareTo(ttl) >= 0) {
+            throw new IllegalArgumentException("refreshAfter must be shorter than ttl");
+        }
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maxCities)
+            .expireAfterWrite(ttl)
+            .refreshAfterWrite(refreshAfter)
+            .recordStats()
+            .build(city -> List.copyOf(loader.apply(city)));
+    }
+
+    public List<HotelResponse> get(String city) {
+        return cache.get(normalize(city));
+    }
+
+    public void invalidate(String city) {
+        cache.invalidate(normalize(city));
+    }
+
+    public long size() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    /**
+     * The underlying Caffeine cache, for binding cache metrics
+     */
+    LoadingCache<String, List<HotelResponse>> nativeCache() {
+        return cache;
+    }
+
+    /**
+     * Hit/miss/load counters in a shape that can be returned from a controller
+     */
+    public Map<String, Object> statsSnapshot() {
+        CacheStats stats = cache.stats();
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("size", size());
+        snapshot.put("hits", stats.hitCount());
+        snapshot.put("misses", stats.missCount());
+        snapshot.put("hitRate", stats.hitRate());
+        snapshot.put("loads", stats.loadSuccessCount());
+        snapshot.put("loadFailures", stats.loadFailureCount());
+        snapshot.put("averageLoadMillis", stats.averageLoadPenalty() / 1_000_000.0);
+        snapshot.put("totalLoadMillis", stats.totalLoadTime() / 1_000_000);
+        snapshot.put("evictions", stats.evictionCount());
+        return snapshot;
+    }
+
+    /**
+     * "  New   York " and "new york" share one entry
+     */
+    public static String normalize(String city) {
+        if (city == null || city.isBlank()) {
+            throw new IllegalArgumentException("City must not be blank");
+        }
+        return city.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,445 @@
+package com.example.backend.service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.example.backend.dto.HotelFilterResponse;
+
+/**
+ * In-memory filter and facet index over the seeded {@code hotels} collection.
+ *
+ * Hotels are kept in price order, so a price range is a contiguous run of positions found
+ * by binary search. City, country, star level and amenity each map to a BitSet of positions;
+ * a query ANDs the selected bitmaps with the price run and walks the result once for the page
+ * and once for the facet counts. The index is loaded on first use, rebuilt from Mongo on a
+ * schedule and swapped in whole, so readers never see a half-built index.
+ */
+@Service
+public class HotelSearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(HotelSearchIndex.class);
+
+    private static final int CURSOR_BATCH_SIZE = 1000;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    private volatile Snapshot snapshot;
+
+    public HotelFilterResponse search(Filter filter) {
+        return current().search(filter);
+    }
+
+    /**
+     * Rebuild from Mongo; skipped until the first search has loaded the index
+     */
+    @Scheduled(fixedDelayString = "${hotels.index.refresh-interval:PT5M}",
+            initialDelayString = "${hotels.index.refresh-interval:PT5M}")
+    public void refresh() {
+        if (snapshot == null) {
+            return;
+        }
+        try {
+            snapshot = load();
+        } catch (Exception e) {
+            log.warn("Hotel index refresh failed, keeping the index from {}", snapshot.indexedAt, e);
+        }
+    }
+
+    private Snapshot current() {
+        Snapshot loaded = snapshot;
+        if (loaded == null) {
+            synchronized (this) {
+                loaded = snapshot;
+                if (loaded == null) {
+                    loaded = load();
+                    snapshot = loaded;
+                }
+            }
+        }
+        return loaded;
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private Snapshot load() {
+        long start = System.nanoTime();
+        Query query = new Query();
+        query.cursorBatchSize(CURSOR_BATCH_SIZE);
+        List<Map<String, Object>> hotels = new ArrayList<>();
+        try (Stream<Map> docs = mongoTemplate.stream(query, Map.class, "hotels")) {
+            docs.forEach(doc -> hotels.add(doc));
+        }
+        Snapshot built = Snapshot.build(hotels);
+        log.info("Indexed {} hotels in {} ms", hotels.size(), (System.nanoTime() - start) / 1_000_000);
+        return built;
+    }
+
+    public enum Sort {
+        PRICE_ASC, PRICE_DESC, STARS_DESC;
+
+        public static Sort parse(String value) {
+            if (value == null || value.isBlank()) {
+                return PRICE_ASC;
+            }
+            try {
+                return valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unknown sort: " + value);
+            }
+        }
+    }
+
+    /**
+     * Query over the index. Values within cities, countries and stars are alternatives;
+     * every listed amenity must be present. Matching is case-insensitive.
+     */
+    public static class Filter {
+        private List<String> cities = List.of();
+        private List<String> countries = List.of();
+        private List<Integer> stars = List.of();
+        private List<String> amenities = List.of();
+        private Double minPrice;
+        private Double maxPrice;
+        private Sort sort = Sort.PRICE_ASC;
+        private int offset;
+        private int limit = 20;
+
+        public Filter cities(List<String> cities) {
+            this.cities = cities == null ? List.of() : cities;
+            return this;
+        }
+
+        public Filter countries(List<String> countries) {
+            this.countries = countries == null ? List.of() : countries;
+            return this;
+        }
+
+        public Filter stars(List<Integer> stars) {
+            this.stars = stars == null ? List.of() : stars;
+            return this;
+        }
+
+        public Filter amenities(List<String> amenities) {
+            this.amenities = amenities == null ? List.of() : amenities;
+            return this;
+        }
+
+        public Filter price(Double minPrice, Double maxPrice) {
+            this.minPrice = minPrice;
+            this.maxPrice = maxPrice;
+            return this;
+        }
+
+        public Filter sort(Sort sort) {
+            this.sort = sort;
+            return this;
+        }
+
+        public Filter page(int offset, int limit) {
+            this.offset = offset;
+            this.limit = limit;
+            return this;
+        }
+    }
+
+    /**
+     * Immutable index built from one read of the collection
+     */
+    static final class Snapshot {
+        private static final int FACET_LIMIT = 20;
+
+        final Instant indexedAt = Instant.now();
+        private final List<Map<String, Object>> hotels;
+        private final double[] prices;
+        private final int pricedCount;
+        private final Dimension cities;
+        private final Dimension countries;
+        private final Dimension stars;
+        private final Dimension amenities;
+        // Star ordinals from the highest star level down, for STARS_DESC
+        private final int[] starOrdinalsDescending;
+
+        private Snapshot(List<Map<String, Object>> hotels) {
+            this.hotels = hotels;
+            int n = hotels.size();
+            this.prices = new double[n];
+            this.cities = new Dimension(n);
+            this.countries = new Dimension(n);
+            this.stars = new Dimension(n);
+            this.amenities = new Dimension(n);
+            int priced = 0;
+            for (int pos = 0; pos < n; pos++) {
+                Map<String, Object> hotel = hotels.get(pos);
+                prices[pos] = number(hotel.get("price_per_night"));
+                if (!Double.isNaN(prices[pos])) {
+                    priced++;
+                }
+                cities.add(pos, hotel.get("city"));
+                countries.add(pos, hotel.get("country"));
+                Object starLevel = hotel.get("stars");
+                stars.add(pos, starLevel instanceof Number number ? number.intValue() : starLevel);
+                amenities.add(pos, hotel.get("amenities"));
+            }
+            this.pricedCount = priced;
+            this.starOrdinalsDescending = stars.labels.stream()
+                .sorted(Comparator.comparingDouble(Snapshot::number).reversed())
+                .mapToInt(label -> stars.ordinals.get(key(label)))
+                .toArray();
+        }
+
+        /**
+         * Sorts the hotels by price (unpriced last) and indexes them by position
+         */
+        static Snapshot build(List<Map<String, Object>> hotels) {
+            List<Map<String, Object>> byPrice = new ArrayList<>(hotels);
+            byPrice.sort(Comparator.comparingDouble(hotel -> number(hotel.get("price_per_night"))));
+            return new Snapshot(byPrice);
+        }
+
+        HotelFilterResponse search(Filter filter) {
+            int n = hotels.size();
+            BitSet result = new BitSet(n);
+            result.set(lowerBound(filter.minPrice), upperBound(filter.minPrice, filter.maxPrice));
+            cities.retainAny(result, filter.cities);
+            countries.retainAny(result, filter.countries);
+            stars.retainAny(result, filter.stars);
+            amenities.retainAll(result, filter.amenities);
+
+            List<Map<String, Object>> items = new ArrayList<>(Math.min(filter.limit, n));
+            int skip = filter.offset;
+            for (Segment segment : segments(result, filter.sort)) {
+                if (items.size() == filter.limit) {
+                    break;
+                }
+                int size = segment.bits.cardinality();
+                if (skip >= size) {
+                    skip -= size;
+                    continue;
+                }
+                skip = segment.collect(hotels, skip, filter.limit - items.size(), items);
+            }
+
+            Map<String, Map<String, Integer>> facets = new LinkedHashMap<>();
+            facets.put("city", cities.facet(result));
+            facets.put("country", countries.facet(result));
+            facets.put("stars", stars.facet(result));
+            facets.put("amenities", amenities.facet(result));
+            return new HotelFilterResponse(result.cardinality(), filter.offset, filter.limit, items, facets, indexedAt);
+        }
+
+        private int lowerBound(Double minPrice) {
+            if (minPrice == null) {
+                return 0;
+            }
+            int lo = 0;
+            int hi = pricedCount;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (prices[mid] < minPrice) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            return lo;
+        }
+
+        private int upperBound(Double minPrice, Double maxPrice) {
+            if (maxPrice == null) {
+                // Hotels without a price only match when no price bound was given at all
+                return minPrice == null ? hotels.size() : pricedCount;
+            }
+            int lo = 0;
+            int hi = pricedCount;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (prices[mid] <= maxPrice) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            return lo;
+        }
+
+        /**
+         * Splits the result into runs that are each walked in one direction to produce the sort order
+         */
+        private List<Segment> segments(BitSet result, Sort sort) {
+            List<Segment> segments = new ArrayList<>();
+            switch (sort) {
+                case PRICE_DESC -> {
+                    BitSet priced = result.get(0, pricedCount);
+                    BitSet unpriced = (BitSet) result.clone();
+                    unpriced.clear(0, pricedCount);
+                    segments.add(new Segment(priced, true));
+                    segments.add(new Segment(unpriced, false));
+                }
+                case STARS_DESC -> {
+                    BitSet rest = (BitSet) result.clone();
+                    for (int ordinal : starOrdinalsDescending) {
+                        BitSet level = (BitSet) result.clone();
+                        level.and(stars.bitmaps.get(ordinal));
+                        rest.andNot(level);
+                        segments.add(new Segment(level, false));
+                    }
+                    segments.add(new Segment(rest, false));
+                }
+                default -> segments.add(new Segment(result, false));
+            }
+            return segments;
+        }
+
+        private static double number(Object value) {
+            if (value instanceof Number number) {
+                return number.doubleValue();
+            }
+            if (value instanceof String text) {
+                try {
+                    return Double.parseDouble(text);
+                } catch (NumberFormatException e) {
+                    return Double.NaN;
+                }
+            }
+            return Double.NaN;
+        }
+    }
+
+    private record Segment(BitSet bits, boolean descending) {
+
+        /**
+         * Appends up to {@code max} hotels after skipping {@code skip} set bits; returns the skip left over
+         */
+        int collect(List<Map<String, Object>> hotels, int skip, int max, List<Map<String, Object>> into) {
+            int added = 0;
+            int pos = descending ? bits.previousSetBit(bits.length() - 1) : bits.nextSetBit(0);
+            while (pos >= 0 && added < max) {
+                if (skip > 0) {
+                    skip--;
+                } else {
+                    into.add(hotels.get(pos));
+                    added++;
+                }
+                pos = descending ? bits.previousSetBit(pos - 1) : bits.nextSetBit(pos + 1);
+            }
+            return skip;
+        }
+    }
+
+    /**
+     * Value -> bitmap of positions for one field, plus the values of every position for facet counting
+     */
+    private static final class Dimension {
+        private final Map<String, Integer> ordinals = new HashMap<>();
+        private final List<String> labels = new ArrayList<>();
+        private final List<BitSet> bitmaps = new ArrayList<>();
+        private final int[][] valuesByPosition;
+
+        Dimension(int size) {
+            this.valuesByPosition = new int[size][];
+        }
+
+        void add(int pos, Object value) {
+            if (value == null) {
+                return;
+            }
+            Collection<?> values = value instanceof Collection<?> collection ? collection : List.of(value);
+            int[] ords = values.stream()
+                .filter(v -> v != null && !v.toString().isBlank())
+                .mapToInt(v -> ordinal(v.toString().trim()))
+                .distinct()
+                .toArray();
+            for (int ord : ords) {
+                bitmaps.get(ord).set(pos);
+            }
+            valuesByPosition[pos] = ords;
+        }
+
+        private int ordinal(String label) {
+            return ordinals.computeIfAbsent(key(label), k -> {
+                labels.add(label);
+                bitmaps.add(new BitSet());
+                return labels.size() - 1;
+            });
+        }
+
+        /**
+         * Keep positions that have at least one of the values; no values means no constraint
+         */
+        void retainAny(BitSet result, List<?> values) {
+            if (values.isEmpty()) {
+                return;
+            }
+            BitSet any = new BitSet();
+            for (Object value : values) {
+                Integer ord = ordinals.get(key(value.toString()));
+                if (ord != null) {
+                    any.or(bitmaps.get(ord));
+                }
+            }
+            result.and(any);
+        }
+
+        /**
+         * Keep positions that have every one of the values
+         */
+        void retainAll(BitSet result, List<?> values) {
+            for (Object value : values) {
+                Integer ord = ordinals.get(key(value.toString()));
+                if (ord == null) {
+                    result.clear();
+                    return;
+                }
+                result.and(bitmaps.get(ord));
+            }
+        }
+
+        /**
+         * Counts per value over the result, most frequent first, capped at {@link Snapshot#FACET_LIMIT}
+         */
+        Map<String, Integer> facet(BitSet result) {
+            int[] counts = new int[labels.size()];
+            for (int pos = result.nextSetBit(0); pos >= 0; pos = result.nextSetBit(pos + 1)) {
+                int[] ords = valuesByPosition[pos];
+                if (ords != null) {
+                    for (int ord : ords) {
+                        counts[ord]++;
+                    }
+                }
+            }
+            List<Integer> present = new ArrayList<>();
+            for (int ord = 0; ord < counts.length; ord++) {
+                if (counts[ord] > 0) {
+                    present.add(ord);
+                }
+            }
+            present.sort(Comparator.<Integer>comparingInt(ord -> counts[ord]).reversed().thenComparing(labels::get));
+            Map<String, Integer> facet = new LinkedHashMap<>();
+            for (int ord : present.subList(0, Math.min(Snapshot.FACET_LIMIT, present.size()))) {
+                facet.put(labels.get(ord), counts[ord]);
+            }
+            return facet;
+        }
+    }
+
+    private static String key(String label) {
+        return label.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,266 @@
+package com.example.backend.service;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Forwards inference requests to the Hugging Face router, answering repeated deterministic
+ * requests from {@link InferenceResponseCache}.
+ */
+@Service
+public class HuggingFaceService {
+
+    private static final Logger log = LoggerFactory.getLogger(HuggingFaceService.class);
+
+    /**
+     * A response ready to send: upstream status and JSON body bytes
+     */
+    public record InferenceResult(int status, byte[] body, boolean cached) {}
+
+    @Value("${huggingface.api.token:}")
+    private String hfToken;
+
+    @Value("${huggingface.model:mistralai/Mistral-7B-Instruct-v0.3}")
+    private String defaultModel;
+
+    @Value("${huggingface.base-url:https://router.huggingface.co}")
+    private String baseUrl;
+
+    @Value("${huggingface.cache.enabled:true}")
+    private boolean cacheEnabled;
+
+    @Value("${huggingface.cache.max-size:64MB}")
+    private DataSize cacheMaxSize;
+
+    @Value("${huggingface.cache.ttl:1h}")
+    private Duration cacheTtl;
+
+    @Value("${huggingface.batch.enabled:false}")
+    private boolean batchEnabled;
+
+    @Value("${huggingface.batch.max-size:8}")
+    private int batchMaxSize;
+
+    @Value("${huggingface.batch.window:15ms}")
+    private Duration batchWindow;
+
+    @Value("${huggingface.batch.max-concurrent:4}")
+    private int batchMaxConcurrent;
+
+    @Value("${huggingface.batch.timeout:120s}")
+    private Duration batchTimeout;
+
+    @Autowired
+    private RestTemplate restTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private InferenceResponseCache cache;
+
+    private InferenceStreamer streamer;
+
+    private InferenceBatcher batcher;
+
+    @PostConstruct
+    void init() {
+        // The template's factory, so pooling, timeouts and client metrics apply to streams too
+        streamer = new InferenceStreamer(restTemplate.getRequestFactory(), objectMapper);
+        if (cacheEnabled) {
+            cache = new InferenceResponseCache(objectMapper, cacheMaxSize.toBytes(), cacheTtl, meterRegistry);
+        }
+        if (batchEnabled) {
+            batcher = new InferenceBatcher(this::postBatch, batchMaxSize, batchWindow, batchMaxConcurrent, objectMapper, meterRegistry);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (batcher != null) {
+            batcher.close();
+        }
+    }
+
+    public boolean isConfigured() {
+        return hfToken != null && !hfToken.isBlank();
+    }
+
+    public String getDefaultModel() {
+        return defaultModel;
+    }
+
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    /**
+     * POST the body to {@code <base-url>/models/<modelPath>}. Only 2xx responses are cached;
+     * upstream errors surface as RestClientException.
+     */
+    public InferenceResult infer(String modelPath, Map<String, Object> body) {
+        String key = cache != null ? cache.keyFor(modelPath, body) : null;
+        if (key != null) {
+            byte[] hit = cache.get(key);
+            if (hit != null) {
+                return new InferenceResult(200, hit, true);
+            }
+        }
+
+        if (batcher != null && InferenceBatcher.isBatchable(body)) {
+            byte[] json = toJson(awaitBatched(modelPath, body));
+            if (key != null) {
+                cache.put(key, json);
+            }
+            return new InferenceResult(200, json, false);
+        }
+
+        log.info("Forwarding request to Hugging Face model: {}", modelPath);
+        ResponseEntity<String> response = restTemplate.postForEntity(modelUri(modelPath), new HttpEntity<>(body, jsonHeaders()), String.class);
+        int status = response.getStatusCode().value();
+        String respBody = response.getBody();
+        log.debug("Hugging Face response status: {}", status);
+
+        byte[] json = toJson(parse(respBody));
+        if (key != null && response.getStatusCode().is2xxSuccessful()) {
+            cache.put(key, json);
+        }
+        return new InferenceResult(status, json, false);
+    }
+
+    /**
+     * Start a call whose response is relayed unparsed, e.g. an SSE token stream; never cached.
+     * The caller must close the returned upstream.
+     */
+    public InferenceStreamer.Upstream openStream(String modelPath, Map<String, Object> body) throws IOException {
+        log.info("Streaming request to Hugging Face model: {}", modelPath);
+        URI uri = modelUri(modelPath);
+        long start = System.nanoTime();
+        String status = "IO_ERROR";
+        try {
+            InferenceStreamer.Upstream upstream = streamer.open(uri, hfToken, body);
+            try {
+                status = String.valueOf(upstream.status());
+            } catch (IOException e) {
+                upstream.close();
+                throw e;
+            }
+            return upstream;
+        } finally {
+            // Streams bypass the RestTemplate, so they get their own timer; the body is relayed afterwards
+            Timer.builder("huggingface.stream.open")
+                .description("Time until a streamed inference call's status and headers arrived")
+                .tag("host", uri.getHost())
+                .tag("status", status)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * {@code <base-url>/models/<owner>/<model>}, each segment encoded on its own
+     */
+    URI modelUri(String modelPath) {
+        return UriComponentsBuilder.fromHttpUrl(baseUrl)
+            .pathSegment("models")
+            .pathSegment(modelPath.split("/"))
+            .build()
+            .encode()
+            .toUri();
+    }
+
+    private Object awaitBatched(String modelPath, Map<String, Object> body) {
+        try {
+            return batcher.submit(modelPath, body).get(batchTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RestClientException restClientException) {
+                throw restClientException;
+            }
+            throw new ResourceAccessException("Batched Hugging Face call failed: " + e.getCause().getMessage());
+        } catch (TimeoutException e) {
+            throw new ResourceAccessException("No batched Hugging Face response within " + batchTimeout.toMillis() + " ms");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResourceAccessException("Interrupted while waiting for Hugging Face");
+        }
+    }
+
+    /**
+     * One call with all inputs of a batch. The API answers with one result per input; each is
+     * shaped like the answer to a single-input call (a list), so batching is invisible to clients.
+     */
+    private List<Object> postBatch(String modelPath, List<Object> inputs, Map<String, Object> settings) {
+        Map<String, Object> body = new LinkedHashMap<>(settings);
+        body.put("inputs", inputs);
+        log.info("Forwarding batch of {} inputs to Hugging Face model: {}", inputs.size(), modelPath);
+        ResponseEntity<String> response = restTemplate.postForEntity(modelUri(modelPath), new HttpEntity<>(body, jsonHeaders()), String.class);
+        if (!(parse(response.getBody()) instanceof List<?> results)) {
+            throw new IllegalStateException("Expected a list of results from a batched call");
+        }
+        List<Object> shaped = new ArrayList<>(results.size());
+        for (Object result : results) {
+            shaped.add(result instanceof List<?> ? result : List.of(result));
+        }
+        return shaped;
+    }
+
+    private HttpHeaders jsonHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setBearerAuth(hfToken);
+        return headers;
+    }
+
+    private Object parse(String respBody) {
+        if (respBody == null || respBody.isBlank()) {
+            return Map.of();
+        }
+        try {
+            return objectMapper.readValue(respBody, Object.class);
+        } catch (Exception parseEx) {
+            log.warn("Failed to parse Hugging Face response as JSON, returning raw text", parseEx);
+            return Map.of("raw", respBody);
+        }
+    }
+
+    private byte[] toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (Exception e) {
+            throw new IllegalStateException("Could not serialize Hugging Face response", e);
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package com.example.backend.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+
+/**
+ * Gathers concurrent single-input inference requests into one call with a list of
+ * {@code inputs}, then hands each caller the result at its index.
+ *
+ * Requests share a batch only if they target the same model with identical parameters and
+ * options, since one call applies one set of parameters to every input. A batch is sent once
+ * it holds {@code maxBatchSize} inputs or {@code window} after its first input arrived,
+ * whichever comes first; at most {@code maxConcurrentBatches} are in flight, later ones wait
+ * their turn. The price is up to {@code window} of added latency per request.
+ */
+public class InferenceBatcher implements AutoCloseable {
+
+    /**
+     * Sends one batched call and returns one result per input, in input order
+     */
+    @FunctionalInterface
+    public interface BatchCall {
+        List<Object> call(String modelPath, List<Object> inputs, Map<String, Object> settings);
+    }
+
+    private static final Set<String> BATCHABLE_KEYS = Set.of("inputs", "parameters", "options");
+
+    private record Key(String modelPath, String settings) {}
+
+    private record Pending(Object input, CompletableFuture<Object> result, long enqueuedNanos) {}
+
+    private static final class Batch {
+        private final Key key;
+        private final Map<String, Object> settings;
+        private final List<Pending> items = new ArrayList<>();
+        private ScheduledFuture<?> timer;
+        private boolean closed;
+
+        Batch(Key key, Map<String, Object> settings) {
+            this.key = key;
+            this.settings = settings;
+        }
+    }
+
+    private final BatchCall call;
+    private final int maxBatchSize;
+    private final Duration window;
+    private final ObjectMapper canonicalMapper;
+    private final ConcurrentHashMap<Key, Batch> open = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService timers;
+    private final ExecutorService dispatchers;
+    private final DistributionSummary batchSize;
+    private final Timer addedLatency;
+    private final Counter failedBatches;
+
+    public InferenceBatcher(BatchCall call, int maxBatchSize, Duration window, int maxConcurrentBatches,
+                            ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        if (maxBatchSize < 1 || maxConcurrentBatches < 1) {
+            throw new IllegalArgumentException("maxBatchSize and maxConcurrentBatches must be positive");
+        }
+        this.call = call;
+        this.maxBatchSize = maxBatchSize;
+        this.window = window;
+        this.canonicalMapper = objectMapper.copy().configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+        this.timers = Executors.newSingleThreadScheduledExecutor(daemon("inference-batch-timer", new AtomicInteger()));
+        this.dispatchers = Executors.newFixedThreadPool(maxConcurrentBatches, daemon("inference-batch", new AtomicInteger()));
+        this.batchSize = DistributionSummary.builder("huggingface.batch.size")
+            .description("Inputs per batched call")
+            .maximumExpectedValue((double) maxBatchSize)
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+        this.addedLatency = Timer.builder("huggingface.batch.wait")
+            .description("Time a request waited for its batch to be sent")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+        this.failedBatches = Counter.builder("huggingface.batch.failed").register(meterRegistry);
+        new ExecutorServiceMetrics(dispatchers, "inference-batch", Tags.empty()).bindTo(meterRegistry);
+    }
+
+    /**
+     * Single-input text requests, not streamed, with nothing but inputs, parameters and options
+     */
+    public static boolean isBatchable(Map<String, Object> body) {
+        return body != null
+            && body.get("inputs") instanceof String
+            && BATCHABLE_KEYS.containsAll(body.keySet());
+    }
+
+    /**
+     * Queue a batchable request; completes with this request's own result
+     */
+    public CompletableFuture<Object> submit(String modelPath, Map<String, Object> body) {
+        Map<String, Object> settings = new LinkedHashMap<>(body);
+        settings.remove("inputs");
+        Key key;
+        try {
+            key = new Key(modelPath, canonicalMapper.writeValueAsString(settings));
+        } catch (JsonProcessingException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        Pending pending = new Pending(body.get("inputs"), new CompletableFuture<>(), System.nanoTime());
+        while (true) {
+            Batch batch = open.computeIfAbsent(key, k -> openBatch(k, settings));
+            synchronized (batch) {
+                if (batch.closed) {
+                    // Sent between lookup and lock; start or join the next one
+                    continue;
+                }
+                batch.items.add(pending);
+                if (batch.items.size() >= maxBatchSize) {
+                    close(batch);
+                    batch.timer.cancel(false);
+                    dispatchers.execute(() -> send(batch));
+                }
+            }
+            return pending.result();
+        }
+    }
+
+    private Batch openBatch(Key key, Map<String, Object> settings) {
+        Batch batch = new Batch(key, settings);
+        batch.timer = timers.schedule(() -> {
+            synchronized (batch) {
+                if (batch.closed) {
+                    return;
+                }
+                close(batch);
+            }
+            dispatchers.execute(() -> send(batch));
+        }, window.toNanos(), TimeUnit.NANOSECONDS);
+        return batch;
+    }
+
+    // Caller holds the batch lock
+    private void close(Batch batch) {
+        batch.closed = true;
+        open.remove(batch.key, batch);
+    }
+
+    private void send(Batch batch) {
+        List<Pending> items = batch.items;
+        if (items.isEmpty()) {
+            return;
+        }
+        long now = System.nanoTime();
+        batchSize.record(items.size());
+        List<Object> inputs = new ArrayList<>(items.size());
+        for (Pending item : items) {
+            addedLatency.record(now - item.enqueuedNanos(), TimeUnit.NANOSECONDS);
+            inputs.add(item.input());
+        }
+        try {
+            List<Object> results = call.call(batch.key.modelPath(), inputs, batch.settings);
+            if (results == null || results.size() != items.size()) {
+                throw new IllegalStateException("Batched call returned " + (results == null ? 0 : results.size())
+                    + " results for " + items.size() + " inputs");
+            }
+            for (int i = 0; i < items.size(); i++) {
+                items.get(i).result().complete(results.get(i));
+            }
+        } catch (RuntimeException e) {
+            failedBatches.increment();
+            items.forEach(item -> item.result().completeExceptionally(e));
+        }
+    }
+
+    @Override
+    public void close() {
+        timers.shutdownNow();
+        dispatchers.shutdownNow();
+    }
+
+    private static ThreadFactory daemon(String prefix, AtomicInteger count) {
+        return r -> {
+            Thread t = new Thread(r, prefix + "-" + count.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        };
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.backend.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Successful inference responses keyed by a SHA-256 of the model path and the canonical
+ * request body, so the same prompt with the same parameters is answered from memory.
+ *
+ * The body is canonicalized by sorting object keys, so key order and whitespace in the
+ * client's JSON do not matter. Entries are weighed by their size in bytes, evicted once
+ * {@code maxBytes} is reached and expire after {@code ttl}. Requests whose output is not
+ * deterministic (see {@link #isCacheable}) are never cached.
+ */
+public class InferenceResponseCache {
+
+    private static final String METRIC_PREFIX = "huggingface.cache";
+
+    // Rough per-entry overhead on top of the body: key, entry and array headers
+    private static final int ENTRY_OVERHEAD_BYTES = 160;
+
+    private final ObjectMapper canonicalMapper;
+    private final Cache<String, byte[]> cache;
+    private final Counter bypassed;
+
+    public InferenceResponseCache(ObjectMapper objectMapper, long maxBytes, Duration ttl, MeterRegistry meterRegistry) {
+        this.canonicalMapper = objectMapper.copy()
+            .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true)
+            .configure(SerializationFeature.INDENT_OUTPUT, false);
+        this.cache = Caffeine.newBuilder()
+            .maximumWeight(maxBytes)
+            .weigher((String key, byte[] body) -> body.length + ENTRY_OVERHEAD_BYTES)
+            .expireAfterWrite(ttl)
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "huggingface.responses");
+        this.bypassed = Counter.builder(METRIC_PREFIX + ".bypass").register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".hit.ratio", cache, c -> c.stats().hitRate()).register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".bytes", this, InferenceResponseCache::weightedBytes).register(meterRegistry);
+    }
+
+    /**
+     * Cache key for a request, or null when the request must go upstream every time
+     */
+    public String keyFor(String modelPath, Map<String, Object> body) {
+        if (!isCacheable(body)) {
+            bypassed.increment();
+            return null;
+        }
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(modelPath.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(canonicalMapper.writeValueAsBytes(body));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            bypassed.increment();
+            return null;
+        }
+    }
+
+    public byte[] get(String key) {
+        return cache.getIfPresent(key);
+    }
+
+    public void put(String key, byte[] responseBody) {
+        cache.put(key, responseBody);
+    }
+
+    /**
+     * Bytes held, after applying pending evictions
+     */
+    public long weightedBytes() {
+        cache.cleanUp();
+        return cache.policy().eviction().map(e -> e.weightedSize().orElse(0)).orElse(0L);
+    }
+
+    /**
+     * Whether a request always produces the same output: not streamed, not opted out with
+     * {@code options.use_cache: false}, and either greedy or sampled with a fixed seed.
+     *
+     * Text generation samples when {@code do_sample} is true, or when it is absent and
+     * temperature, top_k, top_p or typical_p are given. Chat completion bodies
+     * ({@code messages}) sample unless temperature is 0.
+     */
+    @SuppressWarnings("unchecked")
+    static boolean isCacheable(Map<String, Object> body) {
+        if (body == null || Boolean.TRUE.equals(body.get("stream"))) {
+            return false;
+        }
+        if (body.get("options") instanceof Map<?, ?> options && Boolean.FALSE.equals(options.get("use_cache"))) {
+            return false;
+        }
+        if (body.containsKey("messages")) {
+            return body.get("seed") != null || isZero(body.get("temperature"));
+        }
+        Map<String, Object> parameters = body.get("parameters") instanceof Map<?, ?> p ? (Map<String, Object>) p : Map.of();
+        if (parameters.get("seed") != null) {
+            return true;
+        }
+        Object doSample = parameters.get("do_sample");
+        if (doSample != null) {
+            return Boolean.FALSE.equals(doSample);
+        }
+        return !(parameters.containsKey("temperature") || parameters.containsKey("top_k")
+            || parameters.containsKey("top_p") || parameters.containsKey("typical_p"));
+    }
+
+    private static boolean isZero(Object value) {
+        return value instanceof Number n && n.doubleValue() == 0;
+    }
+}
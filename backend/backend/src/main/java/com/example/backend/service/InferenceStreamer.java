@@ -0,0 +1,89 @@
+package com.example.backend.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.util.List;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpResponse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Relays an upstream response body byte for byte as it arrives, for token streams (SSE) and
+ * large generations alike. Nothing is parsed or buffered beyond one fixed-size copy buffer,
+ * and the client output is flushed after every read so each token is sent as soon as it
+ * comes in.
+ */
+public class InferenceStreamer {
+
+    static final int BUFFER_SIZE = 8 * 1024;
+
+    /**
+     * An open upstream response; status and headers are known, the body is still unread
+     */
+    public static final class Upstream implements AutoCloseable {
+        private final ClientHttpResponse response;
+
+        Upstream(ClientHttpResponse response) {
+            this.response = response;
+        }
+
+        public int status() throws IOException {
+            return response.getStatusCode().value();
+        }
+
+        public MediaType contentType() {
+            MediaType type = response.getHeaders().getContentType();
+            return type != null ? type : MediaType.APPLICATION_OCTET_STREAM;
+        }
+
+        /**
+         * Copy the body to {@code out}, flushing after each chunk
+         */
+        public long transferTo(OutputStream out) throws IOException {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            long total = 0;
+            try (InputStream in = response.getBody()) {
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    out.write(buffer, 0, read);
+                    out.flush();
+                    total += read;
+                }
+            }
+            return total;
+        }
+
+        @Override
+        public void close() {
+            response.close();
+        }
+    }
+
+    private final ClientHttpRequestFactory requestFactory;
+    private final ObjectMapper objectMapper;
+
+    public InferenceStreamer(ClientHttpRequestFactory requestFactory, ObjectMapper objectMapper) {
+        this.requestFactory = requestFactory;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * POST {@code body} as JSON and return once the upstream status and headers are in.
+     * Error statuses are returned like any other so they can be relayed as-is.
+     */
+    public Upstream open(URI uri, String bearerToken, Object body) throws IOException {
+        ClientHttpRequest request = requestFactory.createRequest(uri, HttpMethod.POST);
+        request.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        request.getHeaders().setAccept(List.of(MediaType.TEXT_EVENT_STREAM, MediaType.APPLICATION_JSON));
+        request.getHeaders().setBearerAuth(bearerToken);
+        request.getBody().write(objectMapper.writeValueAsBytes(body));
+        return new Upstream(request.execute());
+    }
+}
@@ -0,0 +1,170 @@
+package com.example.backend.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.example.backend.dto.HotelResponse;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * Streaming parser for MakCorps hotel search responses.
+ *
+ * The payload is an array of {@code [hotelInfo, prices]} pairs where every price entry
+ * carries {@code priceN}, {@code taxN} and {@code vendorN} fields for N = 1..4. Values are
+ * read token by token straight into {@link HotelResponse} objects, so no response String
+ * or JSON tree is built. Text values follow {@code JsonNode.asText()} so the output is the
+ * same as the previous tree-based parsing.
+ */
+public class MakCorpsResponseParser {
+
+    private static final int PRICE_SLOTS = 4;
+    private static final int PRICE = 0;
+    private static final int TAX = 1;
+    private static final int VENDOR = 2;
+
+    // Field name -> kind * PRICE_SLOTS + slot, built once instead of concatenating keys per entry
+    private static final Map<String, Integer> PRICE_FIELDS = new HashMap<>();
+
+    static {
+        for (int i = 0; i < PRICE_SLOTS; i++) {
+            PRICE_FIELDS.put("price" + (i + 1), PRICE * PRICE_SLOTS + i);
+            PRICE_FIELDS.put("tax" + (i + 1), TAX * PRICE_SLOTS + i);
+            PRICE_FIELDS.put("vendor" + (i + 1), VENDOR * PRICE_SLOTS + i);
+        }
+    }
+
+    private final JsonFactory jsonFactory;
+
+    public MakCorpsResponseParser(JsonFactory jsonFactory) {
+        this.jsonFactory = jsonFactory;
+    }
+
+    public List<HotelResponse> parse(InputStream in) throws IOException {
+        List<HotelResponse> hotels = new ArrayList<>();
+        try (JsonParser parser = jsonFactory.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                return hotels;
+            }
+            String[][] slots = new String[3][PRICE_SLOTS];
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY && token != null) {
+                if (token == JsonToken.START_ARRAY) {
+                    HotelResponse hotel = readHotel(parser, slots);
+                    if (hotel != null) {
+                        hotels.add(hotel);
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        return hotels;
+    }
+
+    /**
+     * Reads one {@code [hotelInfo, prices, ...]} entry; entries with fewer than two elements are skipped
+     */
+    private HotelResponse readHotel(JsonParser parser, String[][] slots) throws IOException {
+        String hotelName = null;
+        String hotelId = null;
+        List<HotelResponse.PriceInfo> prices = new ArrayList<>();
+        int index = 0;
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (index == 0 && token == JsonToken.START_OBJECT) {
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String field = parser.currentName();
+                    parser.nextToken();
+                    if ("hotelName".equals(field)) {
+                        hotelName = valueAsText(parser);
+                    } else if ("hotelId".equals(field)) {
+                        hotelId = valueAsText(parser);
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+            } else if (index == 1 && token == JsonToken.START_ARRAY) {
+                while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                    if (token == JsonToken.START_OBJECT) {
+                        readPriceEntry(parser, slots, prices);
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+            } else {
+                parser.skipChildren();
+            }
+            index++;
+        }
+        if (index < 2) {
+            return null;
+        }
+        if (hotelName == null || hotelId == null) {
+            throw new IllegalStateException("Hotel entry without hotelName or hotelId");
+        }
+        return new HotelResponse(hotelName, hotelId, prices);
+    }
+
+    private void readPriceEntry(JsonParser parser, String[][] slots, List<HotelResponse.PriceInfo> prices) throws IOException {
+        for (String[] kind : slots) {
+            Arrays.fill(kind, null);
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            Integer slot = PRICE_FIELDS.get(parser.currentName());
+            JsonToken value = parser.nextToken();
+            if (slot == null) {
+                parser.skipChildren();
+                continue;
+            }
+            int kind = slot / PRICE_SLOTS;
+            // A null price means "no offer in this slot", while a null tax or vendor is kept as text
+            slots[kind][slot % PRICE_SLOTS] = kind == PRICE && value == JsonToken.VALUE_NULL ? null : valueAsText(parser);
+        }
+        for (int i = 0; i < PRICE_SLOTS; i++) {
+            String price = slots[PRICE][i];
+            if (price != null) {
+                String tax = slots[TAX][i] != null ? slots[TAX][i] : "0";
+                String vendor = slots[VENDOR][i] != null ? slots[VENDOR][i] : "";
+                prices.add(new HotelResponse.PriceInfo(price, tax, vendor));
+            }
+        }
+    }
+
+    /**
+     * Text of the current value, matching {@code JsonNode.asText()} for the same token
+     */
+    private static String valueAsText(JsonParser parser) throws IOException {
+        switch (parser.currentToken()) {
+            case VALUE_STRING:
+                return parser.getText();
+            case VALUE_NUMBER_INT:
+                switch (parser.getNumberType()) {
+                    case INT:
+                        return String.valueOf(parser.getIntValue());
+                    case LONG:
+                        return String.valueOf(parser.getLongValue());
+                    default:
+                        return parser.getBigIntegerValue().toString();
+                }
+            case VALUE_NUMBER_FLOAT:
+                return String.valueOf(parser.getDoubleValue());
+            case VALUE_TRUE:
+                return "true";
+            case VALUE_FALSE:
+                return "false";
+            case VALUE_NULL:
+                return "null";
+            default:
+                // Objects and arrays have no text of their own
+                parser.skipChildren();
+                return "";
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.backend.service;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Runs BCrypt on its own fixed-size pool so hashing can never occupy the servlet threads.
+ *
+ * The pool is core-sized by default and has a bounded queue; when the queue is full new work is
+ * rejected at once with {@link OverloadedException} instead of piling up behind a login storm.
+ * Callers wait at most {@code timeout} for their hash.
+ */
+public class PasswordHasher implements AutoCloseable {
+
+    private static final Pattern BCRYPT_COST = Pattern.compile("^\\$2[abxy]?\\$(\\d{2})\\$");
+
+    /**
+     * Hashing capacity is exhausted; the caller should answer 429
+     */
+    public static class OverloadedException extends RuntimeException {
+        public OverloadedException(String message) {
+            super(message);
+        }
+    }
+
+    private final BCryptPasswordEncoder encoder;
+    private final int strength;
+    private final Duration timeout;
+    private final ThreadPoolExecutor executor;
+    private final Timer encodeTimer;
+    private final Timer matchTimer;
+    private final Counter rejected;
+
+    public PasswordHasher(int strength, int threads, int queueCapacity, Duration timeout, MeterRegistry meterRegistry) {
+        this.encoder = new BCryptPasswordEncoder(strength);
+        this.strength = strength;
+        this.timeout = timeout;
+        AtomicInteger count = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            r -> {
+                Thread t = new Thread(r, "password-hash-" + count.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            },
+            new ThreadPoolExecutor.AbortPolicy());
+
+        this.encodeTimer = Timer.builder("auth.password.hash").tag("operation", "encode")
+            .publishPercentileHistogram().register(meterRegistry);
+        this.matchTimer = Timer.builder("auth.password.hash").tag("operation", "matches")
+            .publishPercentileHistogram().register(meterRegistry);
+        this.rejected = Counter.builder("auth.password.rejected").register(meterRegistry);
+        Gauge.builder("auth.password.queue.depth", executor, e -> e.getQueue().size()).register(meterRegistry);
+        Gauge.builder("auth.password.active", executor, ThreadPoolExecutor::getActiveCount).register(meterRegistry);
+    }
+
+    public String encode(String rawPassword) {
+        return run(() -> timed(encodeTimer, () -> encoder.encode(rawPassword)));
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return run(() -> timed(matchTimer, () -> encoder.matches(rawPassword, encodedPassword)));
+    }
+
+    /**
+     * Encode in the background, for work nobody waits on; dropped silently when the pool is busy
+     */
+    public void encodeLater(String rawPassword, Consumer<String> onEncoded) {
+        try {
+            executor.execute(() -> onEncoded.accept(timed(encodeTimer, () -> encoder.encode(rawPassword))));
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+        }
+    }
+
+    /**
+     * Whether a stored hash was made with a different cost factor than the configured one
+     */
+    public boolean needsRehash(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        Matcher matcher = BCRYPT_COST.matcher(encodedPassword);
+        return matcher.find() && Integer.parseInt(matcher.group(1)) != strength;
+    }
+
+    private static <T> T timed(Timer timer, Supplier<T> work) {
+        long start = System.nanoTime();
+        try {
+            return work.get();
+        } finally {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private <T> T run(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new OverloadedException("Too many authentication requests, try again shortly");
+        }
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejected.increment();
+            throw new OverloadedException("Too many authentication requests, try again shortly");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while hashing password", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new RuntimeException("Password hashing failed", cause);
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
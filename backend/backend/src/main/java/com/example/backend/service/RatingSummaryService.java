@@ -0,0 +1,204 @@
+package com.example.backend.service;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.IntToLongFunction;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import com.example.backend.model.HotelRatingSummary;
+import com.example.backend.model.Review;
+
+/**
+ * Maintains {@link HotelRatingSummary} documents so rating stats never read a hotel's reviews.
+ */
+@Service
+public class RatingSummaryService {
+
+    private static final Logger log = LoggerFactory.getLogger(RatingSummaryService.class);
+
+    private static final int REBUILD_BATCH_SIZE = 500;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    public static void validateRating(int rating) {
+        if (rating < 1 || rating > 5) {
+            throw new IllegalArgumentException("Rating must be between 1 and 5");
+        }
+    }
+
+    /**
+     * Count one new review in a single atomic upsert
+     */
+    public void record(Long hotelId, int rating) {
+        validateRating(rating);
+        Update update = new Update()
+            .inc("count", 1)
+            .inc("sum", rating)
+            .set("updatedAt", LocalDateTime.now());
+        incHistogram(update, r -> r == rating ? 1 : 0);
+        mongoTemplate.upsert(Query.query(Criteria.where("_id").is(hotelId)), update, HotelRatingSummary.class);
+    }
+
+    /**
+     * Count a batch of new reviews with one unordered bulk of $inc upserts, one per hotel
+     */
+    public void recordAll(Collection<Review> reviews) {
+        // Per hotel: count, sum, then the histogram for ratings 1..5
+        Map<Long, long[]> totals = new LinkedHashMap<>();
+        for (Review review : reviews) {
+            validateRating(review.getRating());
+            long[] t = totals.computeIfAbsent(review.getHotelId(), id -> new long[7]);
+            t[0]++;
+            t[1] += review.getRating();
+            t[1 + review.getRating()]++;
+        }
+        if (totals.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, HotelRatingSummary.class);
+        totals.forEach((hotelId, t) -> {
+            Update update = new Update().inc("count", t[0]).inc("sum", t[1]).set("updatedAt", now);
+            incHistogram(update, rating -> t[1 + rating]);
+            bulk.upsert(Query.query(Criteria.where("_id").is(hotelId)), update);
+        });
+        bulk.execute();
+    }
+
+    /**
+     * $inc the ratings counted and create the others at zero when the summary is inserted, so
+     * a summary always has all five buckets, as a rebuilt or empty one does
+     */
+    private static void incHistogram(Update update, IntToLongFunction countOf) {
+        for (int rating = 1; rating <= 5; rating++) {
+            long n = countOf.applyAsLong(rating);
+            if (n > 0) {
+                update.inc("histogram." + rating, n);
+            } else {
+                update.setOnInsert("histogram." + rating, 0L);
+            }
+        }
+    }
+
+    /**
+     * Summaries in the order of {@code hotelIds}; hotels without reviews get an empty summary
+     */
+    public List<HotelRatingSummary> findByHotelIds(Collection<Long> hotelIds) {
+        Map<Long, HotelRatingSummary> found = mongoTemplate
+            .find(Query.query(Criteria.where("_id").in(hotelIds)), HotelRatingSummary.class)
+            .stream()
+            .collect(Collectors.toMap(HotelRatingSummary::getHotelId, Function.identity()));
+        // Summaries counted before buckets were created at zero lack the ratings never given
+        for (HotelRatingSummary summary : found.values()) {
+            for (int rating = 1; rating <= 5; rating++) {
+                summary.getHistogram().putIfAbsent(String.valueOf(rating), 0L);
+            }
+        }
+        return hotelIds.stream()
+            .distinct()
+            .map(id -> found.getOrDefault(id, new HotelRatingSummary(id)))
+            .toList();
+    }
+
+    /**
+     * Recompute every summary from the reviews collection.
+     *
+     * Mongo groups reviews by (hotelId, rating) and streams the counts back sorted by hotel,
+     * so only one hotel's totals are held at a time; summaries are written with unordered bulk
+     * upserts of {@value #REBUILD_BATCH_SIZE}. Summaries neither rebuilt nor updated since the
+     * rebuild started belong to hotels without reviews left and are removed. Reviews written
+     * while a rebuild runs may be missed or double counted for their hotel until the next rebuild.
+     */
+    public Map<String, Object> rebuild() {
+        long start = System.nanoTime();
+        // Mongo stores milliseconds; every summary written from here on has updatedAt >= this
+        LocalDateTime startedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("hotelId").ne(null).and("rating").gte(1).lte(5)),
+                Aggregation.group("hotelId", "rating").count().as("n"),
+                Aggregation.sort(Sort.by("_id.hotelId")))
+            .withOptions(AggregationOptions.builder().allowDiskUse(true).cursorBatchSize(REBUILD_BATCH_SIZE).build());
+
+        long hotels = 0;
+        long reviews = 0;
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, HotelRatingSummary.class);
+        int pending = 0;
+        HotelRatingSummary summary = null;
+        try (Stream<Document> rows = mongoTemplate.aggregateStream(aggregation, Review.class, Document.class)) {
+            for (Document row : (Iterable<Document>) rows::iterator) {
+                Document id = row.get("_id", Document.class);
+                Long hotelId = ((Number) id.get("hotelId")).longValue();
+                int rating = ((Number) id.get("rating")).intValue();
+                long n = ((Number) row.get("n")).longValue();
+                if (summary == null || !summary.getHotelId().equals(hotelId)) {
+                    if (summary != null) {
+                        addReplace(bulk, summary);
+                        hotels++;
+                        if (++pending == REBUILD_BATCH_SIZE) {
+                            bulk.execute();
+                            bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, HotelRatingSummary.class);
+                            pending = 0;
+                        }
+                    }
+                    summary = new HotelRatingSummary(hotelId);
+                }
+                summary.setCount(summary.getCount() + n);
+                summary.setSum(summary.getSum() + n * rating);
+                summary.getHistogram().merge(String.valueOf(rating), n, Long::sum);
+                reviews += n;
+            }
+        }
+        if (summary != null) {
+            addReplace(bulk, summary);
+            hotels++;
+            pending++;
+        }
+        if (pending > 0) {
+            bulk.execute();
+        }
+        long removed = mongoTemplate.remove(Query.query(new Criteria().orOperator(
+                Criteria.where("updatedAt").lt(startedAt),
+                Criteria.where("updatedAt").exists(false))),
+            HotelRatingSummary.class).getDeletedCount();
+
+        long millis = (System.nanoTime() - start) / 1_000_000;
+        log.info("Rebuilt rating summaries for {} hotels from {} reviews, removed {} stale, in {} ms",
+            hotels, reviews, removed, millis);
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("hotels", hotels);
+        result.put("reviews", reviews);
+        result.put("removed", removed);
+        result.put("millis", millis);
+        return result;
+    }
+
+    private static void addReplace(BulkOperations bulk, HotelRatingSummary summary) {
+        Update update = new Update()
+            .set("count", summary.getCount())
+            .set("sum", summary.getSum())
+            .set("histogram", summary.getHistogram())
+            .set("updatedAt", LocalDateTime.now());
+        bulk.upsert(Query.query(Criteria.where("_id").is(summary.getHotelId())), update);
+    }
+}
@@ -0,0 +1,285 @@
+package com.example.backend.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Phaser;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.example.backend.dto.BulkIngestResponse;
+import com.example.backend.dto.CreateReviewRequest;
+import com.example.backend.model.Review;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+
+/**
+ * Reads NDJSON review records line by line and hands them to a {@link BatchWriter} in batches.
+ *
+ * At most {@code maxInFlight} batches are being written or waiting to be written at once, over
+ * all imports together; when all permits are taken the readers stop pulling from their request
+ * bodies. The permits are handed out in arrival order, so concurrent imports take turns rather
+ * than one holding every slot. Memory stays at roughly {@code maxInFlight * batchSize} records
+ * plus one batch per running import, whatever the input size. Lines longer than
+ * {@code maxLineLength} characters are skipped without being read into memory. Invalid lines
+ * and records the writer rejects are reported by line number.
+ */
+public class ReviewBulkIngester implements MeterBinder, AutoCloseable {
+
+    /**
+     * Writes one batch and returns the rejected records keyed by their index in the batch
+     */
+    @FunctionalInterface
+    public interface BatchWriter {
+        Map<Integer, String> write(List<Review> batch);
+    }
+
+    private final ObjectReader recordReader;
+    private final BatchWriter writer;
+    private final int batchSize;
+    private final int maxLineLength;
+    private final int maxReportedFailures;
+    private final Semaphore inFlight;
+    private final ExecutorService executor;
+
+    public ReviewBulkIngester(ObjectMapper objectMapper, BatchWriter writer, int batchSize, int maxInFlight,
+                              int maxLineLength, int maxReportedFailures) {
+        if (batchSize < 1 || maxInFlight < 1 || maxLineLength < 1) {
+            throw new IllegalArgumentException("batchSize, maxInFlight and maxLineLength must be positive");
+        }
+        this.recordReader = objectMapper.readerFor(CreateReviewRequest.class);
+        this.writer = writer;
+        this.batchSize = batchSize;
+        this.maxLineLength = maxLineLength;
+        this.maxReportedFailures = maxReportedFailures;
+        this.inFlight = new Semaphore(maxInFlight, true);
+        AtomicInteger threads = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(maxInFlight, r -> {
+            Thread t = new Thread(r, "review-bulk-" + threads.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * Pool size, active and queued batch writes as {@code executor.*} with {@code name=review-bulk}
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        new ExecutorServiceMetrics(executor, "review-bulk", Tags.empty()).bindTo(registry);
+    }
+
+    public BulkIngestResponse ingest(InputStream body) throws IOException {
+        long start = System.nanoTime();
+        Outcome outcome = new Outcome(maxReportedFailures);
+        // This import's batches still being written; the import itself is the first party
+        Phaser pending = new Phaser(1);
+        long received = 0;
+        try {
+            LineReader reader = new LineReader(new InputStreamReader(body, StandardCharsets.UTF_8), maxLineLength);
+            List<Review> batch = new ArrayList<>(batchSize);
+            long[] lines = new long[batchSize];
+            long lineNumber = 0;
+            while (reader.next()) {
+                lineNumber++;
+                if (reader.tooLong()) {
+                    received++;
+                    outcome.fail(lineNumber, "Line longer than " + maxLineLength + " characters");
+                    continue;
+                }
+                String line = reader.line();
+                if (line.isBlank()) {
+                    continue;
+                }
+                received++;
+                try {
+                    lines[batch.size()] = lineNumber;
+                    batch.add(toReview(recordReader.readValue(line)));
+                } catch (JsonProcessingException e) {
+                    outcome.fail(lineNumber, "Invalid JSON: " + e.getOriginalMessage());
+                } catch (IllegalArgumentException e) {
+                    outcome.fail(lineNumber, e.getMessage());
+                }
+                if (batch.size() == batchSize) {
+                    submit(batch, lines, pending, outcome);
+                    batch = new ArrayList<>(batchSize);
+                    lines = new long[batchSize];
+                }
+            }
+            if (!batch.isEmpty()) {
+                submit(batch, lines, pending, outcome);
+            }
+        } finally {
+            // Wait for the batches still being written, even if reading the body failed
+            pending.arriveAndAwaitAdvance();
+        }
+        List<BulkIngestResponse.Failure> failures = new ArrayList<>(outcome.failures);
+        failures.sort(Comparator.comparingLong(BulkIngestResponse.Failure::getLine));
+        return new BulkIngestResponse(received, outcome.inserted.get(), outcome.failed.get(), failures,
+            outcome.failed.get() > failures.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private void submit(List<Review> batch, long[] lines, Phaser pending, Outcome outcome) {
+        inFlight.acquireUninterruptibly();
+        pending.register();
+        try {
+            executor.execute(() -> {
+                try {
+                    Map<Integer, String> rejected = writer.write(batch);
+                    rejected.forEach((index, error) -> outcome.fail(lines[index], error));
+                    outcome.inserted.addAndGet(batch.size() - rejected.size());
+                } catch (Exception e) {
+                    for (int i = 0; i < batch.size(); i++) {
+                        outcome.fail(lines[i], "Write failed: " + e.getMessage());
+                    }
+                } finally {
+                    inFlight.release();
+                    pending.arriveAndDeregister();
+                }
+            });
+        } catch (RuntimeException e) {
+            inFlight.release();
+            pending.arriveAndDeregister();
+            throw e;
+        }
+    }
+
+    static Review toReview(CreateReviewRequest request) {
+        if (request == null) {
+            throw new IllegalArgumentException("Record must be a JSON object");
+        }
+        if (request.getHotelId() == null) {
+            throw new IllegalArgumentException("hotelId is required");
+        }
+        RatingSummaryService.validateRating(request.getRating());
+        Review review = new Review();
+        review.setHotelId(request.getHotelId());
+        review.setUserName(request.getUserName());
+        review.setRating(request.getRating());
+        review.setText(request.getText());
+        review.setCreatedAt(request.getCreatedAt() != null ? request.getCreatedAt() : LocalDateTime.now());
+        return review;
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    /**
+     * Reads lines like {@link java.io.BufferedReader#readLine()} (ending in {@code \n} or
+     * {@code \r\n}), but stops collecting a line once it exceeds {@code maxLength} characters and
+     * skips the rest of it
+     */
+    static final class LineReader {
+        private final Reader in;
+        private final int maxLength;
+        private final char[] buffer = new char[8192];
+        private final StringBuilder line = new StringBuilder();
+        private int position;
+        private int limit;
+        private boolean tooLong;
+
+        LineReader(Reader in, int maxLength) {
+            this.in = in;
+            this.maxLength = maxLength;
+        }
+
+        /**
+         * Move to the next line; false at the end of the input
+         */
+        boolean next() throws IOException {
+            line.setLength(0);
+            tooLong = false;
+            boolean read = false;
+            while (true) {
+                if (position == limit) {
+                    limit = in.read(buffer, 0, buffer.length);
+                    position = 0;
+                    if (limit < 0) {
+                        limit = 0;
+                        return read && finish();
+                    }
+                }
+                read = true;
+                int start = position;
+                while (position < limit && buffer[position] != '\n') {
+                    position++;
+                }
+                append(start, position);
+                if (position < limit) {
+                    position++;
+                    return finish();
+                }
+            }
+        }
+
+        private void append(int start, int end) {
+            // One character past the limit is kept for the \r of a \r\n ending
+            if (tooLong || line.length() + end - start > maxLength + 1) {
+                tooLong = true;
+                line.setLength(0);
+                return;
+            }
+            line.append(buffer, start, end - start);
+        }
+
+        private boolean finish() {
+            if (line.length() > 0 && line.charAt(line.length() - 1) == '\r') {
+                line.setLength(line.length() - 1);
+            }
+            if (line.length() > maxLength) {
+                tooLong = true;
+                line.setLength(0);
+            }
+            return true;
+        }
+
+        /**
+         * The current line without its ending; empty when it was too long
+         */
+        String line() {
+            return line.toString();
+        }
+
+        boolean tooLong() {
+            return tooLong;
+        }
+    }
+
+    private static final class Outcome {
+        private final int maxReported;
+        private final AtomicLong inserted = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+        private final List<BulkIngestResponse.Failure> failures = new ArrayList<>();
+
+        Outcome(int maxReported) {
+            this.maxReported = maxReported;
+        }
+
+        void fail(long line, String error) {
+            failed.incrementAndGet();
+            synchronized (failures) {
+                if (failures.size() < maxReported) {
+                    failures.add(new BulkIngestResponse.Failure(line, error));
+                }
+            }
+        }
+    }
+}
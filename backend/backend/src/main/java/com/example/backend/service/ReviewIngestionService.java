@@ -0,0 +1,107 @@
+package com.example.backend.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Service;
+
+import com.example.backend.dto.BulkIngestResponse;
+import com.example.backend.model.Review;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mongodb.bulk.BulkWriteError;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Bulk review import: unordered bulk inserts per batch, then one bulk summary update per batch.
+ */
+@Service
+public class ReviewIngestionService {
+
+    private static final Logger log = LoggerFactory.getLogger(ReviewIngestionService.class);
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private RatingSummaryService ratingSummaryService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${reviews.bulk.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${reviews.bulk.max-in-flight:4}")
+    private int maxInFlight;
+
+    @Value("${reviews.bulk.max-line-length:65536}")
+    private int maxLineLength;
+
+    @Value("${reviews.bulk.max-reported-failures:100}")
+    private int maxReportedFailures;
+
+    private ReviewBulkIngester ingester;
+
+    @PostConstruct
+    void init() {
+        ingester = new ReviewBulkIngester(objectMapper, this::writeBatch, batchSize, maxInFlight, maxLineLength, maxReportedFailures);
+        ingester.bindTo(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        ingester.close();
+    }
+
+    public BulkIngestResponse ingest(InputStream ndjson) throws IOException {
+        BulkIngestResponse response = ingester.ingest(ndjson);
+        log.info("Bulk review import: {} received, {} inserted, {} failed in {} ms",
+            response.getReceived(), response.getInserted(), response.getFailed(), response.getMillis());
+        return response;
+    }
+
+    private Map<Integer, String> writeBatch(List<Review> batch) {
+        Map<Integer, String> rejected = new HashMap<>();
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Review.class).insert(batch).execute();
+        } catch (BulkOperationException e) {
+            // Unordered: everything not listed here was written
+            for (BulkWriteError error : e.getErrors()) {
+                rejected.put(error.getIndex(), error.getMessage());
+            }
+        }
+        List<Review> written = batch;
+        if (!rejected.isEmpty()) {
+            written = new ArrayList<>(batch.size() - rejected.size());
+            for (int i = 0; i < batch.size(); i++) {
+                if (!rejected.containsKey(i)) {
+                    written.add(batch.get(i));
+                }
+            }
+        }
+        try {
+            ratingSummaryService.recordAll(written);
+        } catch (Exception e) {
+            // The reviews are stored; the summaries catch up on the next rebuild
+            log.warn("Failed to update rating summaries for an imported batch of {} reviews", written.size(), e);
+        }
+        return rejected;
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.backend.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque page cursors for keyset pagination.
+ *
+ * A cursor carries the sort key values of the last item of a page; clients only pass it
+ * back. Values are joined with a separator that cannot occur in ids or ISO timestamps
+ * and base64url-encoded.
+ */
+public final class Cursors {
+
+    private static final String SEPARATOR = "\u001f";
+
+    private Cursors() {}
+
+    public static String encode(String... values) {
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(String.join(SEPARATOR, values).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException if the cursor is malformed or has the wrong number of values
+     */
+    public static String[] decode(String cursor, int expectedValues) {
+        String[] values;
+        try {
+            values = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(SEPARATOR, -1);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        if (values.length != expectedValues) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        return values;
+    }
+}
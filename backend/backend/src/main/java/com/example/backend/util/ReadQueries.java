@@ -0,0 +1,165 @@
+package com.example.backend.util;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import com.example.backend.dto.BookingSummary;
+import com.example.backend.dto.PageResponse;
+import com.example.backend.model.Review;
+
+/**
+ * Keyset page and export queries for the read endpoints.
+ *
+ * Kept free of templates and repositories so the servlet controllers and the reactive read
+ * module run exactly the same queries. Page queries fetch one row more than the page size;
+ * {@link #page} trims it and derives the next cursor from the last row kept.
+ *
+ * Malformed cursors and filters throw IllegalArgumentException.
+ */
+public final class ReadQueries {
+
+    public static final Set<String> BOOKING_STATUSES = Set.of("CONFIRMED", "CANCELLED", "COMPLETED");
+
+    private ReadQueries() {}
+
+    public static <T> PageResponse<T> page(List<T> rows, int size, Function<T, String> cursorOf) {
+        if (rows.size() <= size) {
+            return new PageResponse<>(rows, null);
+        }
+        List<T> items = rows.subList(0, size);
+        return new PageResponse<>(items, cursorOf.apply(items.get(size - 1)));
+    }
+
+    /**
+     * Seeded hotels in _id order
+     */
+    public static Query hotelPage(int size, String cursor) {
+        Query query = new Query().with(Sort.by(Sort.Direction.ASC, "_id")).limit(size + 1);
+        if (cursor != null) {
+            String id = Cursors.decode(cursor, 1)[0];
+            query.addCriteria(Criteria.where("_id").gt(ObjectId.isValid(id) ? new ObjectId(id) : id));
+        }
+        return query;
+    }
+
+    public static String hotelCursor(Object id) {
+        return Cursors.encode(id instanceof ObjectId objectId ? objectId.toHexString() : String.valueOf(id));
+    }
+
+    /**
+     * A hotel's reviews newest first, through the (hotelId, createdAt, _id) index
+     */
+    public static Query reviewPage(Long hotelId, int size, String before) {
+        Query query = Query.query(Criteria.where("hotelId").is(hotelId))
+            .with(Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("_id")))
+            .limit(size + 1);
+        if (before != null) {
+            query.addCriteria(reviewsBefore(before));
+        }
+        return query;
+    }
+
+    public static String reviewCursor(Review review) {
+        return Cursors.encode(review.getCreatedAt() != null ? review.getCreatedAt().toString() : "", review.getId());
+    }
+
+    /**
+     * Reviews strictly after the cursor in (createdAt desc, _id desc) order; reviews without
+     * createdAt sort last, so past one of those only other undated reviews remain
+     */
+    private static Criteria reviewsBefore(String cursor) {
+        String[] values = Cursors.decode(cursor, 2);
+        ObjectId id = objectId(values[1]);
+        if (values[0].isEmpty()) {
+            return Criteria.where("createdAt").is(null).and("_id").lt(id);
+        }
+        LocalDateTime createdAt = dateTime(values[0]);
+        return new Criteria().orOperator(
+            Criteria.where("createdAt").lt(createdAt),
+            Criteria.where("createdAt").is(createdAt).and("_id").lt(id),
+            Criteria.where("createdAt").is(null));
+    }
+
+    /**
+     * A user's bookings newest first, through the (userEmail[, status], bookingDate, _id) indexes
+     */
+    public static Query userBookingPage(String userEmail, String status, int size, String cursor) {
+        Criteria criteria = Criteria.where("userEmail").is(userEmail);
+        if (status != null) {
+            criteria.and("status").is(bookingStatus(status));
+        }
+        Query query = Query.query(criteria)
+            .with(Sort.by(Sort.Direction.DESC, "bookingDate", "_id"))
+            .limit(size + 1);
+        if (cursor != null) {
+            // Bookings strictly after the cursor in (bookingDate desc, _id desc) order
+            String[] values = Cursors.decode(cursor, 2);
+            ObjectId id = objectId(values[1]);
+            LocalDateTime bookingDate = dateTime(values[0]);
+            query.addCriteria(new Criteria().orOperator(
+                Criteria.where("bookingDate").lt(bookingDate),
+                Criteria.where("bookingDate").is(bookingDate).and("_id").lt(id)));
+        }
+        return query;
+    }
+
+    public static String bookingCursor(BookingSummary booking) {
+        return Cursors.encode(booking.getBookingDate().toString(), booking.getId());
+    }
+
+    /**
+     * Bookings matching the export filters in _id order. {@code from} and {@code to} bound the
+     * booking date, both inclusive; {@code after} is the id of the last booking already received.
+     */
+    public static Query bookingExport(LocalDate from, LocalDate to, String status, String after) {
+        Query query = new Query().with(Sort.by(Sort.Direction.ASC, "_id"));
+        if (from != null || to != null) {
+            Criteria bookingDate = Criteria.where("bookingDate");
+            if (from != null) {
+                bookingDate.gte(from.atStartOfDay());
+            }
+            if (to != null) {
+                bookingDate.lt(to.plusDays(1).atStartOfDay());
+            }
+            query.addCriteria(bookingDate);
+        }
+        if (status != null) {
+            query.addCriteria(Criteria.where("status").is(bookingStatus(status)));
+        }
+        if (after != null) {
+            query.addCriteria(Criteria.where("_id").gt(ObjectId.isValid(after) ? new ObjectId(after) : after));
+        }
+        return query;
+    }
+
+    private static String bookingStatus(String status) {
+        if (!BOOKING_STATUSES.contains(status)) {
+            throw new IllegalArgumentException("status must be one of " + BOOKING_STATUSES);
+        }
+        return status;
+    }
+
+    private static ObjectId objectId(String value) {
+        if (!ObjectId.isValid(value)) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        return new ObjectId(value);
+    }
+
+    private static LocalDateTime dateTime(String value) {
+        try {
+            return LocalDateTime.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.backend.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import io.micrometer.core.instrument.binder.mongodb.MongoMetricsCommandListener;
+
+@SpringBootTest(properties = "huggingface.api.token=")
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+class MetricsEndpointTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Test
+    void prometheusScrapeHasRequestHistogramsAndCacheAndExecutorMetrics() throws Exception {
+        // Answered without calling out, since no token is configured
+        mockMvc.perform(post("/api/hf/default").contentType(MediaType.APPLICATION_JSON).content("{\"inputs\":\"hi\"}"))
+            .andExpect(status().isInternalServerError());
+
+        String scrape = mockMvc.perform(get("/actuator/prometheus"))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+
+        assertThat(scrape)
+            .containsPattern("http_server_requests_seconds_bucket\\{[^}]*uri=\"/api/hf/default\"")
+            .contains("cache_gets_total{application=\"backend\",cache=\"hotels.search\"")
+            .containsPattern("executor_queued_tasks\\{[^}]*name=\"review-bulk\"");
+    }
+
+    @Test
+    void mongoCommandsAreTimed() {
+        assertThat(context.getBeansOfType(MongoMetricsCommandListener.class)).isNotEmpty();
+    }
+
+    @Test
+    void otherActuatorEndpointsAreNotPublic() throws Exception {
+        mockMvc.perform(get("/actuator/metrics")).andExpect(status().isUnauthorized());
+    }
+}
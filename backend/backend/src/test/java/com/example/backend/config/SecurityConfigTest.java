@@ -0,0 +1,70 @@
+package com.example.backend.config;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest(properties = {"spring.security.user.name=admin", "spring.security.user.password=secret"})
+@AutoConfigureMockMvc
+class SecurityConfigTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void ratingRebuildNeedsTheAdminUser() throws Exception {
+        mockMvc.perform(post("/api/hotels/ratings/rebuild"))
+            .andExpect(status().isUnauthorized())
+            .andExpect(header().exists(HttpHeaders.WWW_AUTHENTICATE));
+        mockMvc.perform(post("/api/hotels/ratings/rebuild").header(HttpHeaders.AUTHORIZATION, basic("admin", "wrong")))
+            .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void bulkReviewImportNeedsTheAdminUser() throws Exception {
+        mockMvc.perform(post("/api/hotels/reviews/bulk").contentType("application/x-ndjson").content("{\"hotelId\":1,\"rating\":5}\n"))
+            .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void bookingRollupRebuildNeedsTheAdminUser() throws Exception {
+        mockMvc.perform(post("/api/bookings/reports/rebuild")).andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void bookingExportNeedsTheAdminUser() throws Exception {
+        mockMvc.perform(get("/api/bookings/all")).andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/api/bookings/all").param("format", "csv")).andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/api/bookings/all").header(HttpHeaders.AUTHORIZATION, basic("admin", "wrong")))
+            .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void slowQueryStatisticsAreForTheAdminUserOnly() throws Exception {
+        mockMvc.perform(get("/api/admin/slow-queries")).andExpect(status().isUnauthorized());
+        mockMvc.perform(delete("/api/admin/slow-queries")).andExpect(status().isUnauthorized());
+
+        mockMvc.perform(get("/api/admin/slow-queries").header(HttpHeaders.AUTHORIZATION, basic("admin", "secret")))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.shapes").isArray());
+        mockMvc.perform(delete("/api/admin/slow-queries").header(HttpHeaders.AUTHORIZATION, basic("admin", "secret")))
+            .andExpect(status().isOk());
+    }
+
+    static String basic(String user, String password) {
+        return "Basic " + Base64.getEncoder().encodeToString((user + ":" + password).getBytes(StandardCharsets.UTF_8));
+    }
+}
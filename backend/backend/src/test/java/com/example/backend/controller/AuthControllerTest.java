@@ -0,0 +1,38 @@
+package com.example.backend.controller;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+// Nothing listens on port 1, so the unique email index can never be created
+@SpringBootTest(properties = {
+    "spring.data.mongodb.uri=mongodb://localhost:1/springnext?serverSelectionTimeoutMS=200",
+    "mongo.indexes.create-on-startup=false"})
+@AutoConfigureMockMvc
+class AuthControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void signupIsRefusedWhileTheEmailIndexIsMissing() throws Exception {
+        String body = "{\"email\":\"a@example.com\",\"password\":\"secret\",\"name\":\"A\"}";
+
+        mockMvc.perform(post("/api/auth/signup").contentType(MediaType.APPLICATION_JSON).content(body))
+            .andExpect(status().isServiceUnavailable())
+            .andExpect(header().string(HttpHeaders.RETRY_AFTER, "30"))
+            .andExpect(jsonPath("$.error").value("Signup is temporarily unavailable"));
+        // The failed attempt is not repeated for every request
+        mockMvc.perform(post("/api/auth/signup").contentType(MediaType.APPLICATION_JSON).content(body))
+            .andExpect(status().isServiceUnavailable());
+    }
+}
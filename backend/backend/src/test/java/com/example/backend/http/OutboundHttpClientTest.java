@@ -0,0 +1,147 @@
+package com.example.backend.http;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import com.example.backend.config.OutboundHttpConfig;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class OutboundHttpClientTest {
+
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final OutboundHttpProperties properties = new OutboundHttpProperties();
+
+    private HttpServer stub;
+    private InstrumentedConnectionManager connectionManager;
+    private TotalDeadlineExecHandler deadlineHandler;
+    private CloseableHttpClient httpClient;
+    private RestTemplate restTemplate;
+    private String baseUrl;
+
+    @BeforeEach
+    void startStub() throws IOException {
+        stub = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        stub.createContext("/ok", exchange -> {
+            clientPorts.add(exchange.getRemoteAddress().getPort());
+            respond(exchange, "ok");
+        });
+        stub.createContext("/slow-headers", exchange -> {
+            sleep(1_500);
+            respond(exchange, "late");
+        });
+        stub.createContext("/trickle", exchange -> {
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream out = exchange.getResponseBody()) {
+                for (int i = 0; i < 20; i++) {
+                    out.write('.');
+                    out.flush();
+                    sleep(100);
+                }
+            } catch (IOException ignored) {
+                // client gave up
+            }
+        });
+        stub.setExecutor(Executors.newCachedThreadPool());
+        stub.start();
+        baseUrl = "http://127.0.0.1:" + stub.getAddress().getPort();
+
+        properties.getHosts().put("127.0.0.1", new OutboundHttpProperties.HostSettings(
+            4, Duration.ofSeconds(1), Duration.ofMillis(500), Duration.ofMillis(800), Duration.ofSeconds(1)));
+
+        OutboundHttpConfig config = new OutboundHttpConfig();
+        connectionManager = config.outboundConnectionManager(properties, meterRegistry);
+        deadlineHandler = config.outboundDeadlineHandler(properties, meterRegistry);
+        httpClient = config.outboundHttpClient(connectionManager, deadlineHandler, properties);
+        restTemplate = config.restTemplate(new RestTemplateBuilder(), httpClient, properties);
+    }
+
+    @AfterEach
+    void stopStub() throws IOException {
+        httpClient.close();
+        deadlineHandler.close();
+        stub.stop(0);
+    }
+
+    @Test
+    void sequentialRequestsReuseOnePooledConnection() {
+        for (int i = 0; i < 20; i++) {
+            assertThat(restTemplate.getForObject(baseUrl + "/ok", String.class)).isEqualTo("ok");
+        }
+
+        assertThat(clientPorts).hasSize(1);
+        assertThat(meterRegistry.get("outbound.http.pool.wait").tag("host", "127.0.0.1").timer().count()).isEqualTo(20);
+        assertThat(meterRegistry.get("outbound.http.pool.saturation").tag("host", "127.0.0.1").gauge().value()).isZero();
+    }
+
+    @Test
+    void hostReadTimeoutAppliesToSlowResponseHeaders() {
+        assertThatThrownBy(() -> restTemplate.getForObject(baseUrl + "/slow-headers", String.class))
+            .isInstanceOf(ResourceAccessException.class)
+            .hasRootCauseInstanceOf(SocketTimeoutException.class);
+    }
+
+    @Test
+    void totalDeadlineAbortsTricklingBody() {
+        long start = System.nanoTime();
+
+        assertThatThrownBy(() -> restTemplate.getForObject(baseUrl + "/trickle", String.class))
+            .isInstanceOf(RestClientException.class)
+            .hasStackTraceContaining("exceeded total timeout of 800 ms");
+
+        // Every read finished well inside the 500 ms read timeout, only the 800 ms deadline can stop it
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofMillis(1_800));
+        assertThat(meterRegistry.get("outbound.http.deadline.exceeded").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void hostOverridesFallBackToDefaults() {
+        OutboundHttpProperties.HostSettings override = new OutboundHttpProperties.HostSettings();
+        override.setReadTimeout(Duration.ofSeconds(60));
+        properties.getHosts().put("router.huggingface.co", override);
+
+        OutboundHttpProperties.HostSettings settings = properties.forHost("router.huggingface.co");
+
+        assertThat(settings.getReadTimeout()).isEqualTo(Duration.ofSeconds(60));
+        assertThat(settings.getConnectTimeout()).isEqualTo(properties.getDefaults().getConnectTimeout());
+        assertThat(settings.getMaxConnections()).isEqualTo(properties.getDefaults().getMaxConnections());
+    }
+
+    private static void respond(HttpExchange exchange, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.backend.inventory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+
+/**
+ * {@link MongoInventoryStore} against a real mongod, the default {@code inventory.store}.
+ * Each store stands for one application instance; several share the collection.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class MongoInventoryStoreTest {
+
+    private static final String HOTEL = "42";
+    private static final LocalDate FIRST_NIGHT = LocalDate.of(2025, 6, 1);
+    private static final int NIGHTS = 5;
+    private static final int ROOMS = 20;
+
+    @Container
+    private static final MongoDBContainer MONGO = new MongoDBContainer("mongo:7.0");
+
+    private static MongoClient client;
+    private static MongoTemplate mongoTemplate;
+
+    @BeforeAll
+    static void connect() {
+        client = MongoClients.create(MONGO.getConnectionString());
+        mongoTemplate = new MongoTemplate(client, "inventory-test");
+    }
+
+    @AfterAll
+    static void disconnect() {
+        client.close();
+    }
+
+    @BeforeEach
+    void clear() {
+        mongoTemplate.dropCollection(MongoInventoryStore.COLLECTION);
+    }
+
+    @Test
+    void untouchedNightIsCreatedOnceWhenInstancesRaceForIt() throws Exception {
+        int instances = 16;
+        ExecutorService pool = Executors.newFixedThreadPool(instances);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (int i = 0; i < instances; i++) {
+            MongoInventoryStore store = new MongoInventoryStore(mongoTemplate, hotelId -> 3);
+            results.add(pool.submit(() -> {
+                start.await();
+                // Every instance finds no document and tries to create it; all but one get a duplicate key
+                return store.tryReserve(HOTEL, FIRST_NIGHT, 1);
+            }));
+        }
+        start.countDown();
+        int succeeded = 0;
+        for (Future<Boolean> result : results) {
+            if (result.get()) {
+                succeeded++;
+            }
+        }
+        pool.shutdown();
+
+        assertEquals(3, succeeded);
+        assertEquals(1, mongoTemplate.getCollection(MongoInventoryStore.COLLECTION).countDocuments());
+        assertEquals(0, new MongoInventoryStore(mongoTemplate, hotelId -> 3).remaining(HOTEL, FIRST_NIGHT));
+    }
+
+    @Test
+    void soldOutNightIsNotRecreated() {
+        MongoInventoryStore store = new MongoInventoryStore(mongoTemplate, hotelId -> 2);
+        assertTrue(store.tryReserve(HOTEL, FIRST_NIGHT, 2));
+
+        // The conditional update misses, and creating the night again hits the existing document
+        assertFalse(store.tryReserve(HOTEL, FIRST_NIGHT, 1));
+        assertEquals(0, store.remaining(HOTEL, FIRST_NIGHT));
+
+        store.release(HOTEL, FIRST_NIGHT, 2);
+        assertEquals(2, store.remaining(HOTEL, FIRST_NIGHT));
+        assertEquals(2, new MongoInventoryStore(mongoTemplate, hotelId -> 5).remaining(HOTEL, FIRST_NIGHT));
+    }
+
+    @Test
+    void concurrentBookingsAcrossInstancesNeverOversell() throws Exception {
+        List<RoomInventory> instances = List.of(
+            new RoomInventory(new MongoInventoryStore(mongoTemplate, hotelId -> ROOMS)),
+            new RoomInventory(new MongoInventoryStore(mongoTemplate, hotelId -> ROOMS)),
+            new RoomInventory(new MongoInventoryStore(mongoTemplate, hotelId -> ROOMS)));
+        AtomicIntegerArray held = new AtomicIntegerArray(NIGHTS);
+
+        int attempts = 400;
+        ExecutorService pool = Executors.newFixedThreadPool(32);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (int i = 0; i < attempts; i++) {
+            RoomInventory inventory = instances.get(i % instances.size());
+            results.add(pool.submit(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                int from = random.nextInt(NIGHTS);
+                int to = from + 1 + random.nextInt(Math.min(3, NIGHTS - from));
+                int rooms = 1 + random.nextInt(2);
+                start.await();
+                try {
+                    inventory.reserve(HOTEL, night(from).toString(), night(to).toString(), rooms);
+                } catch (RoomInventory.SoldOutException e) {
+                    return false;
+                }
+                for (int n = from; n < to; n++) {
+                    held.addAndGet(n, rooms);
+                }
+                return true;
+            }));
+        }
+        start.countDown();
+        int succeeded = 0;
+        for (Future<Boolean> result : results) {
+            if (result.get()) {
+                succeeded++;
+            }
+        }
+        pool.shutdown();
+
+        assertTrue(succeeded > 0 && succeeded < attempts);
+        MongoInventoryStore store = new MongoInventoryStore(mongoTemplate, hotelId -> ROOMS);
+        for (int n = 0; n < NIGHTS; n++) {
+            assertTrue(held.get(n) <= ROOMS, "night " + n + " oversold: " + held.get(n));
+            assertEquals(ROOMS - held.get(n), store.remaining(HOTEL, night(n)));
+        }
+        assertThrows(RoomInventory.SoldOutException.class,
+            () -> instances.get(0).reserve(HOTEL, night(0).toString(), night(NIGHTS).toString(), ROOMS));
+    }
+
+    private static LocalDate night(int offset) {
+        return FIRST_NIGHT.plusDays(offset);
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.backend.inventory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import org.junit.jupiter.api.Test;
+
+class RoomInventoryStressTest {
+
+    private static final String HOTEL = "42";
+    private static final LocalDate FIRST_NIGHT = LocalDate.of(2025, 6, 1);
+    private static final int NIGHTS = 10;
+    private static final int ROOMS = 25;
+
+    @Test
+    void concurrentBookingsNeverOversell() throws Exception {
+        InMemoryInventoryStore store = new InMemoryInventoryStore(hotelId -> ROOMS);
+        RoomInventory inventory = new RoomInventory(store);
+        // What the winners hold per night, tracked independently of the store
+        AtomicIntegerArray held = new AtomicIntegerArray(NIGHTS);
+
+        int attempts = 5000;
+        ExecutorService pool = Executors.newFixedThreadPool(64);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (int i = 0; i < attempts; i++) {
+            results.add(pool.submit(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                int from = random.nextInt(NIGHTS);
+                int to = from + 1 + random.nextInt(Math.min(3, NIGHTS - from));
+                int rooms = 1 + random.nextInt(2);
+                start.await();
+                try {
+                    inventory.reserve(HOTEL, night(from).toString(), night(to).toString(), rooms);
+                } catch (RoomInventory.SoldOutException e) {
+                    return false;
+                }
+                for (int n = from; n < to; n++) {
+                    held.addAndGet(n, rooms);
+                }
+                // Some winners cancel straight away, freeing nights for later attempts
+                if (random.nextInt(4) == 0) {
+                    for (int n = from; n < to; n++) {
+                        held.addAndGet(n, -rooms);
+                    }
+                    inventory.release(HOTEL, night(from).toString(), night(to).toString(), rooms);
+                }
+                return true;
+            }));
+        }
+        start.countDown();
+        int succeeded = 0;
+        for (Future<Boolean> result : results) {
+            if (result.get()) {
+                succeeded++;
+            }
+        }
+        pool.shutdown();
+
+        assertTrue(succeeded > 0 && succeeded < attempts);
+        for (int n = 0; n < NIGHTS; n++) {
+            assertTrue(held.get(n) <= ROOMS, "night " + n + " oversold: " + held.get(n));
+            assertEquals(ROOMS - held.get(n), store.remaining(HOTEL, night(n)));
+        }
+    }
+
+    @Test
+    void failedStayGivesBackEarlierNights() {
+        InMemoryInventoryStore store = new InMemoryInventoryStore(hotelId -> 2);
+        RoomInventory inventory = new RoomInventory(store);
+        inventory.reserve(HOTEL, "2025-06-03", "2025-06-04", 2);
+
+        assertThrows(RoomInventory.SoldOutException.class,
+            () -> inventory.reserve(HOTEL, "2025-06-01", "2025-06-05", 1));
+
+        assertEquals(2, store.remaining(HOTEL, LocalDate.of(2025, 6, 1)));
+        assertEquals(2, store.remaining(HOTEL, LocalDate.of(2025, 6, 2)));
+        assertEquals(0, store.remaining(HOTEL, LocalDate.of(2025, 6, 3)));
+        assertEquals(2, store.remaining(HOTEL, LocalDate.of(2025, 6, 4)));
+    }
+
+    @Test
+    void rejectsInvalidStays() {
+        RoomInventory inventory = new RoomInventory(new InMemoryInventoryStore(hotelId -> 2));
+        assertThrows(IllegalArgumentException.class, () -> inventory.reserve(HOTEL, "2025-06-02", "2025-06-02", 1));
+        assertThrows(IllegalArgumentException.class, () -> inventory.reserve(HOTEL, "06/01/2025", "2025-06-02", 1));
+        assertThrows(IllegalArgumentException.class, () -> inventory.reserve(HOTEL, "2025-06-01", "2025-06-02", 0));
+    }
+
+    private static LocalDate night(int offset) {
+        return FIRST_NIGHT.plusDays(offset);
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.backend.mongo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.bson.BsonDocument;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.mongodb.ServerAddress;
+import com.mongodb.connection.ClusterId;
+import com.mongodb.connection.ConnectionDescription;
+import com.mongodb.connection.ServerId;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class SlowQueryProfilerTest {
+
+    private static final ConnectionDescription CONNECTION = new ConnectionDescription(new ServerId(new ClusterId(), new ServerAddress()));
+
+    private static final String COLLSCAN_EXPLAIN = """
+        {queryPlanner: {winningPlan: {stage: "SORT", inputStage: {stage: "COLLSCAN", direction: "forward"}},
+                        rejectedPlans: []},
+         executionStats: {nReturned: 3, executionTimeMillis: 180, totalKeysExamined: 0, totalDocsExamined: 50000}}
+        """;
+
+    private final AtomicInteger requestIds = new AtomicInteger();
+    private final List<BsonDocument> explained = new CopyOnWriteArrayList<>();
+    private SlowQueryProfiler profiler;
+
+    @AfterEach
+    void close() {
+        if (profiler != null) {
+            profiler.close();
+        }
+    }
+
+    @Test
+    void shapeKeepsFieldsAndOperatorsButNotValues() {
+        QueryShape first = QueryShape.of("find", BsonDocument.parse(
+            "{find: 'bookings', filter: {userEmail: 'a@example.com', checkIn: {$gte: '2026-01-01'}}, sort: {createdAt: -1}, $db: 'springnext'}"));
+        QueryShape second = QueryShape.of("find", BsonDocument.parse(
+            "{find: 'bookings', filter: {userEmail: 'b@example.com', checkIn: {$gte: '2027-05-01'}}, sort: {createdAt: -1}, $db: 'springnext'}"));
+
+        assertThat(first).isEqualTo(second);
+        assertThat(first.filter()).isEqualTo("{userEmail: ?, checkIn: {$gte: ?}}");
+        assertThat(first.sort()).isEqualTo("{createdAt: -1}");
+        // Equality, then sort, then range
+        assertThat(first.suggestedIndex()).isEqualTo("{userEmail: 1, createdAt: -1, checkIn: 1}");
+    }
+
+    @Test
+    void aggregateShapesUseTheLeadingMatchAndSort() {
+        QueryShape shape = QueryShape.of("aggregate", BsonDocument.parse(
+            "{aggregate: 'reviews', pipeline: [{$match: {hotelId: {$in: [1, 2]}}}, {$sort: {createdAt: -1}}, {$limit: 20}], cursor: {}}"));
+
+        assertThat(shape.command()).isEqualTo("aggregate($match,$sort,$limit)");
+        assertThat(shape.filter()).isEqualTo("{hotelId: {$in: ?}}");
+        assertThat(shape.suggestedIndex()).isEqualTo("{hotelId: 1, createdAt: -1}");
+        assertThat(QueryShape.of("insert", BsonDocument.parse("{insert: 'reviews'}"))).isNull();
+        // Writes are not profiled, including pipelines that write their output
+        assertThat(QueryShape.of("findAndModify", BsonDocument.parse("{findAndModify: 'bookings', query: {_id: 1}}"))).isNull();
+        assertThat(QueryShape.of("aggregate", BsonDocument.parse(
+            "{aggregate: 'bookings', pipeline: [{$match: {status: 'CONFIRMED'}}, {$merge: {into: 'rollups'}}], cursor: {}}"))).isNull();
+    }
+
+    @Test
+    void slowCommandsAreGroupedByShapeAndExplainedOnce() throws InterruptedException {
+        profiler = profiler(COLLSCAN_EXPLAIN);
+
+        run("find", "{find: 'bookings', filter: {userEmail: 'a@example.com'}, sort: {createdAt: -1}, lsid: {id: 1}, $db: 'springnext'}", 250);
+        run("find", "{find: 'bookings', filter: {userEmail: 'b@example.com'}, sort: {createdAt: -1}, lsid: {id: 2}, $db: 'springnext'}", 150);
+        run("find", "{find: 'bookings', filter: {userEmail: 'c@example.com'}, sort: {createdAt: -1}, $db: 'springnext'}", 5);
+        Map<String, Object> shape = awaitExplained();
+
+        assertThat(shape).containsEntry("collection", "bookings").containsEntry("count", 2L).containsEntry("maxMillis", 250.0);
+        assertThat(explained).hasSize(1);
+        assertThat(explained.get(0).getDocument("explain")).doesNotContainKeys("lsid", "$db");
+        assertThat(explained.get(0).getString("verbosity").getValue()).isEqualTo("executionStats");
+        assertThat(shape.get("problems")).isEqualTo(List.of("COLLSCAN", "in-memory SORT", "examined 50000 documents for 3 returned"));
+        assertThat(shape).containsEntry("suggestedIndex", "db.bookings.createIndex({userEmail: 1, createdAt: -1})");
+    }
+
+    @Test
+    void shapesAreRankedByTotalTime() {
+        profiler = profiler(COLLSCAN_EXPLAIN);
+
+        run("count", "{count: 'reviews', query: {hotelId: 7}}", 120);
+        run("find", "{find: 'users', filter: {email: 'x'}}", 400);
+        run("count", "{count: 'reviews', query: {hotelId: 8}}", 120);
+
+        assertThat(profiler.ranked(10)).extracting(s -> s.get("collection")).containsExactly("users", "reviews");
+        assertThat(profiler.ranked(1)).hasSize(1);
+    }
+
+    @Test
+    void indexedPlansAreNotFlagged() {
+        ExplainSummary summary = ExplainSummary.of(BsonDocument.parse("""
+            {queryPlanner: {winningPlan: {stage: "FETCH", inputStage: {stage: "IXSCAN", indexName: "userEmail_1"}},
+                            rejectedPlans: [{stage: "COLLSCAN"}]},
+             executionStats: {nReturned: 40, totalKeysExamined: 40, totalDocsExamined: 40}}
+            """));
+
+        assertThat(summary.collectionScan()).isFalse();
+        assertThat(summary.indexes()).containsExactly("userEmail_1");
+        assertThat(summary.problems(10)).isEmpty();
+    }
+
+    private SlowQueryProfiler profiler(String explainResult) {
+        return new SlowQueryProfiler(Duration.ofMillis(100), Duration.ofMinutes(10), 10, 100, (database, command) -> {
+            explained.add(command);
+            return BsonDocument.parse(explainResult);
+        }, new SimpleMeterRegistry());
+    }
+
+    private void run(String commandName, String command, long millis) {
+        int requestId = requestIds.incrementAndGet();
+        profiler.commandStarted(new CommandStartedEvent(null, 1, requestId, CONNECTION, "springnext", commandName, BsonDocument.parse(command)));
+        profiler.commandSucceeded(new CommandSucceededEvent(null, 1, requestId, CONNECTION, "springnext", commandName,
+            new BsonDocument(), Duration.ofMillis(millis).toNanos()));
+    }
+
+    private Map<String, Object> awaitExplained() throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            Map<String, Object> shape = profiler.ranked(1).get(0);
+            if (shape.get("explainedAt") != null) {
+                return shape;
+            }
+            Thread.sleep(20);
+        }
+        throw new AssertionError("shape was not explained");
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.backend.model.Booking;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+class BookingExportWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final BookingExportWriter writer = new BookingExportWriter(objectMapper);
+
+    @Test
+    void csvQuotesFieldsThatNeedIt() throws Exception {
+        Booking booking = booking("b1");
+        booking.setSpecialRequests("Late arrival, \"quiet\" room\nplease");
+
+        String[] lines = export(List.of(booking), BookingExportWriter.Format.CSV).split("\r\n", -1);
+
+        assertEquals(3, lines.length);
+        assertTrue(lines[0].startsWith("id,userEmail,hotelId,"));
+        String row = lines[1];
+        assertTrue(row.startsWith("b1,a@example.com,7,Sea View,"));
+        assertTrue(row.contains(",\"Late arrival, \"\"quiet\"\" room\nplease\","));
+        assertEquals("", lines[2]);
+    }
+
+    @Test
+    void ndjsonWritesOneBookingPerLine() throws Exception {
+        String out = export(List.of(booking("b1"), booking("b2")), BookingExportWriter.Format.NDJSON);
+
+        String[] lines = out.split("\n");
+        assertEquals(2, lines.length);
+        assertEquals("b2", objectMapper.readTree(lines[1]).get("id").asText());
+    }
+
+    @Test
+    void jsonWritesAnArray() throws Exception {
+        assertEquals("[]", export(List.of(), BookingExportWriter.Format.JSON));
+        assertEquals(2, objectMapper.readTree(export(List.of(booking("b1"), booking("b2")), BookingExportWriter.Format.JSON)).size());
+    }
+
+    @Test
+    void resolvesFormatFromParameterThenAccept() {
+        assertEquals(BookingExportWriter.Format.CSV, BookingExportWriter.Format.resolve("csv", "application/json"));
+        assertEquals(BookingExportWriter.Format.NDJSON, BookingExportWriter.Format.resolve(null, "application/x-ndjson"));
+        assertEquals(BookingExportWriter.Format.JSON, BookingExportWriter.Format.resolve(null, null));
+        assertThrows(IllegalArgumentException.class, () -> BookingExportWriter.Format.resolve("xml", null));
+    }
+
+    private String export(List<Booking> bookings, BookingExportWriter.Format format) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writer.write(bookings.iterator(), format, out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private static Booking booking(String id) {
+        Booking booking = new Booking();
+        booking.setId(id);
+        booking.setUserEmail("a@example.com");
+        booking.setHotelId("7");
+        booking.setHotelName("Sea View");
+        return booking;
+    }
+}
@@ -0,0 +1,181 @@
+package com.example.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.SocketTimeoutException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.QueryTimeoutException;
+
+import com.example.backend.inventory.InMemoryInventoryStore;
+import com.example.backend.inventory.InventoryStore;
+import com.example.backend.inventory.RoomInventory;
+import com.example.backend.model.Booking;
+
+class BookingReconcilerTest {
+
+    private static final String HOTEL = "7";
+    private static final LocalDate NIGHT = LocalDate.of(2025, 6, 1);
+
+    private final InMemoryInventoryStore store = new InMemoryInventoryStore(hotelId -> 5);
+    private final RoomInventory inventory = new RoomInventory(store);
+    private final Map<String, Booking> stored = new HashMap<>();
+    private final List<Booking> recorded = new CopyOnWriteArrayList<>();
+
+    @Test
+    void onlyFailuresThatProveNothingWasWrittenReleaseStraightAway() {
+        assertThat(BookingReconciler.provesNotStored(new DuplicateKeyException("E11000"))).isTrue();
+        assertThat(BookingReconciler.provesNotStored(new IllegalArgumentException("no id"))).isTrue();
+        // A timeout may come after the server applied the insert; a write concern error always does
+        assertThat(BookingReconciler.provesNotStored(new QueryTimeoutException("timed out"))).isFalse();
+        assertThat(BookingReconciler.provesNotStored(
+            new DataAccessResourceFailureException("socket", new SocketTimeoutException()))).isFalse();
+        assertThat(BookingReconciler.provesNotStored(new DataIntegrityViolationException("write concern"))).isFalse();
+    }
+
+    @Test
+    void storedBookingKeepsItsRoomsAndMissingOneGivesThemBack() {
+        Instant now = Instant.parse("2025-01-01T00:00:00Z");
+        BookingReconciler reconciler = reconciler(Clock.fixed(now, ZoneOffset.UTC));
+        Booking kept = reserve("kept", 2);
+        Booking lost = reserve("lost", 1);
+        stored.put("kept", kept);
+        reconciler.add(kept);
+        reconciler.add(lost);
+
+        reconciler.reconcile();
+
+        assertThat(reconciler.pending()).isZero();
+        assertThat(store.remaining(HOTEL, NIGHT)).isEqualTo(3);
+        assertThat(recorded).containsExactly(kept);
+    }
+
+    @Test
+    void waitsForTheSettleDelayAndRetriesFailedLookups() {
+        MutableClock clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+        boolean[] lookupsFail = {true};
+        BookingReconciler reconciler = new BookingReconciler(id -> {
+            if (lookupsFail[0]) {
+                throw new DataAccessResourceFailureException("no primary");
+            }
+            return Optional.ofNullable(stored.get(id));
+        }, inventory, recorded::add, Duration.ofMinutes(2), clock);
+        reconciler.add(reserve("b1", 1));
+
+        reconciler.reconcile();
+        assertThat(reconciler.pending()).isEqualTo(1);
+
+        clock.now = clock.now.plus(Duration.ofMinutes(3));
+        reconciler.reconcile();
+        assertThat(reconciler.pending()).isEqualTo(1);
+        assertThat(store.remaining(HOTEL, NIGHT)).isEqualTo(4);
+
+        lookupsFail[0] = false;
+        reconciler.reconcile();
+        assertThat(reconciler.pending()).isZero();
+        assertThat(store.remaining(HOTEL, NIGHT)).isEqualTo(5);
+    }
+
+    @Test
+    void failedReleaseIsRetriedForTheNightsLeftOnly() {
+        Set<LocalDate> failing = new CopyOnWriteArraySet<>();
+        RoomInventory flaky = new RoomInventory(new InventoryStore() {
+            @Override
+            public boolean tryReserve(String hotelId, LocalDate night, int rooms) {
+                return store.tryReserve(hotelId, night, rooms);
+            }
+
+            @Override
+            public void release(String hotelId, LocalDate night, int rooms) {
+                if (failing.contains(night)) {
+                    throw new DataAccessResourceFailureException("no primary");
+                }
+                store.release(hotelId, night, rooms);
+            }
+
+            @Override
+            public int remaining(String hotelId, LocalDate night) {
+                return store.remaining(hotelId, night);
+            }
+        });
+        BookingReconciler reconciler = new BookingReconciler(id -> Optional.empty(), flaky, recorded::add,
+            Duration.ZERO, Clock.systemUTC());
+        Booking booking = reserve("b1", 2);
+        booking.setCheckOut(NIGHT.plusDays(3).toString());
+        inventory.reserve(HOTEL, NIGHT.plusDays(1).toString(), booking.getCheckOut(), 2);
+        failing.add(NIGHT.plusDays(1));
+
+        // As a cancellation does: the caller never sees the failure
+        reconciler.release(booking);
+
+        assertThat(reconciler.pendingReleases()).isEqualTo(1);
+        assertThat(store.remaining(HOTEL, NIGHT)).isEqualTo(5);
+        assertThat(store.remaining(HOTEL, NIGHT.plusDays(1))).isEqualTo(3);
+        assertThat(store.remaining(HOTEL, NIGHT.plusDays(2))).isEqualTo(5);
+
+        reconciler.reconcile();
+        assertThat(reconciler.pendingReleases()).isEqualTo(1);
+
+        failing.clear();
+        reconciler.reconcile();
+        assertThat(reconciler.pendingReleases()).isZero();
+        for (int i = 0; i < 3; i++) {
+            assertThat(store.remaining(HOTEL, NIGHT.plusDays(i))).isEqualTo(5);
+        }
+    }
+
+    private BookingReconciler reconciler(Clock clock) {
+        // Settled as soon as added
+        return new BookingReconciler(id -> Optional.ofNullable(stored.get(id)), inventory, recorded::add, Duration.ZERO, clock);
+    }
+
+    private Booking reserve(String id, int rooms) {
+        Booking booking = new Booking();
+        booking.setId(id);
+        booking.setHotelId(HOTEL);
+        booking.setCheckIn(NIGHT.toString());
+        booking.setCheckOut(NIGHT.plusDays(1).toString());
+        booking.setRooms(rooms);
+        inventory.reserve(HOTEL, booking.getCheckIn(), booking.getCheckOut(), rooms);
+        return booking;
+    }
+
+    private static final class MutableClock extends Clock {
+        volatile Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.example.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+class HotelApiTokenManagerTest {
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+
+    @Test
+    void decodesExpiryFromJwtPayload() {
+        HotelApiTokenManager manager = new HotelApiTokenManager(() -> "unused", Duration.ofMinutes(5), Duration.ofMinutes(30), clock);
+
+        HotelApiTokenManager.Token token = manager.decode(jwtExpiringAt(clock.instant().plus(Duration.ofHours(1))));
+
+        assertThat(token.expiresAt).isEqualTo(clock.instant().plus(Duration.ofHours(1)).minusSeconds(10));
+        assertThat(token.refreshAt).isEqualTo(token.expiresAt.minus(Duration.ofMinutes(5)));
+    }
+
+    @Test
+    void opaqueTokensGetDefaultLifetime() {
+        HotelApiTokenManager manager = new HotelApiTokenManager(() -> "unused", Duration.ofMinutes(5), Duration.ofMinutes(30), clock);
+
+        HotelApiTokenManager.Token token = manager.decode("opaque-token");
+
+        assertThat(token.expiresAt).isEqualTo(clock.instant().plus(Duration.ofMinutes(30)).minusSeconds(10));
+    }
+
+    @Test
+    void concurrentCallersWithoutTokenShareOneAuthCall() throws Exception {
+        AtomicInteger authCalls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        try (HotelApiTokenManager manager = new HotelApiTokenManager(() -> {
+            authCalls.incrementAndGet();
+            await(release);
+            return jwtExpiringAt(clock.instant().plus(Duration.ofHours(1)));
+        }, Duration.ofMinutes(5), Duration.ofMinutes(30), clock)) {
+
+            ExecutorService pool = Executors.newFixedThreadPool(32);
+            try {
+                List<Future<String>> tokens = new ArrayList<>();
+                for (int i = 0; i < 32; i++) {
+                    tokens.add(pool.submit(manager::getToken));
+                }
+                Thread.sleep(100);
+                release.countDown();
+                for (Future<String> token : tokens) {
+                    assertThat(token.get(5, TimeUnit.SECONDS)).isNotBlank();
+                }
+            } finally {
+                pool.shutdownNow();
+            }
+        }
+
+        assertThat(authCalls).hasValue(1);
+    }
+
+    @Test
+    void tokenInsideRefreshWindowIsServedWhileRefreshRuns() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger authCalls = new AtomicInteger();
+        AtomicReference<String> next = new AtomicReference<>(jwtExpiringAt(clock.instant().plus(Duration.ofHours(1))));
+        try (HotelApiTokenManager manager = new HotelApiTokenManager(() -> {
+            if (authCalls.incrementAndGet() > 1) {
+                await(release);
+            }
+            return next.get();
+        }, Duration.ofMinutes(5), Duration.ofMinutes(30), clock)) {
+
+            String first = manager.getToken();
+            clock.advance(Duration.ofMinutes(56));
+            next.set(jwtExpiringAt(clock.instant().plus(Duration.ofHours(1))));
+
+            // Refresh is blocked on the auth call, yet the still-valid token comes back immediately
+            assertThat(manager.getToken()).isEqualTo(first);
+            assertThat(manager.getToken()).isEqualTo(first);
+
+            release.countDown();
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (!manager.getToken().equals(next.get()) && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertThat(manager.getToken()).isEqualTo(next.get());
+        }
+
+        assertThat(authCalls).hasValue(2);
+    }
+
+    @Test
+    void unauthorizedRefreshesOnlyOncePerRejectedToken() {
+        AtomicInteger authCalls = new AtomicInteger();
+        try (HotelApiTokenManager manager = new HotelApiTokenManager(() -> "token-" + authCalls.incrementAndGet(),
+                Duration.ofMinutes(5), Duration.ofMinutes(30), clock)) {
+
+            String rejected = manager.getToken();
+            String replacement = manager.refreshAfterUnauthorized(rejected);
+
+            assertThat(replacement).isEqualTo("token-2");
+            // A second thread reporting the same stale token gets the replacement without another auth call
+            assertThat(manager.refreshAfterUnauthorized(rejected)).isEqualTo("token-2");
+            assertThat(authCalls).hasValue(2);
+        }
+    }
+
+    @Test
+    void eachRefreshReplacesThePendingBackgroundRefresh() throws Exception {
+        AtomicInteger authCalls = new AtomicInteger();
+        // Opaque tokens usable for one second: every refresh schedules the next one a second later
+        try (HotelApiTokenManager manager = new HotelApiTokenManager(() -> "token-" + authCalls.incrementAndGet(),
+                Duration.ZERO, Duration.ofSeconds(11), clock)) {
+
+            manager.refresh().get(5, TimeUnit.SECONDS);
+            manager.refreshAfterUnauthorized(manager.getToken());
+            manager.refresh().get(5, TimeUnit.SECONDS);
+            Thread.sleep(1500);
+
+            // One scheduled refresh ran, not one per earlier refresh
+            assertThat(authCalls).hasValue(4);
+        }
+    }
+
+    @Test
+    void authFailureSurfacesWhenNoTokenIsAvailable() {
+        try (HotelApiTokenManager manager = new HotelApiTokenManager(() -> {
+            throw new RuntimeException("Failed to authenticate with Hotel API: 503");
+        }, Duration.ofMinutes(5), Duration.ofMinutes(30), clock)) {
+
+            assertThatThrownBy(manager::getToken).hasMessage("Failed to authenticate with Hotel API: 503");
+        }
+    }
+
+    private static String jwtExpiringAt(Instant exp) {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        String header = encoder.encodeToString("{\"alg\":\"HS256\",\"typ\":\"JWT\"}".getBytes(StandardCharsets.UTF_8));
+        String payload = encoder.encodeToString(("{\"exp\":" + exp.getEpochSecond() + "}").getBytes(StandardCharsets.UTF_8));
+        return header + "." + payload + ".signature";
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+        private final AtomicReference<Instant> now;
+
+        MutableClock(Instant start) {
+            this.now = new AtomicReference<>(start);
+        }
+
+        void advance(Duration duration) {
+            now.updateAndGet(instant -> instant.plus(duration));
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now.get();
+        }
+    }
+}
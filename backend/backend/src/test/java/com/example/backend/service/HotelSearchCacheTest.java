@@ -0,0 +1,87 @@
+package com.example.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.backend.dto.HotelResponse;
+
+class HotelSearchCacheTest {
+
+    @Test
+    void concurrentMissesForSameCityShareOneLoad() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        HotelSearchCache cache = new HotelSearchCache(city -> {
+            loads.incrementAndGet();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return List.of(new HotelResponse("Hotel " + city, "1", List.of()));
+        }, 100, Duration.ofMinutes(10), Duration.ofMinutes(1));
+
+        ExecutorService pool = Executors.newFixedThreadPool(16);
+        try {
+            List<Future<List<HotelResponse>>> results = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                String city = i % 2 == 0 ? "Paris" : "  paris ";
+                results.add(pool.submit(() -> cache.get(city)));
+            }
+            Thread.sleep(100);
+            release.countDown();
+            for (Future<List<HotelResponse>> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).extracting(HotelResponse::getHotelName).containsExactly("Hotel paris");
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(loads).hasValue(1);
+        assertThat(cache.stats().missCount() + cache.stats().hitCount()).isEqualTo(16);
+    }
+
+    @Test
+    void sizeStaysBoundedAcrossManyCities() {
+        HotelSearchCache cache = new HotelSearchCache(city -> List.of(), 50, Duration.ofMinutes(10), Duration.ofMinutes(1));
+
+        for (int i = 0; i < 1_000; i++) {
+            cache.get("city-" + i);
+        }
+
+        assertThat(cache.size()).isLessThanOrEqualTo(50);
+    }
+
+    @Test
+    void failedLoadIsNotCached() {
+        AtomicInteger loads = new AtomicInteger();
+        HotelSearchCache cache = new HotelSearchCache(city -> {
+            if (loads.incrementAndGet() == 1) {
+                throw new RuntimeException("upstream down");
+            }
+            return List.of();
+        }, 10, Duration.ofMinutes(10), Duration.ofMinutes(1));
+
+        assertThatThrownBy(() -> cache.get("rome")).hasMessage("upstream down");
+        assertThat(cache.get("rome")).isEmpty();
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void normalizeCollapsesCaseAndWhitespace() {
+        assertThat(HotelSearchCache.normalize("  New   York ")).isEqualTo("new york");
+        assertThatThrownBy(() -> HotelSearchCache.normalize(" ")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.backend.dto.HotelFilterResponse;
+
+class HotelSearchIndexTest {
+
+    private final HotelSearchIndex.Snapshot index = HotelSearchIndex.Snapshot.build(List.of(
+        hotel(1, "Paris", "France", 4, 220.0, "wifi", "spa"),
+        hotel(2, "Paris", "France", 3, 95.5, "wifi"),
+        hotel(3, "Lyon", "France", 5, 410.0, "wifi", "pool", "spa"),
+        hotel(4, "Berlin", "Germany", 4, 130.0, "gym"),
+        hotel(5, "paris", "France", 2, null, "parking")));
+
+    @Test
+    void combinesBitmapsWithPriceRange() {
+        HotelFilterResponse result = index.search(new HotelSearchIndex.Filter()
+            .countries(List.of("france"))
+            .amenities(List.of("WIFI"))
+            .price(90.0, 300.0));
+
+        assertThat(ids(result)).containsExactly(2, 1);
+        assertThat(result.getTotal()).isEqualTo(2);
+    }
+
+    @Test
+    void unpricedHotelsOnlyMatchWithoutPriceBounds() {
+        HotelSearchIndex.Filter paris = new HotelSearchIndex.Filter().cities(List.of("Paris"));
+
+        assertThat(ids(index.search(paris))).containsExactly(2, 1, 5);
+        assertThat(ids(index.search(paris.price(null, 500.0)))).containsExactly(2, 1);
+    }
+
+    @Test
+    void sortsAndPagesAcrossSegments() {
+        assertThat(ids(index.search(new HotelSearchIndex.Filter().sort(HotelSearchIndex.Sort.PRICE_DESC))))
+            .containsExactly(3, 1, 4, 2, 5);
+        assertThat(ids(index.search(new HotelSearchIndex.Filter().sort(HotelSearchIndex.Sort.STARS_DESC).page(1, 3))))
+            .containsExactly(4, 1, 2);
+    }
+
+    @Test
+    void facetsCountTheWholeFilteredResult() {
+        HotelFilterResponse result = index.search(new HotelSearchIndex.Filter().stars(List.of(4, 5)).page(0, 1));
+
+        assertThat(result.getItems()).hasSize(1);
+        assertThat(result.getFacets().get("country")).containsExactly(Map.entry("France", 2), Map.entry("Germany", 1));
+        assertThat(result.getFacets().get("amenities")).containsEntry("spa", 2).containsEntry("gym", 1);
+        assertThat(result.getFacets().get("stars")).containsExactly(Map.entry("4", 2), Map.entry("5", 1));
+    }
+
+    @Test
+    void unknownValuesMatchNothing() {
+        assertThat(index.search(new HotelSearchIndex.Filter().amenities(List.of("wifi", "sauna"))).getTotal()).isZero();
+        assertThat(index.search(new HotelSearchIndex.Filter().cities(List.of("Madrid"))).getTotal()).isZero();
+    }
+
+    private static List<Integer> ids(HotelFilterResponse result) {
+        return result.getItems().stream().map(hotel -> (Integer) hotel.get("hotelId")).toList();
+    }
+
+    private static Map<String, Object> hotel(int id, String city, String country, int stars, Double price, String... amenities) {
+        Map<String, Object> hotel = new HashMap<>();
+        hotel.put("hotelId", id);
+        hotel.put("city", city);
+        hotel.put("country", country);
+        hotel.put("stars", stars);
+        hotel.put("price_per_night", price);
+        hotel.put("amenities", List.of(amenities));
+        return hotel;
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.web.client.RestClientException;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+// The service as configured in production, with batching on, against a stand-in inference server
+@SpringBootTest(properties = {
+    "huggingface.api.token=test-token",
+    "huggingface.batch.enabled=true",
+    "huggingface.batch.window=50ms"})
+class HuggingFaceServiceTest {
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+    private static final AtomicInteger batchCalls = new AtomicInteger();
+    private static final HttpServer stub = startStub();
+
+    @Autowired
+    private HuggingFaceService service;
+
+    @DynamicPropertySource
+    static void stubUrl(DynamicPropertyRegistry registry) {
+        registry.add("huggingface.base-url", () -> "http://127.0.0.1:" + stub.getAddress().getPort());
+    }
+
+    @AfterAll
+    static void stopStub() {
+        stub.stop(0);
+    }
+
+    @Test
+    void batchedCallersGetTheBodyOfASingleCall() throws Exception {
+        int requests = 12;
+        List<CompletableFuture<HuggingFaceService.InferenceResult>> results = new ArrayList<>();
+        for (int i = 0; i < requests; i++) {
+            Map<String, Object> body = body("q" + i);
+            results.add(CompletableFuture.supplyAsync(() -> service.infer("org/model", body)));
+        }
+        for (int i = 0; i < requests; i++) {
+            HuggingFaceService.InferenceResult result = results.get(i).get(5, TimeUnit.SECONDS);
+            assertThat(result.status()).isEqualTo(200);
+            assertThat(result.cached()).isFalse();
+            assertThat(JSON.readTree(result.body())).isEqualTo(JSON.readTree(singleCall("org/model", body("q" + i))));
+        }
+        // 12 inputs at up to 8 per call
+        assertThat(batchCalls.get()).isBetween(2, 6);
+
+        // Batched results are cached like single ones
+        int before = batchCalls.get();
+        HuggingFaceService.InferenceResult again = service.infer("org/model", body("q3"));
+        assertThat(again.cached()).isTrue();
+        assertThat(JSON.readTree(again.body())).isEqualTo(JSON.readTree(singleCall("org/model", body("q3"))));
+        assertThat(batchCalls.get()).isEqualTo(before);
+    }
+
+    @Test
+    void batchAnsweredWithSomethingOtherThanAListFails() {
+        assertThatThrownBy(() -> service.infer("org/odd", body("x")))
+            .isInstanceOf(RestClientException.class)
+            .hasMessageContaining("Expected a list of results");
+    }
+
+    private static Map<String, Object> body(String input) {
+        return Map.of("inputs", input, "parameters", Map.of("max_new_tokens", 50));
+    }
+
+    /**
+     * What the stand-in answers to one unbatched request
+     */
+    private static byte[] singleCall(String modelPath, Map<String, Object> body) throws Exception {
+        HttpResponse<byte[]> response = HttpClient.newHttpClient().send(
+            HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + stub.getAddress().getPort() + "/models/" + modelPath))
+                .POST(HttpRequest.BodyPublishers.ofByteArray(JSON.writeValueAsBytes(body)))
+                .build(),
+            HttpResponse.BodyHandlers.ofByteArray());
+        return response.body();
+    }
+
+    /**
+     * Answers like the text-generation API: {@code [{generated_text}]} for one input, one
+     * {@code {generated_text}} per input for a list
+     */
+    private static HttpServer startStub() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+            server.createContext("/models/org/model", exchange -> {
+                Map<?, ?> body = JSON.readValue(exchange.getRequestBody(), Map.class);
+                Object answer;
+                if (body.get("inputs") instanceof List<?> inputs) {
+                    batchCalls.incrementAndGet();
+                    List<Object> results = new ArrayList<>();
+                    for (Object input : inputs) {
+                        results.add(Map.of("generated_text", input + "!"));
+                    }
+                    answer = results;
+                } else {
+                    answer = List.of(Map.of("generated_text", body.get("inputs") + "!"));
+                }
+                send(exchange, JSON.writeValueAsBytes(answer));
+            });
+            server.createContext("/models/org/odd", exchange -> {
+                exchange.getRequestBody().readAllBytes();
+                send(exchange, "{\"error\":\"model is loading\"}".getBytes());
+            });
+            server.setExecutor(Executors.newCachedThreadPool());
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void send(HttpExchange exchange, byte[] json) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, json.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(json);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.example.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class InferenceBatcherTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final HttpClient client = HttpClient.newHttpClient();
+    private final AtomicInteger calls = new AtomicInteger();
+
+    private HttpServer stub;
+    private String baseUrl;
+    private InferenceBatcher batcher;
+
+    @BeforeEach
+    void startStub() throws IOException {
+        stub = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        // Stand-in inference server: one {generated_text} per input, after a short "generation"
+        stub.createContext("/models/org/model", exchange -> {
+            calls.incrementAndGet();
+            Map<?, ?> body = objectMapper.readValue(exchange.getRequestBody(), Map.class);
+            List<Map<String, Object>> results = new ArrayList<>();
+            for (Object input : (List<?>) body.get("inputs")) {
+                results.add(Map.of("generated_text", input + "!"));
+            }
+            sleep(30);
+            byte[] json = objectMapper.writeValueAsBytes(results);
+            exchange.sendResponseHeaders(200, json.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(json);
+            }
+        });
+        stub.createContext("/models/org/broken", exchange -> {
+            calls.incrementAndGet();
+            exchange.sendResponseHeaders(503, -1);
+            exchange.close();
+        });
+        stub.setExecutor(Executors.newCachedThreadPool());
+        stub.start();
+        baseUrl = "http://127.0.0.1:" + stub.getAddress().getPort();
+        batcher = new InferenceBatcher(this::post, 8, Duration.ofMillis(50), 2, objectMapper, meterRegistry);
+    }
+
+    @AfterEach
+    void stop() {
+        batcher.close();
+        stub.stop(0);
+    }
+
+    @Test
+    void concurrentRequestsShareCallsAndGetTheirOwnResults() throws Exception {
+        int requests = 20;
+        List<CompletableFuture<Object>> results = new ArrayList<>();
+        for (int i = 0; i < requests; i++) {
+            results.add(batcher.submit("org/model", body("q" + i, 200)));
+        }
+        for (int i = 0; i < requests; i++) {
+            assertThat(results.get(i).get(5, TimeUnit.SECONDS)).isEqualTo(Map.of("generated_text", "q" + i + "!"));
+        }
+
+        // 20 inputs at up to 8 per call
+        assertThat(calls.get()).isBetween(3, 5);
+        assertThat(meterRegistry.get("huggingface.batch.size").summary().count()).isEqualTo(calls.get());
+        assertThat(meterRegistry.get("huggingface.batch.size").summary().max()).isEqualTo(8);
+        assertThat(meterRegistry.get("huggingface.batch.wait").timer().count()).isEqualTo(requests);
+        assertThat(meterRegistry.get("huggingface.batch.wait").timer().max(TimeUnit.MILLISECONDS)).isLessThan(1_000);
+    }
+
+    @Test
+    void differentParametersAreNeverBatchedTogether() throws Exception {
+        CompletableFuture<Object> a = batcher.submit("org/model", body("a", 100));
+        CompletableFuture<Object> b = batcher.submit("org/model", body("b", 200));
+
+        assertThat(a.get(5, TimeUnit.SECONDS)).isEqualTo(Map.of("generated_text", "a!"));
+        assertThat(b.get(5, TimeUnit.SECONDS)).isEqualTo(Map.of("generated_text", "b!"));
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    void upstreamFailureFailsEveryCallerInTheBatch() {
+        CompletableFuture<Object> a = batcher.submit("org/broken", body("a", 100));
+        CompletableFuture<Object> b = batcher.submit("org/broken", body("b", 100));
+
+        assertThatThrownBy(() -> a.get(5, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class).hasMessageContaining("503");
+        assertThatThrownBy(() -> b.get(5, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class);
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void onlyPlainSingleInputRequestsAreBatchable() {
+        assertThat(InferenceBatcher.isBatchable(body("hi", 200))).isTrue();
+        assertThat(InferenceBatcher.isBatchable(Map.of("inputs", List.of("a", "b")))).isFalse();
+        assertThat(InferenceBatcher.isBatchable(Map.of("inputs", "hi", "stream", true))).isFalse();
+        assertThat(InferenceBatcher.isBatchable(Map.of("messages", List.of()))).isFalse();
+    }
+
+    private List<Object> post(String modelPath, List<Object> inputs, Map<String, Object> settings) {
+        Map<String, Object> body = new LinkedHashMap<>(settings);
+        body.put("inputs", inputs);
+        try {
+            HttpResponse<byte[]> response = client.send(
+                HttpRequest.newBuilder(URI.create(baseUrl + "/models/" + modelPath))
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                    .build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("Upstream answered " + response.statusCode());
+            }
+            return objectMapper.readValue(response.body(), List.class);
+        } catch (IOException | InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Map<String, Object> body(String input, int maxNewTokens) {
+        return Map.of("inputs", input, "parameters", Map.of("max_new_tokens", maxNewTokens));
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class InferenceResponseCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final InferenceResponseCache cache =
+        new InferenceResponseCache(new ObjectMapper(), 1_000, Duration.ofMinutes(5), meterRegistry);
+
+    @Test
+    void keyIgnoresKeyOrderButNotModelOrValues() {
+        Map<String, Object> a = new LinkedHashMap<>();
+        a.put("inputs", "hi");
+        a.put("parameters", Map.of("max_new_tokens", 200));
+        Map<String, Object> b = new LinkedHashMap<>();
+        b.put("parameters", Map.of("max_new_tokens", 200));
+        b.put("inputs", "hi");
+
+        assertThat(cache.keyFor("org/model", a)).isEqualTo(cache.keyFor("org/model", b));
+        assertThat(cache.keyFor("org/other", a)).isNotEqualTo(cache.keyFor("org/model", a));
+        assertThat(cache.keyFor("org/model", Map.of("inputs", "hello"))).isNotEqualTo(cache.keyFor("org/model", a));
+    }
+
+    @Test
+    void onlyDeterministicRequestsAreCacheable() {
+        assertThat(InferenceResponseCache.isCacheable(Map.of("inputs", "hi", "parameters", Map.of("max_new_tokens", 200)))).isTrue();
+        assertThat(InferenceResponseCache.isCacheable(Map.of("inputs", "hi", "parameters", Map.of("do_sample", true)))).isFalse();
+        assertThat(InferenceResponseCache.isCacheable(Map.of("inputs", "hi", "parameters", Map.of("temperature", 0.7)))).isFalse();
+        assertThat(InferenceResponseCache.isCacheable(Map.of("inputs", "hi", "parameters", Map.of("temperature", 0.7, "do_sample", false)))).isTrue();
+        assertThat(InferenceResponseCache.isCacheable(Map.of("inputs", "hi", "parameters", Map.of("do_sample", true, "seed", 7)))).isTrue();
+        assertThat(InferenceResponseCache.isCacheable(Map.of("inputs", "hi", "options", Map.of("use_cache", false)))).isFalse();
+        assertThat(InferenceResponseCache.isCacheable(Map.of("messages", "[]", "temperature", 0))).isTrue();
+        assertThat(InferenceResponseCache.isCacheable(Map.of("messages", "[]"))).isFalse();
+        assertThat(InferenceResponseCache.isCacheable(Map.of("inputs", "hi", "stream", true))).isFalse();
+    }
+
+    @Test
+    void sampledRequestsBypassAndAreCounted() {
+        assertThat(cache.keyFor("org/model", Map.of("inputs", "hi", "parameters", Map.of("do_sample", true)))).isNull();
+        assertThat(meterRegistry.get("huggingface.cache.bypass").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void evictsBySizeAndReportsHitRatio() {
+        String key = cache.keyFor("org/model", Map.of("inputs", "hi"));
+        cache.put(key, "[{\"generated_text\":\"hello\"}]".getBytes(StandardCharsets.UTF_8));
+        assertThat(cache.get(key)).isNotNull();
+        assertThat(cache.get("missing")).isNull();
+        assertThat(meterRegistry.get("huggingface.cache.hit.ratio").gauge().value()).isEqualTo(0.5);
+
+        // Each entry weighs well over a third of the 1000-byte budget
+        for (int i = 0; i < 5; i++) {
+            cache.put("big" + i, new byte[300]);
+        }
+        assertThat(meterRegistry.get("huggingface.cache.bytes").gauge().value()).isLessThanOrEqualTo(1_000);
+    }
+}
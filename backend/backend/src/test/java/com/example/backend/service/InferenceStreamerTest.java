@@ -0,0 +1,143 @@
+package com.example.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.MediaType;
+
+import com.example.backend.config.OutboundHttpConfig;
+import com.example.backend.http.InstrumentedConnectionManager;
+import com.example.backend.http.OutboundHttpProperties;
+import com.example.backend.http.TotalDeadlineExecHandler;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class InferenceStreamerTest {
+
+    private static final int TOKENS = 6;
+    private static final long TOKEN_INTERVAL_MILLIS = 150;
+
+    private HttpServer stub;
+    private InstrumentedConnectionManager connectionManager;
+    private TotalDeadlineExecHandler deadlineHandler;
+    private CloseableHttpClient httpClient;
+    private InferenceStreamer streamer;
+    private String baseUrl;
+
+    @BeforeEach
+    void startStub() throws IOException {
+        stub = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        // Slow token stream, like a text-generation server with stream=true
+        stub.createContext("/models/org/model", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            exchange.getResponseHeaders().set("Content-Type", "text/event-stream");
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream out = exchange.getResponseBody()) {
+                for (int i = 0; i < TOKENS; i++) {
+                    out.write(("data: {\"token\":\"t" + i + "\"}\n\n").getBytes(StandardCharsets.UTF_8));
+                    out.flush();
+                    Thread.sleep(TOKEN_INTERVAL_MILLIS);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        stub.createContext("/models/org/missing", exchange -> {
+            byte[] body = "{\"error\":\"Model not found\"}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(404, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        stub.setExecutor(Executors.newCachedThreadPool());
+        stub.start();
+        baseUrl = "http://127.0.0.1:" + stub.getAddress().getPort();
+
+        OutboundHttpProperties properties = new OutboundHttpProperties();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        OutboundHttpConfig config = new OutboundHttpConfig();
+        connectionManager = config.outboundConnectionManager(properties, meterRegistry);
+        deadlineHandler = config.outboundDeadlineHandler(properties, meterRegistry);
+        httpClient = config.outboundHttpClient(connectionManager, deadlineHandler, properties);
+        streamer = new InferenceStreamer(
+            config.restTemplate(new RestTemplateBuilder(), httpClient, properties).getRequestFactory(), new ObjectMapper());
+    }
+
+    @AfterEach
+    void stop() throws IOException {
+        httpClient.close();
+        connectionManager.close();
+        deadlineHandler.close();
+        stub.stop(0);
+    }
+
+    @Test
+    void relaysEachTokenAsItArrives() throws IOException {
+        TimedOutput out = new TimedOutput();
+        long start = System.nanoTime();
+        try (InferenceStreamer.Upstream upstream = streamer.open(URI.create(baseUrl + "/models/org/model"), "token", Map.of("inputs", "hi", "stream", true))) {
+            assertThat(upstream.status()).isEqualTo(200);
+            assertThat(upstream.contentType().isCompatibleWith(MediaType.TEXT_EVENT_STREAM)).isTrue();
+            upstream.transferTo(out);
+        }
+
+        String body = out.bytes.toString(StandardCharsets.UTF_8);
+        assertThat(body).startsWith("data: {\"token\":\"t0\"}\n\n").endsWith("data: {\"token\":\"t5\"}\n\n");
+        // The first token is written long before generation ends, and tokens arrive in several flushes
+        long firstMillis = (out.flushTimes.get(0) - start) / 1_000_000;
+        long lastMillis = (out.flushTimes.get(out.flushTimes.size() - 1) - start) / 1_000_000;
+        assertThat(firstMillis).isLessThan(TOKEN_INTERVAL_MILLIS * 3);
+        assertThat(lastMillis).isGreaterThanOrEqualTo(TOKEN_INTERVAL_MILLIS * (TOKENS - 2));
+        assertThat(out.flushTimes.size()).isGreaterThanOrEqualTo(TOKENS - 1);
+        assertThat(out.largestWrite).isLessThanOrEqualTo(InferenceStreamer.BUFFER_SIZE);
+    }
+
+    @Test
+    void relaysUpstreamErrorsUnchanged() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (InferenceStreamer.Upstream upstream = streamer.open(URI.create(baseUrl + "/models/org/missing"), "token", Map.of("inputs", "hi"))) {
+            assertThat(upstream.status()).isEqualTo(404);
+            upstream.transferTo(out);
+        }
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("{\"error\":\"Model not found\"}");
+    }
+
+    private static final class TimedOutput extends OutputStream {
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final List<Long> flushTimes = new ArrayList<>();
+        private int largestWrite;
+
+        @Override
+        public void write(int b) {
+            bytes.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            largestWrite = Math.max(largestWrite, len);
+            bytes.write(b, off, len);
+        }
+
+        @Override
+        public void flush() {
+            flushTimes.add(System.nanoTime());
+        }
+    }
+}
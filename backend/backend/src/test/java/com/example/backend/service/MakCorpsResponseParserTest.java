@@ -0,0 +1,55 @@
+package com.example.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.backend.dto.HotelResponse;
+import com.fasterxml.jackson.core.JsonFactory;
+
+class MakCorpsResponseParserTest {
+
+    private final MakCorpsResponseParser parser = new MakCorpsResponseParser(new JsonFactory());
+
+    @Test
+    void parsesHotelsAndPriceSlots() throws Exception {
+        List<HotelResponse> hotels;
+        try (InputStream in = getClass().getResourceAsStream("/makcorps/hotels-sample.json")) {
+            hotels = parser.parse(in);
+        }
+
+        assertThat(hotels).extracting(HotelResponse::getHotelName, HotelResponse::getHotelId)
+            .containsExactly(tuple("Hotel Le Marais", "2301564"), tuple("Hotel Bastille", "42"));
+        assertThat(hotels.get(0).getPrices())
+            .extracting(HotelResponse.PriceInfo::getPrice, HotelResponse.PriceInfo::getTax, HotelResponse.PriceInfo::getVendor)
+            .containsExactly(
+                tuple("$210", "$31", "Booking.com"),
+                tuple("$205", "null", "Expedia.com"),
+                tuple("199.5", "0", ""),
+                tuple("180", "12", "Agoda.com"));
+        assertThat(hotels.get(1).getPrices()).isEmpty();
+    }
+
+    @Test
+    void nonArrayRootYieldsNoHotels() throws Exception {
+        assertThat(parse("{\"error\": \"quota exceeded\"}")).isEmpty();
+        assertThat(parse("")).isEmpty();
+    }
+
+    @Test
+    void hotelEntryWithoutIdIsRejected() {
+        assertThatThrownBy(() -> parse("[[{\"hotelName\": \"Nameless\"}, []]]"))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    private List<HotelResponse> parse(String json) throws Exception {
+        return parser.parse(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+}
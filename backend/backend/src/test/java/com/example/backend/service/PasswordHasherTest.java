@@ -0,0 +1,73 @@
+package com.example.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class PasswordHasherTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void hashesAndVerifiesOnThePoolWithMetrics() {
+        try (PasswordHasher hasher = new PasswordHasher(4, 1, 4, Duration.ofSeconds(5), meterRegistry)) {
+            String hash = hasher.encode("secret");
+
+            assertThat(hash).startsWith("$2a$04$");
+            assertThat(hasher.matches("secret", hash)).isTrue();
+            assertThat(hasher.matches("wrong", hash)).isFalse();
+            assertThat(meterRegistry.get("auth.password.hash").tag("operation", "encode").timer().count()).isEqualTo(1);
+            assertThat(meterRegistry.get("auth.password.hash").tag("operation", "matches").timer().count()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void rejectsFastWhenTheQueueIsFull() throws Exception {
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+        try (PasswordHasher hasher = new PasswordHasher(12, 1, 1, Duration.ofSeconds(30), meterRegistry)) {
+            List<CompletableFuture<String>> attempts = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                attempts.add(CompletableFuture.supplyAsync(() -> hasher.encode("secret"), callers));
+            }
+
+            long overloaded = attempts.stream()
+                .map(attempt -> attempt.handle((hash, error) -> error))
+                .map(CompletableFuture::join)
+                .filter(error -> error != null && error.getCause() instanceof PasswordHasher.OverloadedException)
+                .count();
+
+            // One hash running, one queued: the rest were turned away instead of waiting
+            assertThat(overloaded).isGreaterThanOrEqualTo(6);
+            assertThat(meterRegistry.get("auth.password.rejected").counter().count()).isEqualTo(overloaded);
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    @Test
+    void waitingLongerThanTheTimeoutIsOverload() {
+        try (PasswordHasher hasher = new PasswordHasher(14, 1, 4, Duration.ofMillis(10), meterRegistry)) {
+            assertThatThrownBy(() -> hasher.encode("secret")).isInstanceOf(PasswordHasher.OverloadedException.class);
+        }
+    }
+
+    @Test
+    void onlyHashesWithAnotherCostNeedRehashing() {
+        try (PasswordHasher hasher = new PasswordHasher(5, 1, 4, Duration.ofSeconds(5), meterRegistry)) {
+            assertThat(hasher.needsRehash(new BCryptPasswordEncoder(4).encode("secret"))).isTrue();
+            assertThat(hasher.needsRehash(new BCryptPasswordEncoder(5).encode("secret"))).isFalse();
+            assertThat(hasher.needsRehash("plain-text")).isFalse();
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.example.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.backend.dto.BulkIngestResponse;
+import com.example.backend.model.Review;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class ReviewBulkIngesterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Test
+    void reportsInvalidAndRejectedRecordsByLine() throws Exception {
+        List<List<Review>> batches = new CopyOnWriteArrayList<>();
+        String body = String.join("\n",
+            "{\"hotelId\":1,\"userName\":\"a\",\"rating\":5,\"text\":\"great\"}",
+            "",
+            "{\"hotelId\":1,\"rating\":9}",
+            "not json",
+            "{\"rating\":3}",
+            "{\"hotelId\":2,\"rating\":4,\"createdAt\":\"2024-05-01T10:00:00\"}",
+            "{\"hotelId\":3,\"rating\":1,\"text\":\"duplicate\"}");
+
+        BulkIngestResponse response;
+        try (ReviewBulkIngester ingester = new ReviewBulkIngester(objectMapper, batch -> {
+            batches.add(batch);
+            // Stand-in for a write error Mongo reports for one record of an unordered bulk
+            for (int i = 0; i < batch.size(); i++) {
+                if ("duplicate".equals(batch.get(i).getText())) {
+                    return Map.of(i, "E11000 duplicate key");
+                }
+            }
+            return Map.of();
+        }, 2, 2, 1000, 100)) {
+            response = ingester.ingest(stream(body));
+        }
+
+        assertThat(response.getReceived()).isEqualTo(6);
+        assertThat(response.getInserted()).isEqualTo(2);
+        assertThat(response.getFailed()).isEqualTo(4);
+        assertThat(response.getFailures()).extracting(BulkIngestResponse.Failure::getLine).containsExactly(3L, 4L, 5L, 7L);
+        assertThat(response.getFailures().get(0).getError()).isEqualTo("Rating must be between 1 and 5");
+        assertThat(response.getFailures().get(3).getError()).isEqualTo("E11000 duplicate key");
+        assertThat(batches).extracting(List::size).containsExactlyInAnyOrder(2, 1);
+        assertThat(batches).flatExtracting(batch -> batch).extracting(Review::getHotelId).containsExactlyInAnyOrder(1L, 2L, 3L);
+    }
+
+    @Test
+    void boundsConcurrentBatchWrites() throws Exception {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < 200; i++) {
+            body.append("{\"hotelId\":").append(i % 7).append(",\"rating\":").append(1 + i % 5).append("}\n");
+        }
+
+        BulkIngestResponse response;
+        try (ReviewBulkIngester ingester = new ReviewBulkIngester(objectMapper, batch -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            running.decrementAndGet();
+            return Map.of();
+        }, 10, 3, 1000, 100)) {
+            response = ingester.ingest(stream(body.toString()));
+        }
+
+        assertThat(response.getInserted()).isEqualTo(200);
+        assertThat(maxRunning.get()).isBetween(1, 3);
+    }
+
+    @Test
+    void failedBatchFailsEveryRecordButOnlyListsTheFirst() throws Exception {
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < 50; i++) {
+            body.append("{\"hotelId\":1,\"rating\":3}\n");
+        }
+
+        BulkIngestResponse response;
+        try (ReviewBulkIngester ingester = new ReviewBulkIngester(objectMapper, batch -> {
+            throw new IllegalStateException("connection reset");
+        }, 20, 1, 1000, 10)) {
+            response = ingester.ingest(stream(body.toString()));
+        }
+
+        assertThat(response.getFailed()).isEqualTo(50);
+        assertThat(response.getFailures()).hasSize(10);
+        assertThat(response.isFailuresTruncated()).isTrue();
+        assertThat(response.getFailures().get(0).getError()).isEqualTo("Write failed: connection reset");
+    }
+
+    @Test
+    void concurrentImportsShareTheWriteSlots() throws Exception {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            body.append("{\"hotelId\":1,\"rating\":4}\n");
+        }
+
+        try (ReviewBulkIngester ingester = new ReviewBulkIngester(objectMapper, batch -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            running.decrementAndGet();
+            return Map.of();
+        }, 10, 2, 1000, 100)) {
+            ExecutorService imports = Executors.newFixedThreadPool(4);
+            try {
+                List<Future<BulkIngestResponse>> responses = new ArrayList<>();
+                for (int i = 0; i < 4; i++) {
+                    responses.add(imports.submit(() -> ingester.ingest(stream(body.toString()))));
+                }
+                for (Future<BulkIngestResponse> response : responses) {
+                    assertThat(response.get(10, TimeUnit.SECONDS).getInserted()).isEqualTo(100);
+                }
+            } finally {
+                imports.shutdownNow();
+            }
+        }
+
+        assertThat(maxRunning.get()).isBetween(1, 2);
+    }
+
+    @Test
+    void overlongLinesAreReportedWithoutBeingRead() throws Exception {
+        String longText = "x".repeat(20_000);
+        String body = String.join("\r\n",
+            "{\"hotelId\":1,\"rating\":5}",
+            "{\"hotelId\":1,\"rating\":5,\"text\":\"" + longText + "\"}",
+            "{\"hotelId\":2,\"rating\":3}");
+
+        BulkIngestResponse response;
+        try (ReviewBulkIngester ingester = new ReviewBulkIngester(objectMapper, batch -> Map.of(), 10, 1, 1000, 100)) {
+            response = ingester.ingest(stream(body));
+        }
+
+        assertThat(response.getReceived()).isEqualTo(3);
+        assertThat(response.getInserted()).isEqualTo(2);
+        assertThat(response.getFailures()).extracting(BulkIngestResponse.Failure::getLine).containsExactly(2L);
+        assertThat(response.getFailures().get(0).getError()).isEqualTo("Line longer than 1000 characters");
+    }
+
+    @Test
+    void lineReaderKeepsLinesUpToTheLimit() throws Exception {
+        ReviewBulkIngester.LineReader reader = new ReviewBulkIngester.LineReader(
+            new StringReader("abcd\r\nabcde\nab\r\nabcd"), 4);
+
+        assertThat(reader.next()).isTrue();
+        assertThat(reader.line()).isEqualTo("abcd");
+        assertThat(reader.next()).isTrue();
+        assertThat(reader.tooLong()).isTrue();
+        assertThat(reader.next()).isTrue();
+        assertThat(reader.line()).isEqualTo("ab");
+        assertThat(reader.next()).isTrue();
+        assertThat(reader.line()).isEqualTo("abcd");
+        assertThat(reader.tooLong()).isFalse();
+        assertThat(reader.next()).isFalse();
+    }
+
+    private static ByteArrayInputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.backend.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+class CursorsTest {
+
+    @Test
+    void roundTripsSortKeyValues() {
+        String cursor = Cursors.encode("2025-01-01T10:15:30", "65a1f0c2e4b0a1b2c3d4e5f6");
+
+        assertThat(cursor).doesNotContain("=", "+", "/");
+        assertThat(Cursors.decode(cursor, 2)).containsExactly("2025-01-01T10:15:30", "65a1f0c2e4b0a1b2c3d4e5f6");
+    }
+
+    @Test
+    void rejectsMalformedOrMismatchedCursors() {
+        assertThatThrownBy(() -> Cursors.decode("not base64!", 1)).hasMessage("Invalid cursor");
+        assertThatThrownBy(() -> Cursors.decode(Cursors.encode("a", "b"), 1)).hasMessage("Invalid cursor");
+    }
+}
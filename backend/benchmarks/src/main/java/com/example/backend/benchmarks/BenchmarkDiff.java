@@ -0,0 +1,108 @@
+package com.example.backend.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Compares two JMH result files written with {@code -rf json}, e.g. from the commit before and
+ * after a change.
+ *
+ * Results are matched by benchmark and parameters. A result counts as a regression when it
+ * got worse by more than the threshold (10% by default) and the two scores' error intervals
+ * do not overlap, so run-to-run noise on its own is not reported. Exits with status 1 when any
+ * regression was found, so a CI step can fail on it.
+ *
+ * <pre>
+ * java -cp target/benchmarks.jar com.example.backend.benchmarks.BenchmarkDiff base.json head.json [threshold%]
+ * </pre>
+ */
+public class BenchmarkDiff {
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("usage: BenchmarkDiff <base.json> <head.json> [threshold%]");
+            System.exit(2);
+        }
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) / 100 : 0.10;
+        ObjectMapper objectMapper = new ObjectMapper();
+        Map<String, Score> base = read(objectMapper, new File(args[0]));
+        Map<String, Score> head = read(objectMapper, new File(args[1]));
+
+        int regressions = 0;
+        System.out.printf("%-72s %14s %14s %9s  %s%n", "benchmark", "base", "head", "change", "unit");
+        for (Map.Entry<String, Score> entry : head.entrySet()) {
+            Score after = entry.getValue();
+            Score before = base.get(entry.getKey());
+            if (before == null) {
+                System.out.printf("%-72s %14s %14.3f %9s  %s  new%n", entry.getKey(), "-", after.score, "", after.unit);
+                continue;
+            }
+            double change = (after.score - before.score) / before.score;
+            // Positive when the result got worse, whichever direction is better for the mode
+            double worse = after.higherIsBetter ? -change : change;
+            boolean overlapping = after.score - after.error <= before.score + before.error
+                && before.score - before.error <= after.score + after.error;
+            String verdict = "";
+            if (!overlapping && Math.abs(change) > threshold) {
+                if (worse > 0) {
+                    verdict = "REGRESSION";
+                    regressions++;
+                } else {
+                    verdict = "improved";
+                }
+            }
+            System.out.printf("%-72s %14.3f %14.3f %+8.1f%%  %s  %s%n",
+                entry.getKey(), before.score, after.score, change * 100, after.unit, verdict);
+        }
+        for (String key : base.keySet()) {
+            if (!head.containsKey(key)) {
+                System.out.printf("%-72s %14.3f %14s %9s  %s  removed%n", key, base.get(key).score, "-", "", base.get(key).unit);
+            }
+        }
+        if (regressions > 0) {
+            System.out.println(regressions + " regression(s) beyond " + Math.round(threshold * 100) + "%");
+            System.exit(1);
+        }
+    }
+
+    static Map<String, Score> read(ObjectMapper objectMapper, File file) throws IOException {
+        Map<String, Score> scores = new LinkedHashMap<>();
+        for (JsonNode result : objectMapper.readTree(file)) {
+            String name = result.path("benchmark").asText().replace("com.example.backend.benchmarks.", "");
+            JsonNode metric = result.path("primaryMetric");
+            scores.put(name + params(result.path("params")),
+                new Score(metric.path("score").asDouble(),
+                    // Single-iteration runs report NaN as the error
+                    metric.path("scoreError").isNumber() ? metric.path("scoreError").asDouble() : 0,
+                    metric.path("scoreUnit").asText(),
+                    "thrpt".equals(result.path("mode").asText())));
+        }
+        return scores;
+    }
+
+    private static String params(JsonNode params) {
+        if (params.isMissingNode() || params.isEmpty()) {
+            return "";
+        }
+        Map<String, String> sorted = new TreeMap<>();
+        Iterator<Map.Entry<String, JsonNode>> fields = params.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            sorted.put(field.getKey(), field.getValue().asText());
+        }
+        List<String> pairs = new ArrayList<>();
+        sorted.forEach((key, value) -> pairs.add(key + "=" + value));
+        return " " + String.join(",", pairs);
+    }
+
+    record Score(double score, double error, String unit, boolean higherIsBetter) {}
+}
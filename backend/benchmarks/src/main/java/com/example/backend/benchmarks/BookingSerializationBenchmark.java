@@ -0,0 +1,77 @@
+package com.example.backend.benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.backend.model.Booking;
+import com.example.backend.service.BookingExportWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Serializing booking lists, whose four {@code LocalDateTime} fields go through the java.time
+ * module: the whole list in one {@code writeValueAsBytes} as the user's booking list is answered,
+ * and {@link BookingExportWriter} in each export format.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BookingSerializationBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    int bookings;
+
+    private List<Booking> list;
+    private ObjectMapper objectMapper;
+    private BookingExportWriter exportWriter;
+    private ByteArrayOutputStream out;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Fixtures.objectMapper();
+        list = Fixtures.bookings(bookings);
+        exportWriter = new BookingExportWriter(objectMapper);
+        out = new ByteArrayOutputStream(bookings * 1024);
+    }
+
+    @Benchmark
+    public byte[] list() throws Exception {
+        return objectMapper.writeValueAsBytes(list);
+    }
+
+    @Benchmark
+    public int exportJson() throws Exception {
+        return export(BookingExportWriter.Format.JSON);
+    }
+
+    @Benchmark
+    public int exportNdjson() throws Exception {
+        return export(BookingExportWriter.Format.NDJSON);
+    }
+
+    @Benchmark
+    public int exportCsv() throws Exception {
+        return export(BookingExportWriter.Format.CSV);
+    }
+
+    private int export(BookingExportWriter.Format format) throws Exception {
+        out.reset();
+        exportWriter.write(list.iterator(), format, out);
+        return out.size();
+    }
+}
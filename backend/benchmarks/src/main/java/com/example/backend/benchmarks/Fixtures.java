@@ -0,0 +1,89 @@
+package com.example.backend.benchmarks;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.bson.types.ObjectId;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.example.backend.model.Booking;
+import com.example.backend.model.Review;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Reviews, bookings and an ObjectMapper shaped like the ones the backend serves.
+ *
+ * The mapper is built the way Spring Boot builds the application's (java.time module,
+ * ISO dates instead of timestamps). Data uses a fixed seed so every run measures the same objects.
+ */
+public final class Fixtures {
+
+    private static final LocalDateTime START = LocalDateTime.of(2024, 1, 1, 0, 0);
+    private static final String[] STATUSES = {"CONFIRMED", "CONFIRMED", "CONFIRMED", "CANCELLED", "COMPLETED"};
+    private static final String[] MEALS = {"none", "veg", "nonveg"};
+
+    private Fixtures() {}
+
+    public static ObjectMapper objectMapper() {
+        return Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+    }
+
+    public static List<Review> reviews(int count) {
+        Random random = new Random(count);
+        List<Review> reviews = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Review review = new Review(1L, "user-" + random.nextInt(10_000), 1 + random.nextInt(5),
+                "Review " + i + ": " + "clean rooms, friendly staff, would stay again. ".repeat(1 + random.nextInt(4)));
+            review.setId(new ObjectId().toHexString());
+            review.setCreatedAt(START.plusSeconds(random.nextInt(30_000_000)));
+            reviews.add(review);
+        }
+        return reviews;
+    }
+
+    public static List<Booking> bookings(int count) {
+        Random random = new Random(count);
+        List<Booking> bookings = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            LocalDateTime bookedAt = START.plusSeconds(random.nextInt(30_000_000));
+            int nights = 1 + random.nextInt(7);
+            int rooms = 1 + random.nextInt(2);
+            double pricePerNight = 60 + random.nextInt(400);
+            Booking booking = new Booking();
+            booking.setId(new ObjectId().toHexString());
+            booking.setUserId("user-" + random.nextInt(10_000));
+            booking.setUserEmail("guest" + random.nextInt(10_000) + "@example.com");
+            booking.setHotelId(String.valueOf(1_000_000 + random.nextInt(5_000)));
+            booking.setHotelName("Benchmark Hotel " + random.nextInt(5_000));
+            booking.setFullName("Guest " + i);
+            booking.setEmail(booking.getUserEmail());
+            booking.setPhone("+1 555 " + (1000 + random.nextInt(9000)));
+            booking.setCheckIn(bookedAt.toLocalDate().plusDays(14).toString());
+            booking.setCheckOut(bookedAt.toLocalDate().plusDays(14 + nights).toString());
+            booking.setNights(nights);
+            booking.setRooms(rooms);
+            booking.setAdults(1 + random.nextInt(3));
+            booking.setChildren(random.nextInt(3));
+            booking.setPricePerNight(pricePerNight);
+            booking.setTotalPrice(pricePerNight * nights * rooms);
+            booking.setMealPreference(MEALS[random.nextInt(MEALS.length)]);
+            booking.setSpecialRequests(random.nextInt(4) == 0 ? "Late check-in, \"quiet\" room please" : null);
+            booking.setStatus(STATUSES[random.nextInt(STATUSES.length)]);
+            booking.setBookingDate(bookedAt);
+            if ("CANCELLED".equals(booking.getStatus())) {
+                booking.setCancellationDate(bookedAt.plusDays(2));
+                booking.setCancellationReason("Change of plans");
+            } else if ("COMPLETED".equals(booking.getStatus())) {
+                booking.setCompletionDate(bookedAt.plusDays(14 + nights));
+            }
+            booking.setInventoryReserved(true);
+            bookings.add(booking);
+        }
+        return bookings;
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.backend.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.backend.dto.HotelResponse;
+import com.example.backend.service.MakCorpsResponseParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Tree-based vs streaming parsing of MakCorps search responses.
+ *
+ * The tree variant starts from the raw bytes and decodes them to a String first,
+ * because that is what RestTemplate handed the old parser. Run with {@code -prof gc}
+ * to compare allocation per operation as well as time. {@code recorded} is the captured
+ * response kept with the backend's parser tests; the sizes are generated payloads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HotelResponseParserBenchmark {
+
+    @Param({"recorded", "50", "500", "5000"})
+    String hotels;
+
+    private byte[] payload;
+    private TreeHotelResponseParser treeParser;
+    private MakCorpsResponseParser streamingParser;
+
+    @Setup
+    public void setUp() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        payload = "recorded".equals(hotels) ? MakCorpsPayloads.recorded() : MakCorpsPayloads.generate(Integer.parseInt(hotels));
+        treeParser = new TreeHotelResponseParser(objectMapper);
+        streamingParser = new MakCorpsResponseParser(objectMapper.getFactory());
+
+        List<HotelResponse> expected = tree();
+        List<HotelResponse> actual = streaming();
+        if (expected.size() != actual.size()) {
+            throw new IllegalStateException("Parsers disagree: " + expected.size() + " vs " + actual.size() + " hotels");
+        }
+    }
+
+    @Benchmark
+    public List<HotelResponse> tree() throws Exception {
+        return treeParser.parse(new String(payload, StandardCharsets.UTF_8));
+    }
+
+    @Benchmark
+    public List<HotelResponse> streaming() throws Exception {
+        return streamingParser.parse(new ByteArrayInputStream(payload));
+    }
+}
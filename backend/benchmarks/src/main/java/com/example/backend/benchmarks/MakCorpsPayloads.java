@@ -0,0 +1,70 @@
+package com.example.backend.benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Random;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+/**
+ * Builds MakCorps-shaped search responses of a given size.
+ *
+ * Each hotel is a {@code [info, prices]} pair with one price entry per vendor slot,
+ * the way the free city endpoint answers. The seed is fixed so every run measures
+ * the same bytes. {@link #recorded()} is a captured response instead, with the quirks
+ * (numeric and null prices, extra fields) the generated ones leave out.
+ */
+public final class MakCorpsPayloads {
+
+    private static final String[] VENDORS = {"Booking.com", "Expedia.com", "Hotels.com", "Agoda.com", "Trip.com", "Priceline"};
+
+    private static final String RECORDED = "/makcorps/hotels-sample.json";
+
+    private MakCorpsPayloads() {}
+
+    public static byte[] recorded() {
+        try (InputStream in = MakCorpsPayloads.class.getResourceAsStream(RECORDED)) {
+            if (in == null) {
+                throw new IllegalStateException(RECORDED + " is not on the classpath");
+            }
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static byte[] generate(int hotels) {
+        Random random = new Random(hotels);
+        ByteArrayOutputStream out = new ByteArrayOutputStream(hotels * 400);
+        try (JsonGenerator gen = new JsonFactory().createGenerator(out)) {
+            gen.writeStartArray();
+            for (int h = 0; h < hotels; h++) {
+                gen.writeStartArray();
+                gen.writeStartObject();
+                gen.writeStringField("hotelName", "Benchmark Hotel " + h);
+                gen.writeStringField("hotelId", String.valueOf(1_000_000 + h));
+                gen.writeEndObject();
+                gen.writeStartArray();
+                for (int slot = 1; slot <= 4; slot++) {
+                    gen.writeStartObject();
+                    gen.writeStringField("vendor" + slot, VENDORS[random.nextInt(VENDORS.length)]);
+                    if (random.nextInt(10) == 0) {
+                        gen.writeNullField("price" + slot);
+                    } else {
+                        gen.writeStringField("price" + slot, "$" + (60 + random.nextInt(400)));
+                    }
+                    gen.writeStringField("tax" + slot, "$" + random.nextInt(60));
+                    gen.writeEndObject();
+                }
+                gen.writeEndArray();
+                gen.writeEndArray();
+            }
+            gen.writeEndArray();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.backend.benchmarks;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.bson.types.ObjectId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Indexes;
+import com.mongodb.client.model.Sorts;
+
+/**
+ * Review listing latency as one hotel's review count grows, against a real Mongo.
+ *
+ * Runs the same queries as {@code ReviewController}: the keyset page (first page and a page
+ * deep into the listing through the {@code before} cursor), the skip/offset page it replaced,
+ * and the legacy unpaged listing. Keyset pages should stay flat across {@code reviewsPerHotel}
+ * while skip and the full listing grow with it.
+ *
+ * Needs a disposable Mongo at {@code -Dmongo.uri} (default {@code mongodb://localhost:27017});
+ * it writes to the {@code springnext_bench} database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReviewListingBenchmark {
+
+    private static final long HOTEL_ID = 1L;
+    private static final int PAGE_SIZE = 20;
+    private static final Bson NEWEST_FIRST = Sorts.descending("createdAt", "_id");
+
+    @Param({"1000", "10000", "100000"})
+    int reviewsPerHotel;
+
+    private MongoClient client;
+    private MongoCollection<Document> reviews;
+    private Date deepCreatedAt;
+    private ObjectId deepId;
+
+    @Setup(Level.Trial)
+    public void seed() {
+        client = MongoClients.create(System.getProperty("mongo.uri", "mongodb://localhost:27017"));
+        reviews = client.getDatabase("springnext_bench").getCollection("reviews");
+        reviews.drop();
+        reviews.createIndex(Indexes.compoundIndex(
+            Indexes.ascending("hotelId"), Indexes.descending("createdAt"), Indexes.descending("_id")));
+
+        Random random = new Random(42);
+        Instant start = Instant.parse("2024-01-01T00:00:00Z");
+        List<Document> batch = new ArrayList<>();
+        // Other hotels' reviews share the collection so the index has to do its job
+        for (long hotelId = HOTEL_ID; hotelId <= 10; hotelId++) {
+            int count = hotelId == HOTEL_ID ? reviewsPerHotel : reviewsPerHotel / 10;
+            for (int i = 0; i < count; i++) {
+                batch.add(new Document("hotelId", hotelId)
+                    .append("userName", "user-" + random.nextInt(10_000))
+                    .append("rating", 1 + random.nextInt(5))
+                    .append("text", "Review text " + i)
+                    .append("createdAt", Date.from(start.plusSeconds(random.nextInt(30_000_000)))));
+                if (batch.size() == 5_000) {
+                    reviews.insertMany(batch);
+                    batch.clear();
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            reviews.insertMany(batch);
+        }
+
+        // Cursor of the page that starts 90% of the way through the listing
+        Document deep = reviews.find(Filters.eq("hotelId", HOTEL_ID)).sort(NEWEST_FIRST)
+            .skip(reviewsPerHotel * 9 / 10).first();
+        deepCreatedAt = deep.getDate("createdAt");
+        deepId = deep.getObjectId("_id");
+    }
+
+    @TearDown(Level.Trial)
+    public void drop() {
+        reviews.drop();
+        client.close();
+    }
+
+    @Benchmark
+    public List<Document> keysetFirstPage() {
+        return reviews.find(Filters.eq("hotelId", HOTEL_ID)).sort(NEWEST_FIRST).limit(PAGE_SIZE + 1).into(new ArrayList<>());
+    }
+
+    @Benchmark
+    public List<Document> keysetDeepPage() {
+        Bson before = Filters.or(
+            Filters.lt("createdAt", deepCreatedAt),
+            Filters.and(Filters.eq("createdAt", deepCreatedAt), Filters.lt("_id", deepId)),
+            Filters.eq("createdAt", null));
+        return reviews.find(Filters.and(Filters.eq("hotelId", HOTEL_ID), before))
+            .sort(NEWEST_FIRST).limit(PAGE_SIZE + 1).into(new ArrayList<>());
+    }
+
+    @Benchmark
+    public List<Document> skipDeepPage() {
+        return reviews.find(Filters.eq("hotelId", HOTEL_ID)).sort(NEWEST_FIRST)
+            .skip(reviewsPerHotel * 9 / 10).limit(PAGE_SIZE).into(new ArrayList<>());
+    }
+
+    @Benchmark
+    public List<Document> unpagedListing() {
+        return reviews.find(Filters.eq("hotelId", HOTEL_ID)).sort(NEWEST_FIRST).into(new ArrayList<>());
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.backend.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.backend.dto.ReviewDto;
+import com.example.backend.model.Review;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * The CPU side of a review listing: mapping {@link Review} documents to {@link ReviewDto}
+ * and writing the list as JSON, separately and together the way {@code ReviewController}
+ * answers the unpaged listing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReviewSerializationBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    int reviews;
+
+    private List<Review> documents;
+    private List<ReviewDto> dtos;
+    private ObjectWriter writer;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = Fixtures.objectMapper();
+        documents = Fixtures.reviews(reviews);
+        dtos = map();
+        writer = objectMapper.writerFor(objectMapper.getTypeFactory().constructCollectionType(List.class, ReviewDto.class));
+    }
+
+    @Benchmark
+    public List<ReviewDto> map() {
+        List<ReviewDto> result = new ArrayList<>(documents.size());
+        for (Review review : documents) {
+            result.add(new ReviewDto(review));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return writer.writeValueAsBytes(dtos);
+    }
+
+    @Benchmark
+    public byte[] mapAndSerialize() throws Exception {
+        return writer.writeValueAsBytes(map());
+    }
+}
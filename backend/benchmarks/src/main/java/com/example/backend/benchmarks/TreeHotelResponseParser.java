@@ -0,0 +1,65 @@
+package com.example.backend.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.example.backend.dto.HotelResponse;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * The tree-based parsing HotelApiService used before MakCorpsResponseParser,
+ * kept here as the benchmark baseline.
+ */
+public class TreeHotelResponseParser {
+
+    private final ObjectMapper objectMapper;
+
+    public TreeHotelResponseParser(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public List<HotelResponse> parse(String jsonResponse) throws Exception {
+        List<HotelResponse> hotels = new ArrayList<>();
+        JsonNode rootNode = objectMapper.readTree(jsonResponse);
+
+        if (rootNode.isArray()) {
+            for (JsonNode hotelNode : rootNode) {
+                if (hotelNode.isArray() && hotelNode.size() >= 2) {
+                    JsonNode hotelInfo = hotelNode.get(0);
+                    JsonNode pricesNode = hotelNode.get(1);
+
+                    String hotelName = hotelInfo.get("hotelName").asText();
+                    String hotelId = hotelInfo.get("hotelId").asText();
+
+                    List<HotelResponse.PriceInfo> prices = new ArrayList<>();
+
+                    if (pricesNode.isArray()) {
+                        for (JsonNode priceNode : pricesNode) {
+                            for (int i = 1; i <= 4; i++) {
+                                String priceKey = "price" + i;
+                                String taxKey = "tax" + i;
+                                String vendorKey = "vendor" + i;
+
+                                if (priceNode.has(priceKey)) {
+                                    JsonNode priceValue = priceNode.get(priceKey);
+                                    if (!priceValue.isNull()) {
+                                        String price = priceValue.asText();
+                                        String tax = priceNode.has(taxKey) ? priceNode.get(taxKey).asText() : "0";
+                                        String vendor = priceNode.has(vendorKey) ? priceNode.get(vendorKey).asText() : "";
+
+                                        prices.add(new HotelResponse.PriceInfo(price, tax, vendor));
+                                    }
+                                }
+                            }
+                        }
+                    }
+
+                    hotels.add(new HotelResponse(hotelName, hotelId, prices));
+                }
+            }
+        }
+
+        return hotels;
+    }
+}
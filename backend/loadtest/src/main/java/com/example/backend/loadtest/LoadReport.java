@@ -0,0 +1,120 @@
+package com.example.backend.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.HdrHistogram.Histogram;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Prints a run's throughput and latency percentiles and writes them to a results directory:
+ * {@code summary.json} plus one HdrHistogram percentile distribution ({@code .hgrm}, in
+ * milliseconds) per operation, which the HdrHistogram plotter can chart.
+ */
+public class LoadReport {
+
+    private static final String[] PERCENTILE_NAMES = {"p50", "p95", "p99", "p999"};
+    private static final double[] PERCENTILES = {50, 95, 99, 99.9};
+
+    private final Map<Operation, OperationStats> stats;
+    private final Duration duration;
+    private final double targetRate;
+
+    public LoadReport(Map<Operation, OperationStats> stats, Duration duration, double targetRate) {
+        this.stats = stats;
+        this.duration = duration;
+        this.targetRate = targetRate;
+    }
+
+    public void print(PrintStream out) {
+        out.printf("%nTarget %.1f req/s for %s; latency from intended send time, ms%n", targetRate, duration);
+        out.printf("%-9s %9s %10s %8s %8s %9s %9s %9s %9s %9s %11s%n",
+            "operation", "requests", "req/s", "errors", "dropped", "p50", "p95", "p99", "p99.9", "max", "svc p99");
+        for (Map.Entry<Operation, OperationStats> entry : stats.entrySet()) {
+            OperationStats s = entry.getValue();
+            printRow(out, entry.getKey().getName(), s.latency, s.serviceTime, s.errors.sum(), s.dropped.sum());
+        }
+        printRow(out, "total", total(true), total(false), stats.values().stream().mapToLong(s -> s.errors.sum()).sum(),
+            stats.values().stream().mapToLong(s -> s.dropped.sum()).sum());
+        for (Map.Entry<Operation, OperationStats> entry : stats.entrySet()) {
+            int unfinished = entry.getValue().inFlight.get();
+            out.printf("  %-8s %s%s%n", entry.getKey().getName(), new TreeMap<>(entry.getValue().outcomes),
+                unfinished > 0 ? " and " + unfinished + " unfinished" : "");
+        }
+    }
+
+    private void printRow(PrintStream out, String name, Histogram latency, Histogram serviceTime, long errors, long dropped) {
+        out.printf("%-9s %9d %10.1f %8d %8d %9.2f %9.2f %9.2f %9.2f %9.2f %11.2f%n",
+            name, latency.getTotalCount(), latency.getTotalCount() / (duration.toNanos() / 1e9), errors, dropped,
+            millis(latency, 50), millis(latency, 95), millis(latency, 99), millis(latency, 99.9),
+            latency.getMaxValue() / 1000.0, millis(serviceTime, 99));
+    }
+
+    public Path write(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("targetRate", targetRate);
+        summary.put("durationSeconds", duration.toMillis() / 1000.0);
+        Map<String, Object> operations = new LinkedHashMap<>();
+        for (Map.Entry<Operation, OperationStats> entry : stats.entrySet()) {
+            OperationStats s = entry.getValue();
+            Map<String, Object> row = summary(s.latency, s.serviceTime, s.errors.sum(), s.dropped.sum(), s.outcomes);
+            row.put("unfinished", s.inFlight.get());
+            operations.put(entry.getKey().getName(), row);
+            writeDistribution(directory.resolve(entry.getKey().getName() + ".hgrm"), s.latency);
+        }
+        Map<String, Object> total = summary(total(true), total(false),
+            stats.values().stream().mapToLong(s -> s.errors.sum()).sum(),
+            stats.values().stream().mapToLong(s -> s.dropped.sum()).sum(), Map.of());
+        total.put("unfinished", stats.values().stream().mapToInt(s -> s.inFlight.get()).sum());
+        operations.put("total", total);
+        writeDistribution(directory.resolve("total.hgrm"), total(true));
+        summary.put("operations", operations);
+        Path file = directory.resolve("summary.json");
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), summary);
+        return file;
+    }
+
+    private Map<String, Object> summary(Histogram latency, Histogram serviceTime, long errors, long dropped, Map<String, ?> outcomes) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("requests", latency.getTotalCount());
+        row.put("throughput", latency.getTotalCount() / (duration.toNanos() / 1e9));
+        row.put("errors", errors);
+        row.put("dropped", dropped);
+        Map<String, Double> percentiles = new LinkedHashMap<>();
+        for (int i = 0; i < PERCENTILES.length; i++) {
+            percentiles.put(PERCENTILE_NAMES[i], millis(latency, PERCENTILES[i]));
+        }
+        percentiles.put("max", latency.getMaxValue() / 1000.0);
+        row.put("latencyMillis", percentiles);
+        row.put("serviceTimeP99Millis", millis(serviceTime, 99));
+        row.put("outcomes", new TreeMap<>(outcomes));
+        return row;
+    }
+
+    private Histogram total(boolean latency) {
+        Histogram total = new Histogram(OperationStats.HIGHEST_TRACKABLE_MICROS, 3);
+        for (OperationStats s : stats.values()) {
+            total.add(latency ? s.latency : s.serviceTime);
+        }
+        return total;
+    }
+
+    private static void writeDistribution(Path file, Histogram histogram) throws IOException {
+        try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+            histogram.outputPercentileDistribution(out, 1000.0);
+        }
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+}
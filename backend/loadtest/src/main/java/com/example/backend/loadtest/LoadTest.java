@@ -0,0 +1,49 @@
+package com.example.backend.loadtest;
+
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Open-loop load test of a running backend.
+ *
+ * Prepares the data the mix needs, runs the mix at the target rate for the warm-up period
+ * (not recorded), then for the measured period, and reports throughput and latency
+ * percentiles. See the module README for the options and for starting the stubs.
+ */
+public class LoadTest {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(executor)
+                .build();
+            Scenario scenario = new Scenario(options);
+            scenario.prepare(client);
+
+            OpenLoopDriver driver = new OpenLoopDriver(client, scenario::request, options.mix,
+                options.rate, options.poisson, options.maxInFlight, options.requestTimeout.plusSeconds(5));
+            System.out.printf("%s arrivals at %.1f req/s against %s, mix %s%n",
+                options.poisson ? "Poisson" : "Uniform", options.rate, options.target, options.mix);
+            if (!options.warmUp.isZero()) {
+                System.out.println("warming up for " + options.warmUp);
+                driver.run(options.warmUp, 1);
+            }
+            System.out.println("measuring for " + options.duration);
+            Map<Operation, OperationStats> stats = driver.run(options.duration, 2);
+
+            LoadReport report = new LoadReport(stats, options.duration, options.rate);
+            report.print(System.out);
+            Path written = report.write(options.results.resolve(LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"))));
+            System.out.println("\nwrote " + written);
+        }
+    }
+}
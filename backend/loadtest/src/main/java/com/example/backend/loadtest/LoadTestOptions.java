@@ -0,0 +1,99 @@
+package com.example.backend.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Settings of a load test run, from {@code --name=value} arguments.
+ */
+public class LoadTestOptions {
+
+    static final String DEFAULT_MIX = "hotels:30,reviews:30,booking:15,search:10,hf:10,login:5";
+
+    String target = "http://localhost:8080";
+    double rate = 200;
+    Duration warmUp = Duration.ofSeconds(15);
+    Duration duration = Duration.ofSeconds(60);
+    Map<Operation, Integer> mix = parseMix(DEFAULT_MIX);
+    boolean poisson = true;
+    int maxInFlight = 10_000;
+    Duration requestTimeout = Duration.ofSeconds(30);
+    int hotels = 100;
+    int reviewsPerHotel = 50;
+    boolean seed = true;
+    // user:password of the backend's admin user, which the review import requires
+    String admin;
+    int hfPrompts = 1000;
+    Path results = Path.of("results");
+
+    public static LoadTestOptions parse(String[] args) {
+        LoadTestOptions options = new LoadTestOptions();
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value, got " + arg);
+            }
+            values.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+        for (Map.Entry<String, String> entry : values.entrySet()) {
+            String value = entry.getValue();
+            switch (entry.getKey()) {
+                case "target" -> options.target = value.endsWith("/") ? value.substring(0, value.length() - 1) : value;
+                case "rate" -> options.rate = Double.parseDouble(value);
+                case "warmup" -> options.warmUp = Duration.parse(value);
+                case "duration" -> options.duration = Duration.parse(value);
+                case "mix" -> options.mix = parseMix(value);
+                case "arrivals" -> options.poisson = switch (value) {
+                    case "poisson" -> true;
+                    case "uniform" -> false;
+                    default -> throw new IllegalArgumentException("arrivals must be poisson or uniform");
+                };
+                case "max-in-flight" -> options.maxInFlight = Integer.parseInt(value);
+                case "timeout" -> options.requestTimeout = Duration.parse(value);
+                case "hotels" -> options.hotels = Integer.parseInt(value);
+                case "reviews-per-hotel" -> options.reviewsPerHotel = Integer.parseInt(value);
+                case "seed" -> options.seed = Boolean.parseBoolean(value);
+                case "admin" -> {
+                    if (!value.contains(":")) {
+                        throw new IllegalArgumentException("admin looks like user:password");
+                    }
+                    options.admin = value;
+                }
+                case "hf-prompts" -> options.hfPrompts = Integer.parseInt(value);
+                case "results" -> options.results = Path.of(value);
+                default -> throw new IllegalArgumentException("Unknown option --" + entry.getKey());
+            }
+        }
+        if (options.rate <= 0 || options.maxInFlight < 1 || options.hotels < 1 || options.hfPrompts < 1) {
+            throw new IllegalArgumentException("rate, max-in-flight, hotels and hf-prompts must be positive");
+        }
+        return options;
+    }
+
+    /**
+     * {@code hotels:30,reviews:30,...}; operations left out are not run
+     */
+    static Map<Operation, Integer> parseMix(String value) {
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        for (String part : value.split(",")) {
+            String[] pair = part.trim().split(":");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("mix entries look like hotels:30, got " + part);
+            }
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("mix weights must not be negative");
+            }
+            if (weight > 0) {
+                mix.put(Operation.named(pair[0].trim()), weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("mix must give at least one operation a weight");
+        }
+        return mix;
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.backend.loadtest;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BiFunction;
+
+/**
+ * Sends requests at a fixed arrival rate, whether or not earlier ones have completed.
+ *
+ * Arrival times are computed up front from the rate (evenly spaced, or exponentially
+ * distributed gaps for a Poisson process) and each request's latency is measured from its
+ * arrival time, so a slow server cannot slow the generator down and hide its own latency.
+ * When {@code maxInFlight} requests are outstanding, further arrivals are counted as dropped
+ * rather than queued without bound; requests still outstanding after the drain timeout are
+ * reported as unfinished.
+ */
+public class OpenLoopDriver {
+
+    private final HttpClient client;
+    private final BiFunction<Operation, Random, HttpRequest> requests;
+    private final Operation[] operations;
+    private final int[] cumulativeWeights;
+    private final double rate;
+    private final boolean poisson;
+    private final int maxInFlight;
+    private final Duration drainTimeout;
+
+    public OpenLoopDriver(HttpClient client, BiFunction<Operation, Random, HttpRequest> requests, Map<Operation, Integer> mix,
+            double rate, boolean poisson, int maxInFlight, Duration drainTimeout) {
+        this.client = client;
+        this.requests = requests;
+        this.operations = mix.keySet().toArray(new Operation[0]);
+        this.cumulativeWeights = new int[operations.length];
+        int total = 0;
+        for (int i = 0; i < operations.length; i++) {
+            total += mix.get(operations[i]);
+            cumulativeWeights[i] = total;
+        }
+        this.rate = rate;
+        this.poisson = poisson;
+        this.maxInFlight = maxInFlight;
+        this.drainTimeout = drainTimeout;
+    }
+
+    /**
+     * Run for {@code duration}, then wait up to the drain timeout for outstanding requests and
+     * return a snapshot of the results
+     */
+    public Map<Operation, OperationStats> run(Duration duration, long seed) {
+        Map<Operation, OperationStats> stats = new EnumMap<>(Operation.class);
+        for (Operation operation : operations) {
+            stats.put(operation, new OperationStats());
+        }
+        Random random = new Random(seed);
+        AtomicInteger inFlight = new AtomicInteger();
+        double meanGapNanos = 1e9 / rate;
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        double offset = 0;
+        while (true) {
+            offset += poisson ? -Math.log(1 - random.nextDouble()) * meanGapNanos : meanGapNanos;
+            long intended = start + (long) offset;
+            if (intended - end >= 0) {
+                break;
+            }
+            long wait;
+            while ((wait = intended - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            Operation operation = pick(random);
+            OperationStats operationStats = stats.get(operation);
+            if (inFlight.get() >= maxInFlight) {
+                operationStats.dropped.increment();
+                continue;
+            }
+            inFlight.incrementAndGet();
+            operationStats.inFlight.incrementAndGet();
+            HttpRequest request = requests.apply(operation, random);
+            long sent = System.nanoTime();
+            client.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((response, error) -> {
+                long done = System.nanoTime();
+                if (error == null) {
+                    int status = response.statusCode();
+                    operationStats.record(intended, sent, done, String.valueOf(status), status >= 400);
+                } else {
+                    operationStats.record(intended, sent, done, outcome(error), true);
+                }
+                operationStats.inFlight.decrementAndGet();
+                inFlight.decrementAndGet();
+            });
+        }
+        long drainDeadline = System.nanoTime() + drainTimeout.toNanos();
+        while (inFlight.get() > 0 && System.nanoTime() - drainDeadline < 0) {
+            LockSupport.parkNanos(10_000_000);
+        }
+        Map<Operation, OperationStats> snapshot = new EnumMap<>(Operation.class);
+        stats.forEach((operation, operationStats) -> snapshot.put(operation, operationStats.snapshot()));
+        return snapshot;
+    }
+
+    private Operation pick(Random random) {
+        int value = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (value < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+
+    private static String outcome(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        return cause instanceof HttpTimeoutException ? "timeout" : cause.getClass().getSimpleName();
+    }
+}
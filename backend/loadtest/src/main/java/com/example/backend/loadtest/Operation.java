@@ -0,0 +1,38 @@
+package com.example.backend.loadtest;
+
+/**
+ * The requests a load test can mix, by the name used in {@code --mix}
+ */
+public enum Operation {
+    LOGIN("login", "POST /api/auth/login"),
+    BOOKING("booking", "POST /api/bookings"),
+    HOTELS("hotels", "GET /api/hotels?limit=50"),
+    REVIEWS("reviews", "GET /api/hotels/{id}/reviews?limit=20"),
+    SEARCH("search", "GET /api/hotels/search"),
+    HF("hf", "POST /api/hf/default");
+
+    private final String name;
+    private final String description;
+
+    Operation(String name, String description) {
+        this.name = name;
+        this.description = description;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    static Operation named(String name) {
+        for (Operation operation : values()) {
+            if (operation.name.equals(name)) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("Unknown operation " + name + ", expected login, booking, hotels, reviews, search or hf");
+    }
+}
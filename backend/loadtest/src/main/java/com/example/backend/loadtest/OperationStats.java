@@ -0,0 +1,63 @@
+package com.example.backend.loadtest;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Latencies and outcomes of one operation, recorded in microseconds.
+ *
+ * {@code latency} runs from the moment the request was due to be sent, so time a request spent
+ * waiting behind a stalled client or server counts against it (the coordinated omission
+ * correction); {@code serviceTime} runs from the moment it was actually sent and shows how much
+ * of the latency was queueing on the load generator's side.
+ */
+public class OperationStats {
+
+    static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(10);
+
+    final Histogram latency;
+    final Histogram serviceTime;
+    final LongAdder completed = new LongAdder();
+    final LongAdder errors = new LongAdder();
+    final LongAdder dropped = new LongAdder();
+    final AtomicInteger inFlight = new AtomicInteger();
+    final Map<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+
+    OperationStats() {
+        this(new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3), new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3));
+    }
+
+    private OperationStats(Histogram latency, Histogram serviceTime) {
+        this.latency = latency;
+        this.serviceTime = serviceTime;
+    }
+
+    /**
+     * A copy for reporting; requests still outstanding keep recording into the original only
+     */
+    OperationStats snapshot() {
+        OperationStats copy = new OperationStats(latency.copy(), serviceTime.copy());
+        copy.completed.add(completed.sum());
+        copy.errors.add(errors.sum());
+        copy.dropped.add(dropped.sum());
+        copy.inFlight.set(inFlight.get());
+        outcomes.forEach((outcome, count) -> copy.outcomes.computeIfAbsent(outcome, k -> new LongAdder()).add(count.sum()));
+        return copy;
+    }
+
+    void record(long intendedNanos, long sentNanos, long doneNanos, String outcome, boolean error) {
+        latency.recordValue(Math.min(HIGHEST_TRACKABLE_MICROS, (doneNanos - intendedNanos) / 1000));
+        serviceTime.recordValue(Math.min(HIGHEST_TRACKABLE_MICROS, (doneNanos - sentNanos) / 1000));
+        completed.increment();
+        if (error) {
+            errors.increment();
+        }
+        outcomes.computeIfAbsent(outcome, k -> new LongAdder()).increment();
+    }
+}
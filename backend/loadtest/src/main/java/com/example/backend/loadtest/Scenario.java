@@ -0,0 +1,149 @@
+package com.example.backend.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Builds the request for each {@link Operation} and prepares the data they need.
+ *
+ * Reviews are read for hotel ids 1..{@code hotels}; bookings spread over the same hotels and
+ * the next year of nights so room inventory does not sell out during a run. Hugging Face prompts
+ * are drawn from {@code hfPrompts} variants, which bounds the response cache's hit ratio.
+ */
+public class Scenario {
+
+    static final String USER_EMAIL = "loadtest@example.com";
+    static final String USER_PASSWORD = "loadtest-password";
+    private static final List<String> CITIES = List.of("London", "Paris", "New York", "Tokyo", "Lisbon", "Berlin", "Rome", "Madrid");
+    private static final String[] MEALS = {"none", "veg", "nonveg"};
+
+    private final LoadTestOptions options;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final byte[] loginBody;
+
+    public Scenario(LoadTestOptions options) {
+        this.options = options;
+        this.loginBody = json(Map.of("email", USER_EMAIL, "password", USER_PASSWORD));
+    }
+
+    /**
+     * Sign up the login user and, with {@code seed} and {@code admin}, bulk-import reviews for
+     * every hotel, each only when the mix uses it. Safe to repeat: an existing user is reported
+     * and kept.
+     */
+    public void prepare(HttpClient client) throws IOException, InterruptedException {
+        if (options.mix.containsKey(Operation.LOGIN)) {
+            signUp(client);
+        }
+        if (options.mix.containsKey(Operation.REVIEWS) && options.seed && options.reviewsPerHotel > 0) {
+            seedReviews(client);
+        }
+    }
+
+    private void signUp(HttpClient client) throws IOException, InterruptedException {
+        HttpResponse<String> signup = client.send(post("/api/auth/signup",
+            json(Map.of("email", USER_EMAIL, "password", USER_PASSWORD, "name", "Load Test"))), HttpResponse.BodyHandlers.ofString());
+        System.out.println("signup " + USER_EMAIL + ": " + signup.statusCode());
+    }
+
+    private void seedReviews(HttpClient client) throws IOException, InterruptedException {
+        if (options.admin == null) {
+            System.out.println("not seeding reviews: the import needs --admin=user:password");
+            return;
+        }
+        Random random = new Random(42);
+        StringBuilder ndjson = new StringBuilder();
+        for (int hotel = 1; hotel <= options.hotels; hotel++) {
+            for (int r = 0; r < options.reviewsPerHotel; r++) {
+                Map<String, Object> review = new LinkedHashMap<>();
+                review.put("hotelId", hotel);
+                review.put("userName", "guest-" + random.nextInt(10_000));
+                review.put("rating", 1 + random.nextInt(5));
+                review.put("text", "Load test review " + r + " for hotel " + hotel);
+                ndjson.append(objectMapper.writeValueAsString(review)).append('\n');
+            }
+        }
+        HttpRequest bulk = HttpRequest.newBuilder(uri("/api/hotels/reviews/bulk"))
+            .header("Content-Type", "application/x-ndjson")
+            .header("Authorization", "Basic " + Base64.getEncoder().encodeToString(options.admin.getBytes(StandardCharsets.UTF_8)))
+            .POST(HttpRequest.BodyPublishers.ofString(ndjson.toString()))
+            .build();
+        HttpResponse<String> seeded = client.send(bulk, HttpResponse.BodyHandlers.ofString());
+        System.out.println("seeded " + options.hotels * options.reviewsPerHotel + " reviews: " + seeded.statusCode());
+    }
+
+    public HttpRequest request(Operation operation, Random random) {
+        return switch (operation) {
+            case LOGIN -> post("/api/auth/login", loginBody);
+            case BOOKING -> post("/api/bookings", booking(random));
+            case HOTELS -> get("/api/hotels?limit=50");
+            case REVIEWS -> get("/api/hotels/" + (1 + random.nextInt(options.hotels)) + "/reviews?limit=20");
+            case SEARCH -> get("/api/hotels/search?location="
+                + URLEncoder.encode(CITIES.get(random.nextInt(CITIES.size())), StandardCharsets.UTF_8));
+            case HF -> post("/api/hf/default", json(Map.of(
+                "inputs", "Describe a quiet hotel room, variant " + random.nextInt(options.hfPrompts),
+                "parameters", Map.of("max_new_tokens", 32))));
+        };
+    }
+
+    private byte[] booking(Random random) {
+        int hotel = 1 + random.nextInt(options.hotels);
+        int nights = 1 + random.nextInt(4);
+        LocalDate checkIn = LocalDate.now().plusDays(1 + random.nextInt(365));
+        double pricePerNight = 60 + random.nextInt(300);
+        Map<String, Object> booking = new LinkedHashMap<>();
+        booking.put("userEmail", USER_EMAIL);
+        booking.put("hotelId", String.valueOf(hotel));
+        booking.put("hotelName", "Hotel " + hotel);
+        booking.put("fullName", "Load Test");
+        booking.put("email", USER_EMAIL);
+        booking.put("phone", "+1 555 0100");
+        booking.put("checkIn", checkIn.toString());
+        booking.put("checkOut", checkIn.plusDays(nights).toString());
+        booking.put("nights", nights);
+        booking.put("rooms", 1);
+        booking.put("adults", 2);
+        booking.put("children", 0);
+        booking.put("pricePerNight", pricePerNight);
+        booking.put("totalPrice", pricePerNight * nights);
+        booking.put("mealPreference", MEALS[random.nextInt(MEALS.length)]);
+        return json(booking);
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(uri(path)).timeout(options.requestTimeout).GET().build();
+    }
+
+    private HttpRequest post(String path, byte[] body) {
+        return HttpRequest.newBuilder(uri(path))
+            .timeout(options.requestTimeout)
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+            .build();
+    }
+
+    private URI uri(String path) {
+        return URI.create(options.target + path);
+    }
+
+    private byte[] json(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
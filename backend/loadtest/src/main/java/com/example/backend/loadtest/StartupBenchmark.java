@@ -0,0 +1,213 @@
+package com.example.backend.loadtest;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Starts the backend in each startup mode and reports time to first request and resident memory.
+ *
+ * A run starts the process, polls {@code path} every 10 ms until any HTTP response arrives,
+ * reads the process's RSS from {@code /proc} and stops it. Modes whose build output is missing
+ * are skipped:
+ * <ul>
+ * <li>{@code jvm}: the Spring Boot fat jar</li>
+ * <li>{@code aot}: the same jar with {@code -Dspring.aot.enabled=true}, after {@code -Pfast-startup}</li>
+ * <li>{@code cds}: {@code target/fast-startup}, AOT plus the AppCDS archive from {@code -Pfast-startup}</li>
+ * <li>{@code native}: {@code target/backend} from {@code -Pnative native:compile}</li>
+ * </ul>
+ *
+ * <pre>
+ * java -cp target/loadtest.jar com.example.backend.loadtest.StartupBenchmark \
+ *     --backend=../backend --runs=5 --app-args=--spring.data.mongodb.uri=mongodb://localhost:27017/springnext
+ * </pre>
+ */
+public class StartupBenchmark {
+
+    private record Mode(String name, Path directory, List<String> command) {}
+
+    private record Run(long firstRequestMillis, long rssKiloBytes) {}
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        Map<String, String> options = new HashMap<>(Map.of(
+            "backend", "../backend", "modes", "jvm,aot,cds,native", "runs", "5", "warmup-runs", "1",
+            "port", "8090", "path", "/api/hotels/search/stats", "timeout", "PT120S", "jvm-args", "", "app-args", "", "logs", ""));
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=") || !options.containsKey(arg.substring(2, arg.indexOf('=')))) {
+                throw new IllegalArgumentException("Unknown option " + arg + ", expected one of --" + String.join(", --", options.keySet()));
+            }
+            options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+        Path target = Path.of(options.get("backend")).toAbsolutePath().normalize().resolve("target");
+        int port = Integer.parseInt(options.get("port"));
+        int runs = Integer.parseInt(options.get("runs"));
+        int warmUpRuns = Integer.parseInt(options.get("warmup-runs"));
+        Duration timeout = Duration.parse(options.get("timeout"));
+        URI probe = URI.create("http://localhost:" + port + options.get("path"));
+        Path logs = options.get("logs").isBlank() ? null : Files.createDirectories(Path.of(options.get("logs")));
+        List<String> appArgs = new ArrayList<>(split(options.get("app-args")));
+        appArgs.add(0, "--server.port=" + port);
+
+        HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(1))
+            .build();
+        Map<String, List<Run>> results = new LinkedHashMap<>();
+        for (String name : options.get("modes").split(",")) {
+            Mode mode = mode(name.trim(), target, split(options.get("jvm-args")), appArgs);
+            if (mode == null) {
+                System.out.println("skipping " + name.trim() + ": not built");
+                continue;
+            }
+            List<Run> measured = new ArrayList<>();
+            for (int i = 0; i < warmUpRuns + runs; i++) {
+                File log = logs == null ? null : logs.resolve(mode.name() + "-" + i + ".log").toFile();
+                Run run = run(mode, client, probe, timeout, log);
+                System.out.printf("%-8s run %d: first request after %d ms, RSS %.1f MB%s%n", mode.name(), i + 1,
+                    run.firstRequestMillis(), run.rssKiloBytes() / 1024.0, i < warmUpRuns ? " (warm-up)" : "");
+                if (i >= warmUpRuns) {
+                    measured.add(run);
+                }
+            }
+            results.put(mode.name(), measured);
+        }
+        print(results);
+    }
+
+    private static Mode mode(String name, Path target, List<String> jvmArgs, List<String> appArgs) throws IOException {
+        String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+        Path fatJar;
+        try (Stream<Path> files = Files.list(target)) {
+            fatJar = files.filter(f -> f.getFileName().toString().endsWith(".jar")).findFirst().orElse(null);
+        }
+        Path fastStartup = target.resolve("fast-startup");
+        List<String> command = new ArrayList<>();
+        switch (name) {
+            case "jvm", "aot" -> {
+                if (fatJar == null || (name.equals("aot") && !Files.isDirectory(target.resolve("spring-aot")))) {
+                    return null;
+                }
+                command.add(java);
+                command.addAll(jvmArgs);
+                if (name.equals("aot")) {
+                    command.add("-Dspring.aot.enabled=true");
+                }
+                command.addAll(List.of("-jar", fatJar.toString()));
+            }
+            case "cds" -> {
+                if (!Files.exists(fastStartup.resolve("backend.jsa"))) {
+                    return null;
+                }
+                Path jar;
+                try (Stream<Path> files = Files.list(fastStartup)) {
+                    jar = files.filter(f -> f.getFileName().toString().endsWith("-fast-startup.jar")).findFirst().orElse(null);
+                }
+                if (jar == null) {
+                    return null;
+                }
+                command.add(java);
+                command.addAll(jvmArgs);
+                // Relative paths, as in the training run that recorded the archive
+                command.addAll(List.of("-XX:SharedArchiveFile=backend.jsa", "-Dspring.aot.enabled=true",
+                    "-jar", jar.getFileName().toString()));
+            }
+            case "native" -> {
+                Path executable = target.resolve("backend");
+                if (!Files.isExecutable(executable)) {
+                    return null;
+                }
+                command.add(executable.toString());
+            }
+            default -> throw new IllegalArgumentException("Unknown mode " + name + ", expected jvm, aot, cds or native");
+        }
+        command.addAll(appArgs);
+        return new Mode(name, name.equals("cds") ? fastStartup : target, command);
+    }
+
+    private static Run run(Mode mode, HttpClient client, URI probe, Duration timeout, File log) throws IOException, InterruptedException {
+        ProcessBuilder builder = new ProcessBuilder(mode.command())
+            .directory(mode.directory().toFile())
+            .redirectErrorStream(true)
+            .redirectOutput(log == null ? ProcessBuilder.Redirect.DISCARD : ProcessBuilder.Redirect.to(log));
+        long start = System.nanoTime();
+        Process process = builder.start();
+        try {
+            long deadline = start + timeout.toNanos();
+            HttpRequest request = HttpRequest.newBuilder(probe).timeout(Duration.ofSeconds(5)).GET().build();
+            while (true) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException(mode.name() + " exited with status " + process.exitValue() + " before answering");
+                }
+                try {
+                    client.send(request, HttpResponse.BodyHandlers.discarding());
+                    break;
+                } catch (IOException notListeningYet) {
+                    if (System.nanoTime() > deadline) {
+                        throw new IllegalStateException(mode.name() + " did not answer " + probe + " within " + timeout);
+                    }
+                    Thread.sleep(10);
+                }
+            }
+            long firstRequestMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            return new Run(firstRequestMillis, rssKiloBytes(process.pid()));
+        } finally {
+            process.destroy();
+            if (!process.waitFor(20, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    /**
+     * VmRSS of a Linux process, 0 where /proc is not available
+     */
+    private static long rssKiloBytes(long pid) throws IOException {
+        Path status = Path.of("/proc", String.valueOf(pid), "status");
+        if (!Files.exists(status)) {
+            return 0;
+        }
+        for (String line : Files.readAllLines(status)) {
+            if (line.startsWith("VmRSS:")) {
+                return Long.parseLong(line.replaceAll("\\D", ""));
+            }
+        }
+        return 0;
+    }
+
+    private static void print(Map<String, List<Run>> results) {
+        System.out.println();
+        System.out.printf("%-8s %5s %12s %10s %10s %10s%n", "mode", "runs", "first req ms", "min", "max", "RSS MB");
+        for (Map.Entry<String, List<Run>> entry : results.entrySet()) {
+            List<Run> runs = entry.getValue();
+            if (runs.isEmpty()) {
+                continue;
+            }
+            long[] millis = runs.stream().mapToLong(Run::firstRequestMillis).sorted().toArray();
+            long[] rss = runs.stream().mapToLong(Run::rssKiloBytes).sorted().toArray();
+            System.out.printf("%-8s %5d %12d %10d %10d %10.1f%n", entry.getKey(), runs.size(),
+                median(millis), millis[0], millis[millis.length - 1], median(rss) / 1024.0);
+        }
+    }
+
+    private static long median(long[] sorted) {
+        return sorted[sorted.length / 2];
+    }
+
+    private static List<String> split(String value) {
+        return value.isBlank() ? List.of() : Arrays.asList(value.trim().split("\\s+"));
+    }
+}
@@ -0,0 +1,143 @@
+package com.example.backend.loadtest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.Executors;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Local stand-ins for MakCorps and the Hugging Face router, so a load test measures the backend
+ * and not the internet.
+ *
+ * The MakCorps stub answers {@code POST /auth} with a JWT valid for an hour and
+ * {@code GET /free/{city}} with {@code hotels} MakCorps-shaped entries. The Hugging Face stub
+ * answers {@code POST /models/**} with one {@code generated_text} per input. Each waits its
+ * configured latency first; handlers run on virtual threads, so slow responses cost nothing.
+ *
+ * <pre>
+ * java -cp target/loadtest.jar com.example.backend.loadtest.StubServers \
+ *     --makcorps-port=9001 --hf-port=9002 --makcorps-latency=PT0.2S --hf-latency=PT0.5S --hotels=50
+ * </pre>
+ */
+public class StubServers {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    public static void main(String[] args) throws IOException {
+        Map<String, String> options = new HashMap<>(Map.of(
+            "makcorps-port", "9001", "hf-port", "9002",
+            "makcorps-latency", "PT0.2S", "hf-latency", "PT0.5S", "hotels", "50"));
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=") || !options.containsKey(arg.substring(2, arg.indexOf('=')))) {
+                throw new IllegalArgumentException("Unknown option " + arg + ", expected one of --" + String.join(", --", options.keySet()));
+            }
+            options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+        HttpServer makCorps = makCorps(Integer.parseInt(options.get("makcorps-port")),
+            Duration.parse(options.get("makcorps-latency")), Integer.parseInt(options.get("hotels")));
+        HttpServer huggingFace = huggingFace(Integer.parseInt(options.get("hf-port")), Duration.parse(options.get("hf-latency")));
+        System.out.println("MakCorps stub:     HOTELAPI_AUTH_URL=http://localhost:" + makCorps.getAddress().getPort() + "/auth"
+            + " HOTELAPI_BASE_URL=http://localhost:" + makCorps.getAddress().getPort() + "/free");
+        System.out.println("Hugging Face stub: HUGGINGFACE_BASE_URL=http://localhost:" + huggingFace.getAddress().getPort()
+            + " HUGGINGFACE_API_TOKEN=stub");
+    }
+
+    public static HttpServer makCorps(int port, Duration latency, int hotels) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress(port), 1024);
+        byte[] token = objectMapper.writeValueAsBytes(Map.of("access_token", jwt(Instant.now().plus(Duration.ofHours(1)))));
+        server.createContext("/auth", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            respond(exchange, latency, token);
+        });
+        server.createContext("/free/", exchange -> {
+            String city = exchange.getRequestURI().getPath().substring("/free/".length());
+            respond(exchange, latency, hotels(city, hotels));
+        });
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.start();
+        return server;
+    }
+
+    public static HttpServer huggingFace(int port, Duration latency) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress(port), 1024);
+        server.createContext("/models/", exchange -> {
+            JsonNode body = objectMapper.readTree(exchange.getRequestBody());
+            JsonNode inputs = body.path("inputs");
+            List<Map<String, String>> generated = new ArrayList<>();
+            int count = inputs.isArray() ? inputs.size() : 1;
+            for (int i = 0; i < count; i++) {
+                String prompt = inputs.isArray() ? inputs.get(i).asText() : inputs.asText();
+                generated.add(Map.of("generated_text", prompt + " A calm room with soft light and a view of the garden."));
+            }
+            // A batch gets one result list per input, a single input one list
+            Object response = inputs.isArray() ? generated.stream().map(List::of).toList() : generated;
+            respond(exchange, latency, objectMapper.writeValueAsBytes(response));
+        });
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.start();
+        return server;
+    }
+
+    private static void respond(HttpExchange exchange, Duration latency, byte[] body) throws IOException {
+        try {
+            Thread.sleep(latency);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        exchange.getResponseBody().write(body);
+        exchange.close();
+    }
+
+    private static String jwt(Instant expiresAt) {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return encoder.encodeToString("{\"alg\":\"none\"}".getBytes(StandardCharsets.UTF_8)) + "."
+            + encoder.encodeToString(("{\"exp\":" + expiresAt.getEpochSecond() + "}").getBytes(StandardCharsets.UTF_8)) + ".stub";
+    }
+
+    /**
+     * {@code [[{hotelName, hotelId}, [{vendor1, price1, tax1}, ...]], ...]}, the same for a city on every call
+     */
+    private static byte[] hotels(String city, int count) throws IOException {
+        Random random = new Random(city.hashCode());
+        ByteArrayOutputStream out = new ByteArrayOutputStream(count * 400);
+        try (JsonGenerator gen = objectMapper.getFactory().createGenerator(out)) {
+            gen.writeStartArray();
+            for (int h = 0; h < count; h++) {
+                gen.writeStartArray();
+                gen.writeStartObject();
+                gen.writeStringField("hotelName", city + " Stub Hotel " + h);
+                gen.writeStringField("hotelId", String.valueOf(2_000_000 + h));
+                gen.writeEndObject();
+                gen.writeStartArray();
+                for (int slot = 1; slot <= 4; slot++) {
+                    gen.writeStartObject();
+                    gen.writeStringField("vendor" + slot, "Vendor " + slot);
+                    gen.writeStringField("price" + slot, "$" + (60 + random.nextInt(400)));
+                    gen.writeStringField("tax" + slot, "$" + random.nextInt(60));
+                    gen.writeEndObject();
+                }
+                gen.writeEndArray();
+                gen.writeEndArray();
+            }
+            gen.writeEndArray();
+        }
+        return out.toByteArray();
+    }
+}
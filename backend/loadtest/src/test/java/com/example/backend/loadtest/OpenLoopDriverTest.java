@@ -0,0 +1,101 @@
+package com.example.backend.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.sun.net.httpserver.HttpServer;
+
+class OpenLoopDriverTest {
+
+    private HttpServer stub;
+    private ExecutorService executor;
+    private HttpClient client;
+    private String baseUrl;
+
+    @BeforeEach
+    void startStub() throws IOException {
+        stub = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        stub.createContext("/", exchange -> {
+            int status = exchange.getRequestURI().getPath().equals("/fail") ? 503 : 200;
+            exchange.sendResponseHeaders(status, -1);
+            exchange.close();
+        });
+        stub.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        stub.start();
+        baseUrl = "http://127.0.0.1:" + stub.getAddress().getPort();
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).executor(executor).build();
+    }
+
+    @AfterEach
+    void stopStub() {
+        stub.stop(0);
+        executor.shutdownNow();
+    }
+
+    @Test
+    void sendsAtTheTargetRateInTheConfiguredMix() {
+        OpenLoopDriver driver = new OpenLoopDriver(client,
+            (operation, random) -> get(operation == Operation.REVIEWS ? "/fail" : "/ok"),
+            Map.of(Operation.HOTELS, 3, Operation.REVIEWS, 1), 400, false, 1000, Duration.ofSeconds(5));
+
+        Map<Operation, OperationStats> stats = driver.run(Duration.ofSeconds(1), 7);
+
+        long hotels = stats.get(Operation.HOTELS).completed.sum();
+        long reviews = stats.get(Operation.REVIEWS).completed.sum();
+        assertThat(hotels + reviews).isBetween(395L, 400L);
+        assertThat((double) hotels / (hotels + reviews)).isCloseTo(0.75, within(0.07));
+        assertThat(stats.get(Operation.HOTELS).errors.sum()).isZero();
+        assertThat(stats.get(Operation.REVIEWS).errors.sum()).isEqualTo(reviews);
+        assertThat(stats.get(Operation.REVIEWS).outcomes).containsOnlyKeys("503");
+    }
+
+    @Test
+    void latencyIncludesTimeRequestsWereOverdue() {
+        AtomicInteger built = new AtomicInteger();
+        // The generator itself stalls once; requests due meanwhile must not look fast
+        OpenLoopDriver driver = new OpenLoopDriver(client,
+            (operation, random) -> {
+                if (built.incrementAndGet() == 20) {
+                    sleep(300);
+                }
+                return get("/ok");
+            },
+            Map.of(Operation.HOTELS, 1), 100, false, 1000, Duration.ofSeconds(5));
+
+        OperationStats stats = driver.run(Duration.ofSeconds(1), 7).get(Operation.HOTELS);
+
+        assertThat(stats.completed.sum()).isBetween(98L, 100L);
+        assertThat(stats.latency.getMaxValue()).isGreaterThan(250_000);
+        assertThat(stats.serviceTime.getMaxValue()).isLessThan(stats.latency.getMaxValue() / 2);
+        // About 30 requests were due during the stall
+        assertThat(stats.latency.getCountBetweenValues(100_000, OperationStats.HIGHEST_TRACKABLE_MICROS)).isGreaterThan(15);
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).GET().build();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
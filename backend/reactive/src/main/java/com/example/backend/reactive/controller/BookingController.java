@@ -0,0 +1,79 @@
+package com.example.backend.reactive.controller;
+
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.backend.dto.BookingSummary;
+import com.example.backend.model.Booking;
+import com.example.backend.util.ReadQueries;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Read endpoints of the servlet {@code BookingController}; bookings are created, cancelled
+ * and completed on the servlet backend, which owns room inventory and rollups. The export of
+ * every booking ({@code /all}) is not served here: this application has no admin sign-in.
+ */
+@RestController
+@RequestMapping("/api/bookings")
+@CrossOrigin(origins = "http://localhost:3000")
+public class BookingController {
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    @Autowired
+    private ReactiveMongoTemplate mongoTemplate;
+
+    /**
+     * A user's bookings. With {@code limit}, {@code cursor} or {@code status} one page of
+     * summaries is returned, newest first; without them every full booking.
+     */
+    @GetMapping("/user/{email}")
+    public Mono<ResponseEntity<?>> getUserBookings(
+            @PathVariable String email,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) String status) {
+        if (limit == null && cursor == null && status == null) {
+            return mongoTemplate.find(Query.query(Criteria.where("userEmail").is(email)), Booking.class)
+                .collectList()
+                .map(ResponseEntity::ok);
+        }
+        int size = limit == null ? DEFAULT_PAGE_SIZE : limit;
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            return badRequest("limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        Query query;
+        try {
+            query = ReadQueries.userBookingPage(email, status, size, cursor);
+        } catch (IllegalArgumentException e) {
+            return badRequest(e.getMessage());
+        }
+        return mongoTemplate.query(Booking.class).as(BookingSummary.class).matching(query).all()
+            .collectList()
+            .map(bookings -> ResponseEntity.ok(ReadQueries.page(bookings, size, ReadQueries::bookingCursor)));
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<Booking>> getBookingById(@PathVariable String id) {
+        return mongoTemplate.findById(id, Booking.class)
+            .map(ResponseEntity::ok)
+            .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    private static Mono<ResponseEntity<?>> badRequest(String error) {
+        return Mono.just(ResponseEntity.badRequest().body(Map.of("error", error)));
+    }
+}
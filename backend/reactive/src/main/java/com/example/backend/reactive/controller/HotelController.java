@@ -0,0 +1,32 @@
+package com.example.backend.reactive.controller;
+
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.backend.reactive.service.MakCorpsClient;
+
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/api/hotels")
+@CrossOrigin(origins = "http://localhost:3000")
+public class HotelController {
+
+    @Autowired
+    private MakCorpsClient makCorpsClient;
+
+    @GetMapping("/search")
+    public Mono<ResponseEntity<?>> searchHotels(@RequestParam String location) {
+        return makCorpsClient.searchHotelsByCity(location)
+            .<ResponseEntity<?>>map(ResponseEntity::ok)
+            .onErrorResume(e -> Mono.just(ResponseEntity.badRequest()
+                .body(Map.of("error", "Failed to fetch hotels: " + e.getMessage()))));
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.backend.reactive.controller;
+
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.backend.util.ReadQueries;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive counterpart of the servlet {@code LocalHotelController}'s listing. The
+ * {@code /filter} search is not served here: it runs on the servlet backend's in-memory index.
+ */
+@RestController
+@RequestMapping("/api/hotels")
+@CrossOrigin(origins = "http://localhost:3000")
+public class LocalHotelController {
+
+    private static final String HOTELS = "hotels";
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final int CURSOR_BATCH_SIZE = 500;
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    @Autowired
+    private ReactiveMongoTemplate mongoTemplate;
+
+    /**
+     * With {@code limit} or {@code cursor}: one keyset page ordered by _id.
+     * Without them: every hotel, encoded as it arrives from the Mongo cursor as a JSON array,
+     * or as NDJSON when {@code format=ndjson} or {@code Accept: application/x-ndjson}.
+     */
+    @GetMapping
+    public Mono<ResponseEntity<?>> getAllSeededHotels(
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) String format,
+            @RequestHeader(value = "Accept", required = false) String accept) {
+        if (limit != null || cursor != null) {
+            return getHotelPage(limit, cursor);
+        }
+        boolean ndjson = "ndjson".equalsIgnoreCase(format) || (accept != null && accept.contains(NDJSON.toString()));
+        Query query = new Query();
+        query.cursorBatchSize(CURSOR_BATCH_SIZE);
+        Flux<Map> hotels = mongoTemplate.find(query, Map.class, HOTELS);
+        return Mono.just(ResponseEntity.ok().contentType(ndjson ? NDJSON : MediaType.APPLICATION_JSON).body(hotels));
+    }
+
+    private Mono<ResponseEntity<?>> getHotelPage(Integer limit, String cursor) {
+        int size = limit == null ? DEFAULT_PAGE_SIZE : limit;
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            return Mono.just(ResponseEntity.badRequest().body(Map.of("error", "limit must be between 1 and " + MAX_PAGE_SIZE)));
+        }
+        Query query;
+        try {
+            query = ReadQueries.hotelPage(size, cursor);
+        } catch (IllegalArgumentException e) {
+            return Mono.just(ResponseEntity.badRequest().body(Map.of("error", e.getMessage())));
+        }
+        return mongoTemplate.find(query, Map.class, HOTELS)
+            .collectList()
+            .<ResponseEntity<?>>map(hotels -> ResponseEntity.ok(
+                ReadQueries.page(hotels, size, hotel -> ReadQueries.hotelCursor(hotel.get("_id")))))
+            .onErrorResume(e -> Mono.just(ResponseEntity.status(500)
+                .body(Map.of("error", "failed to read hotels from DB", "details", String.valueOf(e.getMessage())))));
+    }
+}
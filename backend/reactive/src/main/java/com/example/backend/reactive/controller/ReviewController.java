@@ -0,0 +1,79 @@
+package com.example.backend.reactive.controller;
+
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.backend.dto.ReviewDto;
+import com.example.backend.model.Review;
+import com.example.backend.util.ReadQueries;
+
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/api/hotels/{hotelId}/reviews")
+@CrossOrigin(origins = "http://localhost:3000", exposedHeaders = ReviewController.NEXT_CURSOR_HEADER)
+public class ReviewController {
+
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    @Autowired
+    private ReactiveMongoTemplate mongoTemplate;
+
+    /**
+     * Newest reviews first. With {@code limit} and/or {@code before} one keyset page is returned
+     * and the cursor of the next page, if any, is sent in the {@value #NEXT_CURSOR_HEADER} header;
+     * without them every review of the hotel.
+     */
+    @GetMapping
+    public Mono<ResponseEntity<?>> listReviews(@PathVariable Long hotelId,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String before) {
+        if (limit == null && before == null) {
+            Query query = Query.query(Criteria.where("hotelId").is(hotelId)).with(Sort.by(Sort.Direction.DESC, "createdAt"));
+            return mongoTemplate.find(query, Review.class)
+                .map(ReviewDto::new)
+                .collectList()
+                .<ResponseEntity<?>>map(ResponseEntity::ok)
+                .onErrorResume(e -> badRequest("Failed to fetch reviews: " + e.getMessage()));
+        }
+        int size = limit == null ? DEFAULT_PAGE_SIZE : limit;
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            return badRequest("limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        Query query;
+        try {
+            query = ReadQueries.reviewPage(hotelId, size, before);
+        } catch (IllegalArgumentException e) {
+            return badRequest(e.getMessage());
+        }
+        return mongoTemplate.find(query, Review.class)
+            .collectList()
+            .<ResponseEntity<?>>map(rows -> {
+                var page = ReadQueries.page(rows, size, ReadQueries::reviewCursor);
+                ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+                if (page.getNextCursor() != null) {
+                    response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+                }
+                return response.body(page.getItems().stream().map(ReviewDto::new).toList());
+            })
+            .onErrorResume(e -> badRequest("Failed to fetch reviews: " + e.getMessage()));
+    }
+
+    private static Mono<ResponseEntity<?>> badRequest(String error) {
+        return Mono.just(ResponseEntity.badRequest().body(Map.of("error", error)));
+    }
+}
@@ -0,0 +1,173 @@
+package com.example.backend.reactive.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import com.example.backend.dto.HotelResponse;
+import com.example.backend.service.HotelApiTokenManager;
+import com.example.backend.service.HotelSearchCache;
+import com.example.backend.service.MakCorpsResponseParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Non-blocking MakCorps hotel search with the servlet backend's caching and token handling.
+ *
+ * Results are cached per normalized city with the same size, ttl and refresh-after rules as
+ * {@link HotelSearchCache}; concurrent misses share one upstream call. The JWT comes from a
+ * {@link HotelApiTokenManager}, whose refreshes run on its own thread, so only a caller with
+ * no usable token at all waits, and then on a bounded-elastic thread rather than an event loop.
+ */
+@Service
+public class MakCorpsClient {
+
+    @Value("${hotelapi.username:}")
+    private String username;
+
+    @Value("${hotelapi.password:}")
+    private String password;
+
+    @Value("${hotelapi.auth-url:https://api.makcorps.com/auth}")
+    private String authUrl;
+
+    @Value("${hotelapi.base-url:https://api.makcorps.com/free}")
+    private String baseUrl;
+
+    @Value("${hotelapi.cache.max-cities:1000}")
+    private long cacheMaxCities;
+
+    @Value("${hotelapi.cache.ttl:30m}")
+    private Duration cacheTtl;
+
+    @Value("${hotelapi.cache.refresh-after:5m}")
+    private Duration cacheRefreshAfter;
+
+    @Value("${hotelapi.token.refresh-ahead:5m}")
+    private Duration tokenRefreshAhead;
+
+    @Value("${hotelapi.token.default-lifetime:30m}")
+    private Duration tokenDefaultLifetime;
+
+    @Value("${hotelapi.max-response-size:16MB}")
+    private DataSize maxResponseSize;
+
+    @Autowired
+    private WebClient.Builder webClientBuilder;
+
+    private WebClient webClient;
+    private HotelApiTokenManager tokenManager;
+    private AsyncLoadingCache<String, List<HotelResponse>> searchCache;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final MakCorpsResponseParser responseParser = new MakCorpsResponseParser(objectMapper.getFactory());
+
+    @PostConstruct
+    void init() {
+        if (cacheRefreshAfter.compareTo(cacheTtl) >= 0) {
+            throw new IllegalArgumentException("refreshAfter must be shorter than ttl");
+        }
+        webClient = webClientBuilder.build();
+        tokenManager = new HotelApiTokenManager(this::requestJwtToken, tokenRefreshAhead, tokenDefaultLifetime);
+        if (username != null && !username.isBlank()) {
+            // Warm up in the background so the first search does not pay for authentication
+            tokenManager.warmUp();
+        }
+        searchCache = Caffeine.newBuilder()
+            .maximumSize(cacheMaxCities)
+            .expireAfterWrite(cacheTtl)
+            .refreshAfterWrite(cacheRefreshAfter)
+            .buildAsync((city, executor) -> fetchHotelsByCity(city).map(List::copyOf).toFuture());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        tokenManager.close();
+    }
+
+    /**
+     * Search hotels by city name, served from the search cache when possible
+     */
+    public Mono<List<HotelResponse>> searchHotelsByCity(String city) {
+        return Mono.fromCallable(() -> HotelSearchCache.normalize(city))
+            // A client that goes away must not cancel a load other callers are waiting on
+            .flatMap(key -> Mono.fromFuture(searchCache.get(key), true));
+    }
+
+    /**
+     * Fetch hotels for an already normalized city straight from the upstream API
+     */
+    private Mono<List<HotelResponse>> fetchHotelsByCity(String city) {
+        return token()
+            .flatMap(token -> requestHotels(city, token)
+                // Token was revoked or expired early: refresh once and retry
+                .onErrorResume(WebClientResponseException.Unauthorized.class,
+                    e -> Mono.fromCallable(() -> tokenManager.refreshAfterUnauthorized(token))
+                        .subscribeOn(Schedulers.boundedElastic())
+                        .flatMap(fresh -> requestHotels(city, fresh))))
+            .onErrorMap(e -> new RuntimeException("Failed to fetch hotels: " + e.getMessage(), e));
+    }
+
+    /**
+     * Fetch the city's hotels; the body is gathered as buffers and parsed with the streaming parser
+     */
+    private Mono<List<HotelResponse>> requestHotels(String city, String token) {
+        return DataBufferUtils.join(
+                webClient.get()
+                    .uri(baseUrl + "/{city}", city)
+                    .header("Authorization", "JWT " + token)
+                    .retrieve()
+                    .bodyToFlux(DataBuffer.class),
+                (int) maxResponseSize.toBytes())
+            .map(buffer -> {
+                try (InputStream in = buffer.asInputStream(true)) {
+                    return responseParser.parse(in);
+                } catch (IOException | RuntimeException e) {
+                    throw new RuntimeException("Failed to parse hotel response: " + e.getMessage());
+                }
+            });
+    }
+
+    private Mono<String> token() {
+        return Mono.fromCallable(tokenManager::getToken).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    /**
+     * Authenticate and get a fresh JWT token; runs on the token manager's own thread, so it may block
+     */
+    private String requestJwtToken() {
+        try {
+            JsonNode jsonNode = webClient.post()
+                .uri(authUrl)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("username", username, "password", password))
+                .retrieve()
+                .bodyToMono(JsonNode.class)
+                .block(Duration.ofSeconds(30));
+            if (jsonNode == null || !jsonNode.hasNonNull("access_token")) {
+                throw new IllegalStateException("no access_token in response");
+            }
+            return jsonNode.get("access_token").asText();
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to authenticate with Hotel API: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.backend.reactive;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+class ReactiveBackendApplicationTests {
+
+	@Test
+	void contextLoads() {
+	}
+
+}
@@ -0,0 +1,128 @@
+package com.example.backend.reactive;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Closed-loop comparison of the servlet and reactive read paths.
+ *
+ * For every target and concurrency level, that many virtual-thread clients request the
+ * configured paths round-robin, each sending its next request as soon as the previous one
+ * completes. After a warm-up the run prints throughput, error count and p50/p99/max latency.
+ * Uses only the JDK, so it runs without a build:
+ *
+ * <pre>
+ * java src/test/java/com/example/backend/reactive/ReadPathLoad.java \
+ *     -Dtargets=http://localhost:8080,http://localhost:8081 -Dconcurrency=64,256,1024
+ * </pre>
+ *
+ * (system properties go before the file name when launching a source file directly).
+ */
+public class ReadPathLoad {
+
+    private static final String DEFAULT_PATHS = String.join(",",
+        "/api/hotels?limit=50",
+        "/api/hotels/1/reviews?limit=20",
+        "/api/bookings/user/load@example.com?limit=20",
+        "/api/hotels/search?location=London");
+
+    public static void main(String[] args) throws Exception {
+        List<String> targets = split(System.getProperty("targets", "http://localhost:8080,http://localhost:8081"));
+        List<String> paths = split(System.getProperty("paths", DEFAULT_PATHS));
+        int[] concurrency = split(System.getProperty("concurrency", "64,256,1024")).stream().mapToInt(Integer::parseInt).toArray();
+        Duration warmUp = Duration.parse(System.getProperty("warmup", "PT10S"));
+        Duration duration = Duration.parse(System.getProperty("duration", "PT30S"));
+
+        HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+
+        System.out.printf("%-28s %7s %12s %8s %10s %10s %10s%n", "target", "clients", "req/s", "errors", "p50 ms", "p99 ms", "max ms");
+        for (String target : targets) {
+            for (int clients : concurrency) {
+                run(client, target, paths, clients, warmUp);
+                Result result = run(client, target, paths, clients, duration);
+                System.out.printf("%-28s %7d %12.1f %8d %10.2f %10.2f %10.2f%n", target, clients,
+                    result.count() / (duration.toNanos() / 1e9), result.errors(),
+                    result.percentile(0.50), result.percentile(0.99), result.percentile(1.0));
+            }
+        }
+    }
+
+    private static Result run(HttpClient client, String target, List<String> paths, int clients, Duration duration) throws InterruptedException {
+        List<HttpRequest> requests = new ArrayList<>();
+        for (String path : paths) {
+            requests.add(HttpRequest.newBuilder(URI.create(target + path)).timeout(Duration.ofSeconds(30)).GET().build());
+        }
+        long deadline = System.nanoTime() + duration.toNanos();
+        AtomicLong errors = new AtomicLong();
+        long[][] samples = new long[clients][];
+        int[] counts = new int[clients];
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < clients; c++) {
+                int worker = c;
+                workers.execute(() -> {
+                    long[] latencies = new long[1024];
+                    int n = 0;
+                    int next = worker;
+                    while (System.nanoTime() < deadline) {
+                        HttpRequest request = requests.get(next++ % requests.size());
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() >= 400) {
+                                errors.incrementAndGet();
+                            }
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                        }
+                        if (n == latencies.length) {
+                            latencies = Arrays.copyOf(latencies, n * 2);
+                        }
+                        latencies[n++] = System.nanoTime() - start;
+                    }
+                    samples[worker] = latencies;
+                    counts[worker] = n;
+                });
+            }
+        }
+        int total = Arrays.stream(counts).sum();
+        long[] all = new long[total];
+        int offset = 0;
+        for (int c = 0; c < clients; c++) {
+            System.arraycopy(samples[c], 0, all, offset, counts[c]);
+            offset += counts[c];
+        }
+        Arrays.sort(all);
+        return new Result(all, errors.get());
+    }
+
+    private static List<String> split(String value) {
+        return Arrays.stream(value.split(",")).map(String::trim).filter(s -> !s.isEmpty()).toList();
+    }
+
+    private record Result(long[] sortedNanos, long errors) {
+
+        long count() {
+            return sortedNanos.length;
+        }
+
+        double percentile(double p) {
+            if (sortedNanos.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(p * sortedNanos.length) - 1;
+            return sortedNanos[Math.max(0, index)] / 1e6;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.backend.reactive.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import com.example.backend.dto.HotelResponse;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+@SpringBootTest
+class MakCorpsClientTest {
+
+    private static final String HOTELS = "[[{\"hotelName\":\"Harbour Inn\",\"hotelId\":\"101\"},"
+        + "[{\"price1\":\"120\",\"tax1\":\"12\",\"vendor1\":\"Booking.com\"}]],"
+        + "[{\"hotelName\":\"Quay Hotel\",\"hotelId\":\"102\"},[{\"price1\":\"95\",\"vendor1\":\"Agoda\"}]]]";
+
+    private static final HttpServer stub;
+    private static final AtomicInteger logins = new AtomicInteger();
+    private static final AtomicInteger searches = new AtomicInteger();
+    // The first token handed out is rejected, as if it had been revoked
+    private static final AtomicInteger rejectFirstToken = new AtomicInteger(1);
+
+    static {
+        try {
+            stub = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        stub.createContext("/auth", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            respond(exchange, 200, "{\"access_token\":\"token-" + logins.incrementAndGet() + "\"}");
+        });
+        stub.createContext("/free/", exchange -> {
+            String auth = exchange.getRequestHeaders().getFirst("Authorization");
+            if ("JWT token-1".equals(auth) && rejectFirstToken.getAndSet(0) == 1) {
+                respond(exchange, 401, "{\"message\":\"token expired\"}");
+                return;
+            }
+            searches.incrementAndGet();
+            try {
+                // Slow enough that concurrent searches overlap
+                Thread.sleep(200);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            respond(exchange, 200, HOTELS);
+        });
+        stub.setExecutor(Executors.newCachedThreadPool());
+        stub.start();
+    }
+
+    @DynamicPropertySource
+    static void hotelApi(DynamicPropertyRegistry registry) {
+        String baseUrl = "http://127.0.0.1:" + stub.getAddress().getPort();
+        registry.add("hotelapi.auth-url", () -> baseUrl + "/auth");
+        registry.add("hotelapi.base-url", () -> baseUrl + "/free");
+    }
+
+    @AfterAll
+    static void stopStub() {
+        stub.stop(0);
+    }
+
+    @Autowired
+    private MakCorpsClient client;
+
+    @Test
+    void concurrentSearchesShareOneUpstreamCallAndRetryAfterUnauthorized() {
+        List<List<HotelResponse>> results = Flux.just("Lisbon", " lisbon ", "LISBON", "lisbon")
+            .flatMap(client::searchHotelsByCity)
+            .collectList()
+            .block(Duration.ofSeconds(10));
+
+        assertThat(results).hasSize(4).allSatisfy(hotels -> {
+            assertThat(hotels).extracting(HotelResponse::getHotelId).containsExactly("101", "102");
+            assertThat(hotels.get(0).getPrices().get(0).getVendor()).isEqualTo("Booking.com");
+        });
+        assertThat(searches.get()).isEqualTo(1);
+        // Logged in once, then once more after the first token was rejected
+        assertThat(logins.get()).isEqualTo(2);
+    }
+
+    @Test
+    void blankCityFails() {
+        StepVerifier.create(client.searchHotelsByCity("  "))
+            .expectErrorSatisfies(e -> assertThat(e)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("City must not be blank"))
+            .verify(Duration.ofSeconds(5));
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        exchange.getResponseBody().write(bytes);
+        exchange.close();
+    }
+}
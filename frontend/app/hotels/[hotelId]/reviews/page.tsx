@@ -19,32 +19,68 @@ export default function ReviewsPage() {
   const [reviews, setReviews] = useState<Review[]>([]);
   const [loading, setLoading] = useState(true);
   const [page, setPage] = useState(1);
+  const [total, setTotal] = useState(0);
+  // cursors[i] is the `before` cursor of page i + 1; page 1 has none
+  const [cursors, setCursors] = useState<(string | null)[]>([null]);
+  const [nextCursor, setNextCursor] = useState<string | null>(null);
   const pageSize = 10;
 
+  useEffect(() => {
+    if (!hotelId) return;
+    setPage(1);
+    setCursors([null]);
+    (async () => {
+      try {
+        const res = await fetch(`http://localhost:8080/api/hotels/ratings?ids=${hotelId}`);
+        if (res.ok) {
+          const [summary] = await res.json();
+          setTotal(summary?.count ?? 0);
+        }
+      } catch (err) {
+        setTotal(0);
+      }
+    })();
+  }, [hotelId]);
+
   useEffect(() => {
     if (!hotelId) return;
     setLoading(true);
     (async () => {
       try {
-        const res = await fetch(`http://localhost:8080/api/hotels/${hotelId}/reviews`);
+        const before = cursors[page - 1];
+        const query = `limit=${pageSize}` + (before ? `&before=${encodeURIComponent(before)}` : '');
+        const res = await fetch(`http://localhost:8080/api/hotels/${hotelId}/reviews?${query}`);
         if (res.ok) {
           const list = await res.json();
           setReviews(list || []);
+          setNextCursor(res.headers.get('X-Next-Cursor'));
         } else {
           setReviews([]);
+          setNextCursor(null);
         }
       } catch (err) {
         setReviews([]);
+        setNextCursor(null);
       } finally {
         setLoading(false);
       }
     })();
-  }, [hotelId]);
+  }, [hotelId, page, cursors]);
+
+  // Summaries lag behind until the first rebuild, so never show fewer than already seen
+  const knownTotal = Math.max(total, (page - 1) * pageSize + reviews.length);
+  const pages = Math.max(1, Math.ceil(knownTotal / pageSize), page);
+  const pageItems = reviews;
 
-  const total = reviews.length;
-  const pages = Math.max(1, Math.ceil(total / pageSize));
-  const start = (page - 1) * pageSize;
-  const pageItems = reviews.slice(start, start + pageSize);
+  const goNext = () => {
+    if (!nextCursor) return;
+    setCursors((c) => {
+      const updated = c.slice(0, page);
+      updated[page] = nextCursor;
+      return updated;
+    });
+    setPage((p) => p + 1);
+  };
 
   return (
     <div className="min-h-screen bg-gray-50">
@@ -64,7 +100,7 @@ export default function ReviewsPage() {
             <div className="py-20 text-center">Loading reviews...</div>
           ) : (
             <>
-              <div className="mb-4 text-sm text-gray-600">{total} review{total !== 1 ? 's' : ''}</div>
+              <div className="mb-4 text-sm text-gray-600">{knownTotal} review{knownTotal !== 1 ? 's' : ''}</div>
 
               {pageItems.length === 0 ? (
                 <div className="text-gray-700">No reviews yet. Be the first to leave a review!</div>
@@ -94,8 +130,8 @@ export default function ReviewsPage() {
                     Prev
                   </button>
                   <button
-                    onClick={() => setPage((p) => Math.min(pages, p + 1))}
-                    disabled={page >= pages}
+                    onClick={goNext}
+                    disabled={!nextCursor}
                     className="px-3 py-1 rounded border bg-white disabled:opacity-50"
                   >
                     Next
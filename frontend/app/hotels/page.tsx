@@ -18,6 +18,37 @@ interface Hotel {
   reviewsList?: { user: string; rating: number; text: string; date?: string }[];
 }
 
+type ReviewsSummary = { count: number; avg: number; list: { user: string; rating: number; text: string; date?: string }[] };
+
+// Latest reviews and rating summaries in one request per 100 hotels instead of one per hotel
+async function fetchReviewsMap(hotels: Hotel[]): Promise<Record<number, ReviewsSummary>> {
+  const map: Record<number, ReviewsSummary> = {};
+  for (const h of hotels) {
+    map[h.id] = { count: h.reviews || 0, avg: h.rating || 0, list: h.reviewsList || [] };
+  }
+  // the endpoint takes up to 100 ids per call
+  for (let i = 0; i < hotels.length; i += 100) {
+    const chunk = hotels.slice(i, i + 100);
+    try {
+      const ids = chunk.map((h) => h.id).join(',');
+      const res = await fetch(`http://localhost:8080/api/hotels/reviews/batch?ids=${ids}&latest=3`);
+      if (!res.ok) continue;
+      const batch = await res.json();
+      for (const entry of batch) {
+        const hotel = chunk.find((h) => h.id === entry.hotelId);
+        map[entry.hotelId] = {
+          count: Math.max(entry.summary?.count ?? 0, entry.reviews.length),
+          avg: entry.summary?.count ? entry.summary.mean : hotel?.rating ?? 0,
+          list: entry.reviews,
+        };
+      }
+    } catch (e) {
+      // keep the per-hotel defaults
+    }
+  }
+  return map;
+}
+
 function HotelsContent() {
   const searchParams = useSearchParams();
   const router = useRouter();
@@ -56,24 +87,8 @@ function HotelsContent() {
             }));
             setHotels(mapped);
             setFilteredHotels(mapped);
-            // fetch persisted reviews for each returned hotel
-            const map: Record<number, any> = {};
-            for (const h of mapped) {
-              try {
-                const rres = await fetch(`http://localhost:8080/api/hotels/${h.id}/reviews`);
-                if (rres.ok) {
-                  const list = await rres.json();
-                  const count = list.length;
-                  const avg = count ? list.reduce((s: number, r: any) => s + r.rating, 0) / count : h.rating;
-                  map[h.id] = { count, avg, list };
-                } else {
-                  map[h.id] = { count: h.reviews || 0, avg: h.rating || 0, list: h.reviewsList || [] };
-                }
-              } catch (e) {
-                map[h.id] = { count: h.reviews || 0, avg: h.rating || 0, list: h.reviewsList || [] };
-              }
-            }
-            setReviewsMap(map);
+            // one batched request for every hotel's latest reviews and rating summary
+            setReviewsMap(await fetchReviewsMap(mapped));
             return;
           }
         }
@@ -153,25 +168,9 @@ function HotelsContent() {
 
       setHotels(mockHotels);
       setFilteredHotels(mockHotels);
-      // fetch persisted reviews from backend for each mock hotel (if backend available)
+      // fetch persisted reviews from backend for the mock hotels (if backend available)
       (async () => {
-        const map: Record<number, any> = {};
-        for (const h of mockHotels) {
-          try {
-            const res = await fetch(`http://localhost:8080/api/hotels/${h.id}/reviews`);
-            if (res.ok) {
-              const list = await res.json();
-              const count = list.length;
-              const avg = count ? list.reduce((s: number, r: any) => s + r.rating, 0) / count : h.rating;
-              map[h.id] = { count, avg, list };
-            } else {
-              map[h.id] = { count: h.reviews || 0, avg: h.rating || 0, list: h.reviewsList || [] };
-            }
-          } catch (e) {
-            map[h.id] = { count: h.reviews || 0, avg: h.rating || 0, list: h.reviewsList || [] };
-          }
-        }
-        setReviewsMap(map);
+        setReviewsMap(await fetchReviewsMap(mockHotels));
       })();
     })();
   }, [location]);